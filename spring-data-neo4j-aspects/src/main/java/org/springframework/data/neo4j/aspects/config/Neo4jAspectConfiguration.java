@@ -43,6 +43,14 @@ public class Neo4jAspectConfiguration extends Neo4jConfiguration
 		aspect.setTemplate(neo4jTemplate());
         NodeEntityStateFactory entityStateFactory = nodeEntityStateFactory();
 		aspect.setNodeEntityStateFactory(entityStateFactory);
+		aspect.setWriteBehind(writeBehind());
 		return aspect;
 	}
+
+    /**
+     * @return true to defer property writes of node entities to the commit of the Spring managed transaction
+     */
+    protected boolean writeBehind() {
+        return false;
+    }
 }
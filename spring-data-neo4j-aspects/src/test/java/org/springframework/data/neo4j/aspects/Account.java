@@ -0,0 +1,50 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.aspects;
+
+import org.springframework.data.neo4j.annotation.GraphVersion;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@NodeEntity
+public class Account {
+    @GraphVersion
+    Long version;
+    String owner;
+
+    public Account() {
+    }
+
+    public Account(String owner) {
+        this.owner = owner;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+}
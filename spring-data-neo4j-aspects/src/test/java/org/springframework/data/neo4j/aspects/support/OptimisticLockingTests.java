@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.aspects.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.neo4j.aspects.Account;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = {"classpath:org/springframework/data/neo4j/aspects/support/Neo4jGraphPersistenceTests-context.xml"})
+public class OptimisticLockingTests extends EntityTestBase {
+
+    @Autowired PlatformTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        manualCleanDb();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void testIncrementsVersionOnlyWhenChanged() {
+        final Account account = new Account("Michael").persist();
+        assertEquals(1L, getNodeState(account).getProperty("version"));
+
+        account.persist();
+        assertEquals(1L, getNodeState(account).getProperty("version"));
+
+        account.setOwner("Emil");
+        account.persist();
+        assertEquals(2L, getNodeState(account).getProperty("version"));
+        assertEquals(Long.valueOf(2), account.getVersion());
+    }
+
+    @Test
+    public void testIncrementsVersionOfChangesWithinTransaction() {
+        final Account account = new Account("Michael").persist();
+        transactionTemplate.execute(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                account.persist();
+                assertEquals(1L, getNodeState(account).getProperty("version"));
+                account.setOwner("Emil");
+                account.persist();
+                return null;
+            }
+        });
+        assertEquals(2L, getNodeState(account).getProperty("version"));
+    }
+
+    @Test
+    public void testIncrementsVersionOfAttachedChangesWithoutPersist() {
+        final Account account = new Account("Michael").persist();
+        transactionTemplate.execute(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                account.setOwner("Emil");
+                account.setOwner("Andrés");
+                return null;
+            }
+        });
+        assertEquals(2L, getNodeState(account).getProperty("version"));
+    }
+
+    @Test
+    public void testKeepsVersionOfRolledBackChanges() {
+        final Account account = new Account("Michael").persist();
+        transactionTemplate.execute(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                account.setOwner("Emil");
+                account.persist();
+                status.setRollbackOnly();
+                return null;
+            }
+        });
+        assertEquals(1L, getNodeState(account).getProperty("version"));
+
+        account.setOwner("Andrés");
+        account.persist();
+        assertEquals(2L, getNodeState(account).getProperty("version"));
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void testComparesVersionFromLoadTime() {
+        final Long id = getNodeId(new Account("Michael").persist());
+        final Account first = neo4jTemplate.findOne(id, Account.class);
+        final Account second = neo4jTemplate.findOne(id, Account.class);
+        first.setOwner("Emil");
+        first.persist();
+        second.setOwner("Andrés");
+        second.persist();
+    }
+
+    @Test
+    public void testConcurrentTransactionsConflict() throws Exception {
+        final Long id = getNodeId(new Account("Michael").persist());
+        final CountDownLatch loaded = new CountDownLatch(2);
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        final List<Thread> threads = new ArrayList<Thread>();
+        for (final String owner : new String[]{"Emil", "Andrés"}) {
+            final Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        transactionTemplate.execute(new TransactionCallback<Object>() {
+                            public Object doInTransaction(TransactionStatus status) {
+                                final Account account = neo4jTemplate.findOne(id, Account.class);
+                                loaded.countDown();
+                                await(loaded);
+                                account.setOwner(owner);
+                                account.persist();
+                                return null;
+                            }
+                        });
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).toString(), failures.get(0) instanceof OptimisticLockingFailureException);
+        assertEquals(2L, graphDatabaseService.getNodeById(id).getProperty("version"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("Other transaction did not load the entity");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.aspects.support;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.graphdb.NotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.aspects.Person;
+import org.springframework.data.neo4j.aspects.support.node.Neo4jNodeBacking;
+import org.springframework.data.neo4j.fieldaccess.WriteBehindBuffer;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.Assert.*;
+import static org.springframework.data.neo4j.aspects.Person.persistedPerson;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = {"classpath:org/springframework/data/neo4j/aspects/support/Neo4jGraphPersistenceTests-context.xml"})
+public class WriteBehindTests extends EntityTestBase {
+
+    @Autowired PlatformTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        manualCleanDb();
+        Neo4jNodeBacking.aspectOf().setWriteBehind(true);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @After
+    public void tearDown() {
+        Neo4jNodeBacking.aspectOf().setWriteBehind(false);
+    }
+
+    @Test
+    public void testWritesFinalValueOnCommit() {
+        final Person person = transactionTemplate.execute(new TransactionCallback<Person>() {
+            public Person doInTransaction(TransactionStatus status) {
+                return persistedPerson("Michael", 35);
+            }
+        });
+        transactionTemplate.execute(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                person.setNickname("Mike");
+                person.setNickname("Micha");
+                assertEquals("Micha", person.getNickname());
+                assertFalse(getNodeState(person).hasProperty("nickname"));
+                return null;
+            }
+        });
+        assertEquals("Micha", getNodeState(person).getProperty("nickname"));
+        assertEquals(person, personRepository.findByPropertyValue("nickname", "Micha"));
+        assertNull(personRepository.findByPropertyValue("nickname", "Mike"));
+    }
+
+    @Test
+    public void testFlushMakesValuesVisibleWithinTransaction() {
+        transactionTemplate.execute(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                final Person person = persistedPerson("Michael", 35);
+                person.setNickname("Mike");
+                WriteBehindBuffer.flush();
+                assertEquals("Mike", getNodeState(person).getProperty("nickname"));
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void testDeletingEntityDiscardsDeferredValues() {
+        final Person person = transactionTemplate.execute(new TransactionCallback<Person>() {
+            public Person doInTransaction(TransactionStatus status) {
+                return persistedPerson("Michael", 35);
+            }
+        });
+        final Long nodeId = getNodeId(person);
+        transactionTemplate.execute(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                person.setNickname("Mike");
+                person.remove();
+                return null;
+            }
+        });
+        try {
+            graphDatabaseService.getNodeById(nodeId);
+            fail("node should have been deleted");
+        } catch (NotFoundException expected) {
+        }
+    }
+
+    @Test
+    public void testDropsDeferredValuesOnRollback() {
+        final Person person = transactionTemplate.execute(new TransactionCallback<Person>() {
+            public Person doInTransaction(TransactionStatus status) {
+                return persistedPerson("Michael", 35);
+            }
+        });
+        transactionTemplate.execute(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                person.setAge(40);
+                status.setRollbackOnly();
+                return null;
+            }
+        });
+        assertEquals(35, getNodeState(person).getProperty("age"));
+    }
+}
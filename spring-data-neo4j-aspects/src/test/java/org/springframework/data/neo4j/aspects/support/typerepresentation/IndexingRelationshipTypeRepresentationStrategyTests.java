@@ -65,7 +65,7 @@ public class IndexingRelationshipTypeRepresentationStrategyTests extends EntityT
 
     @BeforeTransaction
 	public void cleanDb() {
-		Neo4jHelper.cleanDb(graphDatabaseService);
+		Neo4jHelper.cleanDb(neo4jTemplate);
 	}
 
 	@Before
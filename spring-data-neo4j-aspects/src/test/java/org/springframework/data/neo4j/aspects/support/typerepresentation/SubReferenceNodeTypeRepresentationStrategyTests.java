@@ -31,6 +31,7 @@ import org.springframework.data.neo4j.aspects.Person;
 import org.springframework.data.neo4j.aspects.Toyota;
 import org.springframework.data.neo4j.aspects.Volvo;
 import org.springframework.data.neo4j.aspects.support.EntityTestBase;
+import org.springframework.data.neo4j.core.TypeSplit;
 import org.springframework.data.neo4j.repository.GraphRepository;
 import org.springframework.data.neo4j.support.mapping.EntityStateHandler;
 import org.springframework.data.neo4j.support.typerepresentation.SubReferenceNodeTypeRepresentationStrategy;
@@ -43,7 +44,11 @@ import org.springframework.test.context.transaction.TransactionalTestExecutionLi
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -155,6 +160,33 @@ public class SubReferenceNodeTypeRepresentationStrategyTests extends EntityTestB
         assertEquals("one thing created and found", 2, things.size());
     }
 
+    @Test
+    @Transactional
+    public void testFindAllSplitsPerSubtype() {
+        List<TypeSplit<Node>> splits = nodeTypeRepresentationStrategy.findAllSplits(typeOf(Thing.class));
+        assertEquals("one split per populated type", 2, splits.size());
+        assertEquals(typeOf(SubThing.class).getAlias(), splits.get(0).getAlias());
+        assertEquals(1, splits.get(0).getEstimatedSize());
+        assertEquals(asList(subThingNode), IteratorUtil.asCollection(splits.get(0)));
+        assertEquals(typeOf(Thing.class).getAlias(), splits.get(1).getAlias());
+        assertEquals(1, splits.get(1).getEstimatedSize());
+        assertEquals(asList(thingNode), IteratorUtil.asCollection(splits.get(1)));
+    }
+
+    @Test
+    @Transactional
+    public void testFindAllSplitsOfEntities() {
+        final Set<Thing> things = new HashSet<Thing>();
+        for (TypeSplit<Thing> split : neo4jTemplate.findAllSplits(Thing.class)) {
+            try {
+                IteratorUtil.addToCollection(split, things);
+            } finally {
+                split.close();
+            }
+        }
+        assertEquals(new HashSet<Thing>(asList(thing, subThing)), things);
+    }
+
     @Test
     @Transactional
     public void testFindAllSubThings() {
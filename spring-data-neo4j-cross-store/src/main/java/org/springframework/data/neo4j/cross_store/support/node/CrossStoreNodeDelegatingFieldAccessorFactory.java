@@ -28,7 +28,6 @@ import org.springframework.data.neo4j.fieldaccess.FieldAccessorFactoryFactory;
 import org.springframework.data.neo4j.fieldaccess.FieldAccessorListenerFactory;
 import org.springframework.data.neo4j.fieldaccess.IndexingPropertyFieldAccessorListenerFactory;
 import org.springframework.data.neo4j.fieldaccess.PropertyFieldAccessorFactory;
-import org.springframework.data.neo4j.fieldaccess.QueryFieldAccessorFactory;
 import org.springframework.data.neo4j.fieldaccess.ReadOnlyRelatedToCollectionFieldAccessorFactory;
 import org.springframework.data.neo4j.fieldaccess.RelatedToCollectionFieldAccessorFactory;
 import org.springframework.data.neo4j.fieldaccess.RelatedToSingleFieldAccessorFactory;
@@ -69,7 +68,7 @@ public class CrossStoreNodeDelegatingFieldAccessorFactory extends DelegatingFiel
                 //new IdFieldAccessorFactory(),
                 //new TransientFieldAccessorFactory(),
                 new TraversalFieldAccessorFactory(template),
-                new QueryFieldAccessorFactory(template),
+                template.getQueryFieldAccessorFactory(),
                 newPropertyFieldAccessorFactory(),
                 newConvertingNodePropertyFieldAccessorFactory(),
                 new RelatedToSingleFieldAccessorFactory(getTemplate()) {
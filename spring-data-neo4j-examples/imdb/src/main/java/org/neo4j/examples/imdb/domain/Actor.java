@@ -9,7 +9,7 @@ import java.util.Set;
 // START SNIPPET: ActorClass
 @NodeEntity
 public class Actor {
-    @Indexed
+    @Indexed(unique = true)
     private String name;
 
     @RelatedTo(type = "ACTS_IN", elementClass = Movie.class)
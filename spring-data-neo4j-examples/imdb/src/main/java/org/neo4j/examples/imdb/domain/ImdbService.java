@@ -7,7 +7,7 @@ public interface ImdbService {
      * Store a new actor in the graph and add the name to the index.
      *
      * @param name
-     * @return the new actor
+     * @return the new actor, or the existing one with that name
      */
     Actor createActor(String name);
 
@@ -16,10 +16,26 @@ public interface ImdbService {
      *
      * @param title title of the movie
      * @param year  year of release
-     * @return the new movie
+     * @return the new movie, or the existing one with that title
      */
     Movie createMovie(String title, int year);
 
+    /**
+     * Store an actor that was prepared outside of a transaction and add the name to the index.
+     *
+     * @param actor actor with its name set
+     * @return the stored actor, or the existing one with that name
+     */
+    Actor saveActor(Actor actor);
+
+    /**
+     * Store a movie that was prepared outside of a transaction and add the title to the index.
+     *
+     * @param movie movie with its title and year set
+     * @return the stored movie, or the existing one with that title
+     */
+    Movie saveMovie(Movie movie);
+
     /**
      * Returns the actor with the given <code>name</code> or <code>null</code>
      * if not found.
@@ -25,18 +25,28 @@ class ImdbServiceImpl implements ImdbService {
     private ActorRepository actorRepository;
 
     public Actor createActor(final String name) {
-        final Actor actor = new Actor().persist();
+        final Actor actor = new Actor();
         actor.setName(name);
-        searchEngine.indexActor(actor);
-        return actor;
+        return saveActor(actor);
     }
 
     public Movie createMovie(final String title, final int year) {
-        final Movie movie = new Movie().persist();
+        final Movie movie = new Movie();
         movie.setTitle(title);
         movie.setYear(year);
-        searchEngine.indexMovie(movie);
-        return movie;
+        return saveMovie(movie);
+    }
+
+    public Actor saveActor(final Actor actor) {
+        final Actor saved = actor.persist();
+        searchEngine.indexActor(saved);
+        return saved;
+    }
+
+    public Movie saveMovie(final Movie movie) {
+        final Movie saved = movie.persist();
+        searchEngine.indexMovie(saved);
+        return saved;
     }
 
     public Actor getActor(final String name) {
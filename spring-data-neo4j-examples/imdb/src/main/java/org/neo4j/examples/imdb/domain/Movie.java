@@ -10,7 +10,7 @@ import java.util.Set;
 // START SNIPPET: MovieClass
 @NodeEntity
 public class Movie {
-    @Indexed
+    @Indexed(unique = true)
     String title;
     int year;
 
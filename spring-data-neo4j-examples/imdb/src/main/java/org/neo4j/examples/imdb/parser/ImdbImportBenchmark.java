@@ -0,0 +1,82 @@
+package org.neo4j.examples.imdb.parser;
+
+import org.neo4j.examples.imdb.domain.Actor;
+import org.neo4j.examples.imdb.domain.ImdbService;
+import org.neo4j.examples.imdb.domain.Movie;
+import org.neo4j.graphdb.Transaction;
+import org.springframework.context.support.FileSystemXmlApplicationContext;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reference benchmark for imports: parses the bundled imdb lists into the store of the example and prints the time
+ * taken per list. By default the records are written by {@link ImdbReaderImpl} with the import pipeline of the
+ * template, with the argument <code>sequential</code> each buffer of the parser is written in its own transaction on
+ * the parser thread instead. Start each run with an empty store, the working directory should be the imdb directory.
+ */
+public class ImdbImportBenchmark {
+    private static final String IMDB_DATADIR = "data/";
+
+    public static void main(String[] args) throws IOException {
+        final boolean sequential = args.length > 0 && args[0].equals("sequential");
+        final FileSystemXmlApplicationContext ctx = new FileSystemXmlApplicationContext("src/main/webapp/WEB-INF/imdb-app-servlet.xml");
+        try {
+            final ImdbService imdbService = ctx.getBean(ImdbService.class);
+            final ImdbReader reader = sequential ? new SequentialReader(imdbService, ctx.getBean(Neo4jTemplate.class)) : ctx.getBean(ImdbReader.class);
+            final ImdbParser parser = new ImdbParser(reader);
+            long start = System.currentTimeMillis();
+            System.out.println(parser.parseMovies(IMDB_DATADIR + "movies.list.gz"));
+            System.out.println("Importing movies took " + (System.currentTimeMillis() - start) + " ms.");
+            start = System.currentTimeMillis();
+            System.out.println(parser.parseActors(IMDB_DATADIR + "actors.list.gz", IMDB_DATADIR + "actresses.list.gz"));
+            System.out.println("Importing actors took " + (System.currentTimeMillis() - start) + " ms.");
+        } finally {
+            ctx.close();
+        }
+    }
+
+    private static class SequentialReader implements ImdbReader {
+        private final ImdbService imdbService;
+        private final Neo4jTemplate template;
+
+        SequentialReader(ImdbService imdbService, Neo4jTemplate template) {
+            this.imdbService = imdbService;
+            this.template = template;
+        }
+
+        public void newMovies(List<MovieData> movieList) {
+            final Transaction tx = template.getGraphDatabase().beginTx();
+            try {
+                for (MovieData movieData : movieList) {
+                    imdbService.createMovie(movieData.getTitle(), movieData.getYear());
+                }
+                tx.success();
+            } finally {
+                tx.finish();
+            }
+        }
+
+        public void newActors(List<ActorData> actorList) {
+            final Transaction tx = template.getGraphDatabase().beginTx();
+            try {
+                for (ActorData actorData : actorList) {
+                    final Actor actor = imdbService.createActor(actorData.getName());
+                    for (RoleData movieRole : actorData.getMovieRoles()) {
+                        final Movie movie = imdbService.getExactMovie(movieRole.getTitle());
+                        if (movie != null) {
+                            actor.actsIn(movie, movieRole.getRole());
+                        }
+                    }
+                }
+                tx.success();
+            } finally {
+                tx.finish();
+            }
+        }
+
+        public void finish() {
+        }
+    }
+}
@@ -82,6 +82,7 @@ public class ImdbParser {
             line = fileReader.readLine();
         }
         reader.newMovies(buffer);
+        reader.finish();
         return (movieCount + " movies parsed and injected.");
     }
 
@@ -182,6 +183,7 @@ public class ImdbParser {
             line = fileReader.readLine();
         }
         reader.newActors(buffer);
+        reader.finish();
         return (actorCount + " added including " + movieCount + " characters parsed and injected.");
     }
 
@@ -23,4 +23,10 @@ public interface ImdbReader {
      * @param actorList actors to create and index
      */
     void newActors(List<ActorData> actorList);
+
+    /**
+     * Waits until all movies and actors passed so far are stored, called
+     * at the end of each parsed file.
+     */
+    void finish();
 }
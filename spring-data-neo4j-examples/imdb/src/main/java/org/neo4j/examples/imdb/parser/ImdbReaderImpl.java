@@ -2,34 +2,83 @@ package org.neo4j.examples.imdb.parser;
 
 import org.neo4j.examples.imdb.domain.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.importer.EntityImporter;
 
 import java.util.List;
 
 class ImdbReaderImpl implements ImdbReader {
+    private static final int CHUNK_SIZE = 5000;
     @Autowired
     private ImdbService imdbService;
+    @Autowired
+    private Neo4jTemplate template;
+
+    private EntityImporter<ActorData>.Session actors;
+    private EntityImporter<MovieData>.Session movies;
 
-    @Transactional
-    public void newActors(final List<ActorData> actorList) {
+    public synchronized void newActors(final List<ActorData> actorList) {
+        if (actors == null) actors = importer(new EntityImporter.Mapper<ActorData>() {
+            public Object map(ActorData actorData) {
+                final Actor actor = new Actor();
+                actor.setName(actorData.getName());
+                return new ActorWithRoles(actor, actorData.getMovieRoles());
+            }
+        }, new EntityImporter.Writer() {
+            public void write(Object mapped, Neo4jTemplate template) {
+                final ActorWithRoles actorWithRoles = (ActorWithRoles) mapped;
+                newActor(actorWithRoles.actor, actorWithRoles.movieRoles);
+            }
+        }).start();
         for (ActorData actorData : actorList) {
-            newActor(actorData.getName(), actorData.getMovieRoles());
+            actors.add(actorData);
         }
     }
 
-    @Transactional
-    public void newMovies(final List<MovieData> movieList) {
+    public synchronized void newMovies(final List<MovieData> movieList) {
+        if (movies == null) movies = importer(new EntityImporter.Mapper<MovieData>() {
+            public Object map(MovieData movieData) {
+                final Movie movie = new Movie();
+                movie.setTitle(movieData.getTitle());
+                movie.setYear(movieData.getYear());
+                return movie;
+            }
+        }, new EntityImporter.Writer() {
+            public void write(Object mapped, Neo4jTemplate template) {
+                imdbService.saveMovie((Movie) mapped);
+            }
+        }).start();
         for (MovieData movieData : movieList) {
-            newMovie(movieData.getTitle(), movieData.getYear());
+            movies.add(movieData);
         }
     }
 
-    private void newMovie(final String title, final int year) {
-        imdbService.createMovie(title, year);
+    public synchronized void finish() {
+        if (movies != null) movies.finish();
+        movies = null;
+        if (actors != null) actors.finish();
+        actors = null;
+    }
+
+    private <T> EntityImporter<T> importer(final EntityImporter.Mapper<T> mapper, final EntityImporter.Writer writer) {
+        final EntityImporter<T> importer = template.importer(mapper);
+        importer.setChunkSize(CHUNK_SIZE);
+        importer.setWriter(writer);
+        return importer;
+    }
+
+    private static class ActorWithRoles {
+        final Actor actor;
+        final RoleData[] movieRoles;
+
+        ActorWithRoles(Actor actor, RoleData[] movieRoles) {
+            this.actor = actor;
+            this.movieRoles = movieRoles;
+        }
     }
 
-    private void newActor(final String name, final RoleData[] movieRoles) {
-        final Actor actor = imdbService.createActor(name);
+    private void newActor(final Actor newActor, final RoleData[] movieRoles) {
+        final Actor actor = imdbService.saveActor(newActor);
         for (RoleData movieRole : movieRoles) {
             final Movie movie = imdbService.getExactMovie(movieRole.getTitle());
             if (movie != null) {
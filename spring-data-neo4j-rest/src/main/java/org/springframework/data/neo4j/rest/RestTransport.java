@@ -0,0 +1,281 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientRequest;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.filter.ClientFilter;
+import com.sun.jersey.api.client.filter.GZIPContentEncodingFilter;
+import com.sun.jersey.client.apache.ApacheHttpClient;
+import com.sun.jersey.client.apache.ApacheHttpClientHandler;
+import org.apache.commons.httpclient.ConnectionPoolTimeoutException;
+import org.apache.commons.httpclient.HttpClient;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+import org.neo4j.rest.graphdb.ExecutingRestRequest;
+import org.neo4j.rest.graphdb.RestAPI;
+import org.neo4j.rest.graphdb.RestAPIFacade;
+import org.neo4j.rest.graphdb.RestAPIImpl;
+import org.neo4j.rest.graphdb.RestRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared HTTP transport for {@link SpringRestGraphDatabase} instances. Hands out one {@link RestAPI} per server uri and
+ * credentials, so all graph databases pointing to the same server share their client.
+ * <p/>
+ * The clients use one pool of persistent connections, holding at most {@link #setMaxConnectionsPerHost(int)}
+ * connections per host. A connection returns to the pool when its response body has been read or closed, requests
+ * wait at most {@link #setAcquireTimeout(int)} ms for a pooled connection. Requests are also limited per host to as
+ * many concurrent calls, a slot is taken until the response has been received. Request and response bodies can
+ * optionally be gzip compressed. {@link #shutdown()} closes the pooled connections.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class RestTransport {
+    private static final Logger log = LoggerFactory.getLogger(RestTransport.class);
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 20;
+    public static final int DEFAULT_CONNECT_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(30);
+    public static final int DEFAULT_READ_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(30);
+    public static final int DEFAULT_ACQUIRE_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(30);
+
+    private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+    private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private int readTimeout = DEFAULT_READ_TIMEOUT;
+    private int acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+    private boolean keepAlive = true;
+    private boolean compressRequests;
+    private boolean compressResponses;
+
+    private final Map<String, RestAPI> restApis = new HashMap<String, RestAPI>();
+    private MultiThreadedHttpConnectionManager connectionManager;
+    private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<String, Semaphore>();
+    private final RestTransportStatistics statistics = new RestTransportStatistics();
+
+    public RestTransport() {
+    }
+
+    public RestTransport(int maxConnectionsPerHost) {
+        setMaxConnectionsPerHost(maxConnectionsPerHost);
+    }
+
+    public RestAPI getRestAPI(String uri) {
+        return getRestAPI(uri, null, null);
+    }
+
+    public RestAPI getRestAPI(String uri, String user, String password) {
+        final String key = user == null ? uri : user + ":" + password + "@" + uri;
+        synchronized (restApis) {
+            RestAPI restAPI = restApis.get(key);
+            if (restAPI == null) {
+                restAPI = new RestAPIFacade(new PooledRestAPIImpl(uri, user, password));
+                restApis.put(key, restAPI);
+            }
+            return restAPI;
+        }
+    }
+
+    public RestTransportStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int getAvailablePermits(String host) {
+        final Semaphore permits = hostPermits.get(host);
+        return permits == null ? maxConnectionsPerHost : permits.availablePermits();
+    }
+
+    /**
+     * @return a new client on the connection pool of this transport
+     */
+    protected Client createClient() {
+        final HttpClient httpClient = new HttpClient(getConnectionManager());
+        httpClient.getParams().setConnectionManagerTimeout(acquireTimeout);
+        final Client client = new ApacheHttpClient(new ApacheHttpClientHandler(httpClient));
+        configureClient(client);
+        return client;
+    }
+
+    private synchronized MultiThreadedHttpConnectionManager getConnectionManager() {
+        if (connectionManager == null) {
+            connectionManager = new MultiThreadedHttpConnectionManager();
+            final HttpConnectionManagerParams params = connectionManager.getParams();
+            params.setDefaultMaxConnectionsPerHost(maxConnectionsPerHost);
+            params.setMaxTotalConnections(Integer.MAX_VALUE);
+            params.setConnectionTimeout(connectTimeout);
+            params.setSoTimeout(readTimeout);
+            params.setStaleCheckingEnabled(true);
+        }
+        return connectionManager;
+    }
+
+    /**
+     * Closes the pooled connections, the rest apis of this transport can't be used afterwards.
+     */
+    public synchronized void shutdown() {
+        if (connectionManager == null) return;
+        connectionManager.shutdown();
+        connectionManager = null;
+    }
+
+    protected void configureClient(Client client) {
+        client.setConnectTimeout(connectTimeout);
+        client.setReadTimeout(readTimeout);
+        if (compressRequests || compressResponses) {
+            client.addFilter(new GZIPContentEncodingFilter(compressRequests));
+        }
+        client.addFilter(new ConcurrencyLimitingFilter());
+    }
+
+    private Semaphore permitsFor(URI uri) {
+        final String host = hostKey(uri);
+        Semaphore permits = hostPermits.get(host);
+        if (permits != null) return permits;
+        final Semaphore existing = hostPermits.putIfAbsent(host, new Semaphore(maxConnectionsPerHost, true));
+        return existing != null ? existing : hostPermits.get(host);
+    }
+
+    static String hostKey(URI uri) {
+        return uri.getHost() + ":" + uri.getPort();
+    }
+
+    /**
+     * Only replaces the request factory, batching and the other operations are provided by the wrapping
+     * {@link RestAPIFacade}.
+     */
+    private class PooledRestAPIImpl extends RestAPIImpl {
+        public PooledRestAPIImpl(String uri, String user, String password) {
+            super(uri, user, password);
+        }
+
+        @Override
+        protected RestRequest createRestRequest(String uri, String user, String password) {
+            return new PooledRestRequest(uri, user, password);
+        }
+    }
+
+    private class PooledRestRequest extends ExecutingRestRequest {
+        public PooledRestRequest(String baseUri, String user, String password) {
+            super(baseUri, user, password);
+        }
+
+        @Override
+        protected Client createClient() {
+            return RestTransport.this.createClient();
+        }
+    }
+
+    private class ConcurrencyLimitingFilter extends ClientFilter {
+        @Override
+        public ClientResponse handle(ClientRequest request) throws ClientHandlerException {
+            final Semaphore permits = permitsFor(request.getURI());
+            final long waitStart = System.nanoTime();
+            try {
+                if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS)) {
+                    statistics.timedOut();
+                    throw new ClientHandlerException("Timed out after " + acquireTimeout + " ms waiting for a connection to " + hostKey(request.getURI()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClientHandlerException("Interrupted waiting for a connection to " + hostKey(request.getURI()), e);
+            }
+            statistics.started(System.nanoTime() - waitStart);
+            final long start = System.nanoTime();
+            boolean success = false;
+            if (!keepAlive) request.getHeaders().putSingle("Connection", "close");
+            try {
+                final ClientResponse response = getNext().handle(request);
+                success = true;
+                return response;
+            } catch (ClientHandlerException e) {
+                if (e.getCause() instanceof ConnectionPoolTimeoutException) statistics.timedOut();
+                if (log.isDebugEnabled()) log.debug("Failed request " + request.getMethod() + " " + request.getURI());
+                throw e;
+            } finally {
+                permits.release();
+                statistics.finished(System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        if (maxConnectionsPerHost < 1) throw new IllegalArgumentException("maxConnectionsPerHost must be at least 1 but was " + maxConnectionsPerHost);
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public int getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public void setAcquireTimeout(int acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public void setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+    }
+
+    public boolean isCompressResponses() {
+        return compressResponses;
+    }
+
+    public void setCompressResponses(boolean compressResponses) {
+        this.compressResponses = compressResponses;
+    }
+}
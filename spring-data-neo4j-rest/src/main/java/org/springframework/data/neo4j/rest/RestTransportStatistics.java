@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request counters of a {@link RestTransport}, shared by all graph databases using it.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class RestTransportStatistics {
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong requestNanos = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    void started(long waitedNanos) {
+        waitNanos.addAndGet(waitedNanos);
+        final int current = inFlight.incrementAndGet();
+        int peak;
+        while ((peak = peakInFlight.get()) < current) {
+            if (peakInFlight.compareAndSet(peak, current)) break;
+        }
+    }
+
+    void finished(long durationNanos, boolean success) {
+        inFlight.decrementAndGet();
+        requests.incrementAndGet();
+        requestNanos.addAndGet(durationNanos);
+        if (!success) failures.incrementAndGet();
+    }
+
+    void timedOut() {
+        timeouts.incrementAndGet();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public long getAverageRequestMillis() {
+        final long count = requests.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(requestNanos.get() / count);
+    }
+
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests %d failures %d timeouts %d in-flight %d peak %d avg %d ms waited %d ms",
+                getRequests(), getFailures(), getTimeouts(), getInFlight(), getPeakInFlight(), getAverageRequestMillis(), getTotalWaitMillis());
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.data.neo4j.conversion.ContainerConverter;
 import org.springframework.data.neo4j.conversion.EndResult;
 
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 
 class SpringEndResult<R> implements EndResult<R> {
     private final ConvertedResult<R> result;
@@ -54,6 +55,12 @@ class SpringEndResult<R> implements EndResult<R> {
         return ContainerConverter.toContainer(container,this);
     }
 
+    @Override
+    public EndResult<R> parallel(ExecutorService executor, int threads) {
+        // rows are converted by the rest binding while they are fetched
+        return this;
+    }
+
     @Override
     public void finish()
     {
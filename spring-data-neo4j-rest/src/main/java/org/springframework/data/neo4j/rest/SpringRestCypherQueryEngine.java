@@ -16,11 +16,19 @@
 package org.springframework.data.neo4j.rest;
 
 
-import org.neo4j.rest.graphdb.query.RestCypherQueryEngine;
+import org.neo4j.helpers.collection.IterableWrapper;
+import org.neo4j.rest.graphdb.RestAPI;
+import org.neo4j.rest.graphdb.converter.RestEntityExtractor;
+import org.neo4j.rest.graphdb.query.CypherResult;
+import org.neo4j.rest.graphdb.util.QueryResultBuilder;
+import org.neo4j.rest.graphdb.util.ResultConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -28,17 +36,48 @@ public class SpringRestCypherQueryEngine implements QueryEngine<Map<String,Objec
 
     public static final Logger log = LoggerFactory.getLogger(SpringRestCypherQueryEngine.class);
 
-    private final RestCypherQueryEngine restCypherQueryEngine;
+    private final RestAPI restAPI;
+    private final ResultConverter resultConverter;
+    private final RestEntityExtractor entityExtractor;
+    private final org.springframework.data.neo4j.conversion.ResultConverter rowConverter;
 
-    public SpringRestCypherQueryEngine(RestCypherQueryEngine restCypherQueryEngine) {
-        this.restCypherQueryEngine = restCypherQueryEngine;
+    public SpringRestCypherQueryEngine(RestAPI restAPI, ResultConverter resultConverter) {
+        this(restAPI, resultConverter, null);
+    }
+
+    /**
+     * @param rowConverter converts the cells of results read with a {@link org.springframework.data.neo4j.conversion.RowHandler}
+     */
+    public SpringRestCypherQueryEngine(RestAPI restAPI, ResultConverter resultConverter, org.springframework.data.neo4j.conversion.ResultConverter rowConverter) {
+        this.restAPI = restAPI;
+        this.resultConverter = resultConverter;
+        this.rowConverter = rowConverter;
+        this.entityExtractor = new RestEntityExtractor(restAPI);
     }
 
     @Override
     public SpringRestResult<Map<String,Object>> query(String statement, Map<String, Object> params) {
         if (log.isDebugEnabled()) log.debug(String.format("Executing remote cypher query: %s params %s",statement,params));
 
-        return new SpringRestResult<Map<String, Object>>(restCypherQueryEngine.query(statement, params));
+        final CypherResult result = restAPI.query(statement, params == null ? Collections.<String, Object>emptyMap() : params);
+        final QueryResultBuilder<Map<String, Object>> rows = new QueryResultBuilder<Map<String, Object>>(rowMaps(result.getColumns(), result.getData()), resultConverter);
+        return new SpringRestResult<Map<String, Object>>(rows, result.getColumns(), result.getData(), entityExtractor, rowConverter);
     }
 
+    /**
+     * The rows as maps of column name to value, created while the result is iterated. Reading it with a
+     * {@link org.springframework.data.neo4j.conversion.RowHandler} uses the cells by position instead.
+     */
+    private Iterable<Map<String, Object>> rowMaps(final List<String> columns, List<List<Object>> data) {
+        return new IterableWrapper<Map<String, Object>, List<Object>>(data) {
+            @Override
+            protected Map<String, Object> underlyingObjectToObject(List<Object> row) {
+                final Map<String, Object> result = new HashMap<String, Object>(columns.size());
+                for (int i = 0; i < columns.size(); i++) {
+                    result.put(columns.get(i), entityExtractor.convertFromRepresentation(row.get(i)));
+                }
+                return result;
+            }
+        };
+    }
 }
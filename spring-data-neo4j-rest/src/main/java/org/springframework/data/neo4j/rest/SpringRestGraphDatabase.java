@@ -23,7 +23,6 @@ import org.neo4j.rest.graphdb.RestAPIFacade;
 import org.neo4j.rest.graphdb.entity.RestNode;
 import org.neo4j.rest.graphdb.index.RestIndex;
 import org.neo4j.rest.graphdb.index.RestIndexManager;
-import org.neo4j.rest.graphdb.query.RestCypherQueryEngine;
 import org.neo4j.rest.graphdb.query.RestGremlinQueryEngine;
 import org.neo4j.rest.graphdb.transaction.NullTransaction;
 import org.neo4j.rest.graphdb.transaction.NullTransactionManager;
@@ -59,6 +58,14 @@ public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDat
         this(new RestAPIFacade( uri, user, password ));
     }
 
+    public SpringRestGraphDatabase( String uri, RestTransport transport ) {
+        this( transport.getRestAPI( uri ) );
+    }
+
+    public SpringRestGraphDatabase( String uri, String user, String password, RestTransport transport ) {
+        this( transport.getRestAPI( uri, user, password ) );
+    }
+
     @Override
     public Node createNode(Map<String, Object> props) {
         return super.getRestAPI().createNode(props);
@@ -117,8 +124,8 @@ public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDat
     @Override
     public <T> QueryEngine<T> queryEngineFor(QueryType type, final ResultConverter resultConverter) {
         switch (type) {
-             case Cypher: return (QueryEngine<T>)new SpringRestCypherQueryEngine(new RestCypherQueryEngine(getRestAPI(), new SpringResultConverter(resultConverter)));
-             case Gremlin: return (QueryEngine<T>)new SpringRestGremlinQueryEngine(new RestGremlinQueryEngine(getRestAPI(),new SpringResultConverter(resultConverter)));
+             case Cypher: return (QueryEngine<T>)new SpringRestCypherQueryEngine(getRestAPI(), new SpringResultConverter(resultConverter), resultConverter);
+             case Gremlin: return (QueryEngine<T>)new SpringRestGremlinQueryEngine(new RestGremlinQueryEngine(getRestAPI(),new SpringResultConverter(resultConverter)), resultConverter);
          }
          throw new IllegalArgumentException("Unknown Query Engine Type "+type);
     }
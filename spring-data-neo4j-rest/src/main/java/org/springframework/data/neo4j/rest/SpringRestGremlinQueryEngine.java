@@ -19,6 +19,7 @@ package org.springframework.data.neo4j.rest;
 import org.neo4j.rest.graphdb.query.RestGremlinQueryEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
 import java.util.Map;
@@ -29,16 +30,25 @@ public class SpringRestGremlinQueryEngine implements QueryEngine<Object> {
     public static final Logger log = LoggerFactory.getLogger(SpringRestGremlinQueryEngine.class);
 
     private final RestGremlinQueryEngine restGremlinQueryEngine;
+    private final ResultConverter rowConverter;
 
     public SpringRestGremlinQueryEngine(RestGremlinQueryEngine restGremlinQueryEngine) {
+        this(restGremlinQueryEngine, null);
+    }
+
+    /**
+     * @param rowConverter converts the cells of results read with a {@link org.springframework.data.neo4j.conversion.RowHandler}
+     */
+    public SpringRestGremlinQueryEngine(RestGremlinQueryEngine restGremlinQueryEngine, ResultConverter rowConverter) {
         this.restGremlinQueryEngine = restGremlinQueryEngine;
+        this.rowConverter = rowConverter;
     }
 
     @Override
     public SpringRestResult<Object> query(String statement, Map<String, Object> params) {
         if (log.isDebugEnabled()) log.debug(String.format("Executing remote gremlin query: %s params %s",statement,params));
 
-        return new SpringRestResult<Object>(restGremlinQueryEngine.query(statement, params));
+        return new SpringRestResult<Object>(restGremlinQueryEngine.query(statement, params), rowConverter);
     }
 
 }
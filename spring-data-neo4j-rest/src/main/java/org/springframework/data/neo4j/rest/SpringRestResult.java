@@ -15,13 +15,18 @@
  */
 package org.springframework.data.neo4j.rest;
 
+import org.neo4j.rest.graphdb.converter.RestEntityExtractor;
 import org.neo4j.rest.graphdb.util.ConvertedResult;
 import org.neo4j.rest.graphdb.util.ResultConverter;
 import org.springframework.data.neo4j.conversion.EndResult;
 import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.conversion.RowHandler;
+import org.springframework.data.neo4j.conversion.RowReader;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static org.springframework.data.neo4j.conversion.ContainerConverter.toContainer;
 
@@ -29,9 +34,30 @@ import static org.springframework.data.neo4j.conversion.ContainerConverter.toCon
 class SpringRestResult<T> implements Result<T> {
     org.neo4j.rest.graphdb.util.QueryResult<T> queryResult;
     private MappingPolicy mappingPolicy;
+    private final List<String> columns;
+    private final List<List<Object>> data;
+    private final RestEntityExtractor entityExtractor;
+    private final org.springframework.data.neo4j.conversion.ResultConverter rowConverter;
+
+    /**
+     * @param rowConverter converts the cells read with a {@link RowHandler}, the default converter if null
+     */
+    SpringRestResult(org.neo4j.rest.graphdb.util.QueryResult<T> queryResult, org.springframework.data.neo4j.conversion.ResultConverter rowConverter) {
+        this(queryResult, null, null, null, rowConverter);
+    }
 
-    SpringRestResult(org.neo4j.rest.graphdb.util.QueryResult<T> queryResult) {
+    /**
+     * @param columns the column names of a tabular result as sent by the server
+     * @param data the rows of a tabular result, their cells in the order of the columns
+     * @param rowConverter converts the cells read with a {@link RowHandler}, the default converter if null
+     */
+    SpringRestResult(org.neo4j.rest.graphdb.util.QueryResult<T> queryResult, List<String> columns, List<List<Object>> data, RestEntityExtractor entityExtractor,
+                     org.springframework.data.neo4j.conversion.ResultConverter rowConverter) {
         this.queryResult = queryResult;
+        this.columns = columns;
+        this.data = data;
+        this.entityExtractor = entityExtractor;
+        this.rowConverter = rowConverter;
     }
 
     @Override
@@ -53,6 +79,20 @@ class SpringRestResult<T> implements Result<T> {
         queryResult.handle(new SpringHandler<T>(handler));
     }
 
+    @Override
+    public void handle(RowHandler handler) {
+        if (data == null) {
+            new RowReader(null, rowConverter, mappingPolicy).read(queryResult, handler);
+            return;
+        }
+        new RowReader(columns, rowConverter, mappingPolicy) {
+            @Override
+            protected Object readValue(Object cell) {
+                return entityExtractor.convertFromRepresentation(cell);
+            }
+        }.readPositional(data, handler);
+    }
+
     @Override
     public Iterator<T> iterator() {
         return queryResult.iterator();
@@ -82,6 +122,12 @@ class SpringRestResult<T> implements Result<T> {
         return toContainer(container, this);
     }
 
+    @Override
+    public Result<T> parallel(ExecutorService executor, int threads) {
+        // rows are converted by the rest binding while they are fetched
+        return this;
+    }
+
     @Override
     public void finish()
     {
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.extension;
+
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.map.DeserializationConfig;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.SerializationConfig;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
+
+/**
+ * Maps entities to JSON by their mapping meta data, shared by the {@link EntityOperationsResource} and the
+ * {@link RestEntityOperations} client. Only the id, the stored properties and the related entities are written, other
+ * fields (e.g. query results or the entity state of advanced mapped entities) are left out. Related entities are
+ * nested, an entity that occurs several times is only written completely the first time and by its id afterwards, so
+ * cyclic entity graphs can be written too. While reading, such a reference resolves to the instance read before, a
+ * reference to an entity that isn't part of the JSON is loaded by the {@link EntityLoader}, if one is given.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityJsonMapper extends ObjectMapper {
+    private final Neo4jMappingContext mappingContext;
+
+    /**
+     * Loads the stored entities that JSON entity graphs only reference by their id.
+     */
+    public interface EntityLoader {
+        Object load(Class<?> type, long id);
+    }
+
+    public EntityJsonMapper() {
+        this(new Neo4jMappingContext());
+    }
+
+    public EntityJsonMapper(Neo4jMappingContext mappingContext) {
+        notNull(mappingContext, "mappingContext");
+        this.mappingContext = mappingContext;
+        configure(DeserializationConfig.Feature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        configure(SerializationConfig.Feature.FAIL_ON_EMPTY_BEANS, false);
+    }
+
+    public String toJson(Object entity) {
+        try {
+            return writeValueAsString(toTree(entity, new IdentityHashMap<Object, Boolean>()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Error writing " + entity.getClass().getName() + " as JSON", e);
+        }
+    }
+
+    public <T> T fromJson(String json, Class<T> type) {
+        return fromJson(json, type, null);
+    }
+
+    /**
+     * @param loader loads entities that are only referenced by their id, without it such references are rejected
+     */
+    public <T> T fromJson(String json, Class<T> type, EntityLoader loader) {
+        try {
+            return type.cast(fromTree(readTree(json), type, new HashMap<String, Object>(), loader));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Error reading " + type.getName() + " from JSON", e);
+        }
+    }
+
+    private Map<String, Object> toTree(final Object entity, final Map<Object, Boolean> written) {
+        final Neo4jPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entity.getClass());
+        final Map<String, Object> result = new LinkedHashMap<String, Object>();
+        final Neo4jPersistentProperty idProperty = persistentEntity.getIdProperty();
+        if (written.put(entity, Boolean.TRUE) != null) {
+            final Object id = idProperty == null ? null : read(idProperty, entity);
+            if (id == null) throw new IllegalArgumentException("Cannot write the unsaved " + entity.getClass().getName() + " several times");
+            result.put(idProperty.getName(), id);
+            return result;
+        }
+        persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                if (isRelated(property)) {
+                    result.put(property.getName(), relatedToTree(read(property, entity), written));
+                } else if (isStored(property)) {
+                    result.put(property.getName(), read(property, entity));
+                }
+            }
+        });
+        persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                if (!isRelated(property) || result.containsKey(property.getName())) return;
+                result.put(property.getName(), relatedToTree(read(property, entity), written));
+            }
+        });
+        return result;
+    }
+
+    private Object relatedToTree(Object value, Map<Object, Boolean> written) {
+        if (value == null) return null;
+        if (!(value instanceof Iterable)) return toTree(value, written);
+        final List<Object> result = new ArrayList<Object>();
+        for (Object related : (Iterable<?>) value) {
+            result.add(toTree(related, written));
+        }
+        return result;
+    }
+
+    /**
+     * @param entities the entities read so far by node or relationship id, so that repeated references resolve to them
+     */
+    private Object fromTree(final JsonNode node, Class<?> type, Map<String, Object> entities, EntityLoader loader) throws IOException {
+        if (node == null || node.isNull()) return null;
+        final Neo4jPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(type);
+        final Neo4jPersistentProperty idProperty = persistentEntity.getIdProperty();
+        final JsonNode idNode = idProperty == null ? null : node.get(idProperty.getName());
+        final String key = idNode == null || idNode.isNull() ? null : (persistentEntity.isRelationshipEntity() ? "relationship " : "node ") + idNode.getLongValue();
+        if (key != null && node.size() == 1) {
+            if (entities.containsKey(key)) return entities.get(key);
+            if (loader == null) throw new IllegalArgumentException("Cannot resolve the reference to " + type.getName() + " " + idNode.getLongValue());
+            final Object loaded = loader.load(persistentEntity.getType(), idNode.getLongValue());
+            entities.put(key, loaded);
+            return loaded;
+        }
+        final Object entity = BeanUtils.instantiateClass(persistentEntity.getType());
+        if (key != null) entities.put(key, entity);
+        for (Iterator<String> it = node.getFieldNames(); it.hasNext(); ) {
+            final String name = it.next();
+            final Neo4jPersistentProperty property = persistentEntity.getPersistentProperty(name);
+            if (property == null) continue;
+            if (isRelated(property)) {
+                if (property.isRelationship() && property.getRelationshipInfo().isReadonly()) continue;
+                write(property, entity, relatedFromTree(property, node.get(name), entities, loader));
+            } else if (isStored(property)) {
+                final Field field = property.getField();
+                write(property, entity, readValue(treeAsTokens(node.get(name)), constructType(field.getGenericType())));
+            }
+        }
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object relatedFromTree(Neo4jPersistentProperty property, JsonNode node, Map<String, Object> entities, EntityLoader loader) throws IOException {
+        if (node == null || node.isNull()) return null;
+        if (!property.isRelationship() || property.getRelationshipInfo().isSingle()) {
+            return fromTree(node, property.getType(), entities, loader);
+        }
+        final Class<?> targetType = property.getRelationshipInfo().getTargetType().getType();
+        final Collection<Object> result = Collection.class.isAssignableFrom(property.getType())
+                ? (Collection<Object>) CollectionFactory.createCollection(property.getType(), node.size())
+                : new LinkedHashSet<Object>();
+        for (JsonNode related : node) {
+            result.add(fromTree(related, targetType, entities, loader));
+        }
+        return result;
+    }
+
+    private static boolean isRelated(Neo4jPersistentProperty property) {
+        return property.isRelationship() || property.isStartNode() || property.isEndNode();
+    }
+
+    private static boolean isStored(Neo4jPersistentProperty property) {
+        return !property.isTransient() && !property.isSyntheticField() && !property.hasQuery();
+    }
+
+    private static Object read(Neo4jPersistentProperty property, Object entity) {
+        final Field field = property.getField();
+        ReflectionUtils.makeAccessible(field);
+        return ReflectionUtils.getField(field, entity);
+    }
+
+    private static void write(Neo4jPersistentProperty property, Object entity, Object value) {
+        final Field field = property.getField();
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, entity, value);
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.extension;
+
+import org.springframework.data.neo4j.server.SpringPluginInitializer;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+/**
+ * Starts the Spring context of the {@link EntityOperationsResource} in the Neo4j server. The context has to contain the
+ * Spring Data Neo4j configuration and the entity classes, the "neo4jTemplate" bean is exposed to the resource.
+ * For example:
+ * <pre>
+ * public class MyEntityOperationsInitializer extends EntityOperationsInitializer {
+ *     public MyEntityOperationsInitializer() {
+ *         super("myEntityContext.xml");
+ *     }
+ * }
+ * </pre>
+ * The subclass is listed in <code>META-INF/services/org.neo4j.server.plugins.PluginLifecycle</code> and the package
+ * <code>org.springframework.data.neo4j.rest.extension</code> is mounted with
+ * <code>org.neo4j.server.thirdparty_jaxrs_classes</code>, e.g. at <code>/entities</code>.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public abstract class EntityOperationsInitializer extends SpringPluginInitializer {
+    @SuppressWarnings("unchecked")
+    public EntityOperationsInitializer(String... contextLocations) {
+        super(contextLocations, expose("neo4jTemplate", Neo4jTemplate.class));
+    }
+}
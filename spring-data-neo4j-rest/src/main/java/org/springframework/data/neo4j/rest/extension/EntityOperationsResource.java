@@ -0,0 +1,184 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.extension;
+
+import org.neo4j.graphdb.Transaction;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.neo4j.conversion.EndResult;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.util.ClassUtils;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Coarse grained entity operations that run within the Neo4j server, each request is executed with the
+ * {@link Neo4jTemplate} exposed by an {@link EntityOperationsInitializer}.
+ * <ul>
+ * <li><code>POST {type}</code> saves the JSON entity graph in one transaction and returns the saved entity</li>
+ * <li><code>GET {type}/{id}?depth=n</code> loads the entity and fetches its related entities n levels deep</li>
+ * <li><code>DELETE {type}</code> deletes all instances of the type in transactions of {@link #DELETE_CHUNK_SIZE}
+ * entities and returns their number</li>
+ * </ul>
+ * The type is the fully qualified name of the entity class.
+ *
+ * @author agent
+ * @since 19.10.26
+ * @see RestEntityOperations
+ */
+@Path("/")
+public class EntityOperationsResource {
+    public static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final EntityJsonMapper mapper = new EntityJsonMapper();
+
+    @POST
+    @Path("/{type}")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public String save(@Context final Neo4jTemplate template, @PathParam("type") String typeName, String json) {
+        final Class<?> type = entityType(template, typeName);
+        final Object entity = mapper.fromJson(json, type, new EntityJsonMapper.EntityLoader() {
+            @Override
+            public Object load(Class<?> type, long id) {
+                return template.findOne(id, type);
+            }
+        });
+        final Transaction tx = template.getGraphDatabase().beginTx();
+        try {
+            final Object saved = template.save(entity);
+            tx.success();
+            return mapper.toJson(saved);
+        } finally {
+            tx.finish();
+        }
+    }
+
+    @GET
+    @Path("/{type}/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public String load(@Context Neo4jTemplate template, @PathParam("type") String typeName, @PathParam("id") long id,
+                       @QueryParam("depth") @DefaultValue("0") int depth) {
+        final Class<?> type = entityType(template, typeName);
+        final Transaction tx = template.getGraphDatabase().beginTx();
+        try {
+            final Object entity = template.findOne(id, type);
+            if (entity == null) throw new WebApplicationException(Response.Status.NOT_FOUND);
+            fetch(template, entity, depth);
+            tx.success();
+            return mapper.toJson(entity);
+        } catch (DataRetrievalFailureException e) {
+            throw new WebApplicationException(e, Response.Status.NOT_FOUND);
+        } finally {
+            tx.finish();
+        }
+    }
+
+    @DELETE
+    @Path("/{type}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public String deleteAll(@Context Neo4jTemplate template, @PathParam("type") String typeName) {
+        final Class<?> type = entityType(template, typeName);
+        long count = 0;
+        while (true) {
+            final int deleted = deleteChunk(template, type);
+            if (deleted == 0) break;
+            count += deleted;
+        }
+        return String.valueOf(count);
+    }
+
+    /**
+     * Deletes the next entities of the type in their own transaction, the type index is read again for each chunk
+     * and no longer contains the entities deleted before.
+     * @return the number of deleted entities
+     */
+    private int deleteChunk(Neo4jTemplate template, Class<?> type) {
+        final Transaction tx = template.getGraphDatabase().beginTx();
+        try {
+            final List<Object> chunk = new ArrayList<Object>(DELETE_CHUNK_SIZE);
+            final EndResult<?> all = template.findAll(type);
+            try {
+                for (Iterator<?> it = all.iterator(); it.hasNext() && chunk.size() < DELETE_CHUNK_SIZE; ) {
+                    chunk.add(it.next());
+                }
+            } finally {
+                all.finish();
+            }
+            for (Object entity : chunk) {
+                template.delete(entity);
+            }
+            tx.success();
+            return chunk.size();
+        } finally {
+            tx.finish();
+        }
+    }
+
+    private Class<?> entityType(Neo4jTemplate template, String typeName) {
+        final Class<?> type;
+        try {
+            type = ClassUtils.forName(typeName, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new WebApplicationException(e, Response.Status.NOT_FOUND);
+        }
+        if (!template.isNodeEntity(type) && !template.isRelationshipEntity(type)) {
+            throw new WebApplicationException(Response.Status.NOT_FOUND);
+        }
+        return type;
+    }
+
+    private void fetch(final Neo4jTemplate template, final Object entity, final int depth) {
+        if (entity == null || depth <= 0) return;
+        template.getInfrastructure().getMappingContext().getPersistentEntity(entity.getClass()).doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                if (!property.isRelationship()) return;
+                final Object value = property.getValue(entity, property.getMappingPolicy());
+                if (value instanceof Iterable) {
+                    for (Object related : (Iterable<?>) value) {
+                        fetchRelated(template, related, depth);
+                    }
+                } else {
+                    fetchRelated(template, value, depth);
+                }
+            }
+        });
+    }
+
+    private void fetchRelated(Neo4jTemplate template, Object related, int depth) {
+        if (related == null || template.getPersistentState(related) == null) return;
+        fetch(template, template.fetch(related), depth - 1);
+    }
+}
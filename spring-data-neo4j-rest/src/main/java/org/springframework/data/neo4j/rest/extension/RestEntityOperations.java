@@ -0,0 +1,98 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.extension;
+
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.WebResource;
+import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataRetrievalFailureException;
+
+import javax.ws.rs.core.MediaType;
+
+import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
+
+/**
+ * Client of the {@link EntityOperationsResource}, each operation is a single request that is executed in a single
+ * server transaction instead of mapping the entity with many fine grained requests of a
+ * {@link org.springframework.data.neo4j.rest.SpringRestGraphDatabase}. The entity classes have to be available on
+ * the server too.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class RestEntityOperations {
+    private final WebResource resource;
+    private final EntityJsonMapper mapper = new EntityJsonMapper();
+
+    /**
+     * @param uri where the {@link EntityOperationsResource} is mounted, e.g. http://localhost:7474/entities
+     */
+    public RestEntityOperations(String uri) {
+        this(uri, null, null);
+    }
+
+    public RestEntityOperations(String uri, String user, String password) {
+        notNull(uri, "uri");
+        final Client client = Client.create();
+        if (user != null) client.addFilter(new HTTPBasicAuthFilter(user, password));
+        this.resource = client.resource(uri);
+    }
+
+    /**
+     * Saves the entity together with its related entities.
+     * @return a copy of the saved entity with the ids assigned by the server
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T save(T entity) {
+        notNull(entity, "entity");
+        final ClientResponse response = resource.path(entity.getClass().getName())
+                .type(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+                .post(ClientResponse.class, mapper.toJson(entity));
+        return mapper.fromJson(read(response, "Error saving " + entity.getClass().getName()), (Class<T>) entity.getClass());
+    }
+
+    /**
+     * @param depth number of levels of related entities that are fetched, the entities beyond only contain their id
+     * @throws DataRetrievalFailureException if there is no entity with this id
+     */
+    public <T> T load(long id, Class<T> type, int depth) {
+        notNull(type, "type");
+        final ClientResponse response = resource.path(type.getName()).path(String.valueOf(id))
+                .queryParam("depth", String.valueOf(depth))
+                .accept(MediaType.APPLICATION_JSON).get(ClientResponse.class);
+        return mapper.fromJson(read(response, "Error loading " + type.getName() + " " + id), type);
+    }
+
+    /**
+     * @return the number of deleted entities
+     */
+    public long deleteAll(Class<?> type) {
+        notNull(type, "type");
+        final ClientResponse response = resource.path(type.getName())
+                .accept(MediaType.APPLICATION_JSON).delete(ClientResponse.class);
+        return Long.parseLong(read(response, "Error deleting all " + type.getName()));
+    }
+
+    private String read(ClientResponse response, String message) {
+        final int status = response.getStatus();
+        final String body = response.getEntity(String.class);
+        if (status == ClientResponse.Status.NOT_FOUND.getStatusCode()) throw new DataRetrievalFailureException(message + ": not found");
+        if (status != ClientResponse.Status.OK.getStatusCode()) throw new DataAccessResourceFailureException(message + ": status " + status + " " + body);
+        return body;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.extension;
+
+import org.junit.Test;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityJsonMapperTests {
+
+    @NodeEntity
+    public static class Person {
+        @GraphId
+        Long id;
+        String name;
+        @RelatedTo(type = "KNOWS")
+        Set<Person> friends = new HashSet<Person>();
+        @Query("start n=node({self}) return count(*)")
+        Long count;
+
+        public Person() {
+        }
+
+        Person(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private final EntityJsonMapper mapper = new EntityJsonMapper();
+
+    @Test
+    public void shouldRoundTripCyclesToTheSameInstances() throws Exception {
+        final Person alice = new Person(1L, "alice");
+        final Person bob = new Person(2L, "bob");
+        alice.friends.add(bob);
+        bob.friends.add(alice);
+
+        final Person read = mapper.fromJson(mapper.toJson(alice), Person.class);
+
+        assertEquals("alice", read.name);
+        final Person friend = read.friends.iterator().next();
+        assertEquals("bob", friend.name);
+        assertSame(read, friend.friends.iterator().next());
+    }
+
+    @Test
+    public void shouldLoadEntitiesOnlyReferencedById() throws Exception {
+        final Person stored = new Person(3L, "carol");
+        final Person read = mapper.fromJson("{\"id\":1,\"name\":\"alice\",\"friends\":[{\"id\":3}]}", Person.class, new EntityJsonMapper.EntityLoader() {
+            public Object load(Class<?> type, long id) {
+                assertEquals(Person.class, type);
+                return id == 3 ? stored : null;
+            }
+        });
+        assertSame(stored, read.friends.iterator().next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnresolvedReferencesWithoutLoader() throws Exception {
+        mapper.fromJson("{\"id\":1,\"name\":\"alice\",\"friends\":[{\"id\":3}]}", Person.class);
+    }
+
+    @Test
+    public void shouldOnlyWriteIdsAndStoredProperties() throws Exception {
+        final Person alice = new Person(1L, "alice");
+        alice.count = 42L;
+        final String json = mapper.toJson(alice);
+        assertFalse(json, json.contains("count"));
+        assertNull(mapper.fromJson(json, Person.class).count);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotWriteUnsavedEntityTwice() throws Exception {
+        final Person alice = new Person(null, "alice");
+        final Person bob = new Person(null, "bob");
+        alice.friends.add(bob);
+        bob.friends.add(alice);
+        mapper.toJson(alice);
+    }
+}
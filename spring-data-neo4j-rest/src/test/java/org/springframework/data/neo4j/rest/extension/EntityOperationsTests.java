@@ -0,0 +1,128 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest.extension;
+
+import org.apache.commons.configuration.Configuration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.server.NeoServer;
+import org.neo4j.server.WrappingNeoServerBootstrapper;
+import org.neo4j.server.configuration.Configurator;
+import org.neo4j.server.configuration.ServerConfigurator;
+import org.neo4j.server.configuration.ThirdPartyJaxRsPackage;
+import org.neo4j.test.ImpermanentGraphDatabase;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityOperationsTests extends EntityOperationsInitializer {
+    private static final int PORT = 7471;
+
+    private NeoServer neoServer;
+    private RestEntityOperations operations;
+
+    public EntityOperationsTests() {
+        super("EntityOperationsTests-context.xml");
+    }
+
+    @NodeEntity
+    public static class Part {
+        @GraphId
+        Long id;
+        String name;
+        @RelatedTo(type = "CONTAINS")
+        Set<Part> parts = new HashSet<Part>();
+
+        public Part() {
+        }
+
+        public Part(String name, Part... parts) {
+            this.name = name;
+            for (Part part : parts) {
+                this.parts.add(part);
+            }
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        ImpermanentGraphDatabase db = new ImpermanentGraphDatabase();
+        final ServerConfigurator configurator = new ServerConfigurator(db) {
+            @Override
+            public Set<ThirdPartyJaxRsPackage> getThirdpartyJaxRsClasses() {
+                return Collections.singleton(new ThirdPartyJaxRsPackage("org.springframework.data.neo4j.rest.extension", "/entities"));
+            }
+        };
+        final Configuration configuration = configurator.configuration();
+        configuration.setProperty(Configurator.WEBSERVER_PORT_PROPERTY_KEY, PORT);
+        final WrappingNeoServerBootstrapper bootstrapper = new WrappingNeoServerBootstrapper(db, configurator);
+        bootstrapper.start();
+        neoServer = bootstrapper.getServer();
+        operations = new RestEntityOperations("http://localhost:" + PORT + "/entities");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        neoServer.stop();
+    }
+
+    @Test
+    public void shouldSaveEntityGraphInOneRequest() throws Exception {
+        final Part saved = operations.save(new Part("engine", new Part("piston"), new Part("valve")));
+        assertNotNull(saved.id);
+        assertEquals(2, saved.parts.size());
+        for (Part part : saved.parts) {
+            assertNotNull(part.id);
+        }
+    }
+
+    @Test
+    public void shouldLoadRelatedEntitiesUpToDepth() throws Exception {
+        final Part saved = operations.save(new Part("engine", new Part("piston", new Part("ring"))));
+
+        final Part shallow = operations.load(saved.id, Part.class, 0);
+        assertEquals("engine", shallow.name);
+        final Part piston = shallow.parts.iterator().next();
+        assertNotNull(piston.id);
+        assertNull(piston.name);
+
+        final Part deep = operations.load(saved.id, Part.class, 2);
+        final Part fetchedPiston = deep.parts.iterator().next();
+        assertEquals("piston", fetchedPiston.name);
+        assertEquals("ring", fetchedPiston.parts.iterator().next().name);
+    }
+
+    @Test(expected = DataRetrievalFailureException.class)
+    public void shouldDeleteAllEntitiesOfType() throws Exception {
+        final Part saved = operations.save(new Part("engine", new Part("piston")));
+        assertEquals(2, operations.deleteAll(Part.class));
+        operations.load(saved.id, Part.class, 0);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.rest.support;
+
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientResponse;
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.rest.RestTransport;
+import org.springframework.data.neo4j.rest.RestTransportStatistics;
+import org.springframework.data.neo4j.rest.SpringRestGraphDatabase;
+
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class RestTransportTests extends RestTestBase {
+
+    @Test
+    public void testSharesRestApiPerUri() {
+        final RestTransport transport = new RestTransport();
+        final SpringRestGraphDatabase first = new SpringRestGraphDatabase(SERVER_ROOT_URI, transport);
+        final SpringRestGraphDatabase second = new SpringRestGraphDatabase(SERVER_ROOT_URI, transport);
+        assertSame(first.getRestAPI(), second.getRestAPI());
+    }
+
+    @Test
+    public void testCountsRequests() {
+        final RestTransport transport = new RestTransport();
+        final SpringRestGraphDatabase graphDatabase = new SpringRestGraphDatabase(SERVER_ROOT_URI, transport);
+        final Node node = graphDatabase.createNode();
+        assertEquals(node, graphDatabase.getNodeById(node.getId()));
+        final RestTransportStatistics statistics = transport.getStatistics();
+        assertTrue(statistics.getRequests() >= 2);
+        assertEquals(0, statistics.getFailures());
+        assertEquals(0, statistics.getInFlight());
+    }
+
+    @Test
+    public void testSeparatesRestApiPerCredentials() {
+        final RestTransport transport = new RestTransport();
+        assertSame(transport.getRestAPI(SERVER_ROOT_URI, "user", "secret"), transport.getRestAPI(SERVER_ROOT_URI, "user", "secret"));
+        assertNotSame(transport.getRestAPI(SERVER_ROOT_URI, "user", "secret"), transport.getRestAPI(SERVER_ROOT_URI, "user", "wrong"));
+    }
+
+    @Test
+    public void testReleasesSlotWithoutReadingTheResponse() throws Exception {
+        final ClientTransport transport = new ClientTransport(2);
+        final Client client = transport.newClient();
+        final ClientResponse response = client.resource(SERVER_ROOT_URI).get(ClientResponse.class);
+        assertEquals(2, transport.getAvailablePermits("127.0.0.1:" + PORT));
+        assertEquals(0, transport.getStatistics().getInFlight());
+        response.close();
+        transport.shutdown();
+    }
+
+    @Test
+    public void testLimitsPooledConnectionsPerHost() throws Exception {
+        final ClientTransport transport = new ClientTransport(1);
+        transport.setAcquireTimeout(200);
+        final Client client = transport.newClient();
+        final ClientResponse open = client.resource(SERVER_ROOT_URI).get(ClientResponse.class);
+        try {
+            client.resource(SERVER_ROOT_URI).get(ClientResponse.class);
+            fail("the only pooled connection is still in use");
+        } catch (ClientHandlerException expected) {
+            assertEquals(1, transport.getStatistics().getTimeouts());
+        }
+        open.close();
+        assertEquals(200, client.resource(SERVER_ROOT_URI).get(ClientResponse.class).getStatus());
+        assertEquals(1, transport.getAvailablePermits("127.0.0.1:" + PORT));
+        transport.shutdown();
+    }
+
+    private static class ClientTransport extends RestTransport {
+        ClientTransport(int maxConnectionsPerHost) {
+            super(maxConnectionsPerHost);
+        }
+
+        Client newClient() {
+            return createClient();
+        }
+    }
+
+    @Test
+    public void testCompressedResponses() {
+        final RestTransport transport = new RestTransport();
+        transport.setCompressResponses(true);
+        final SpringRestGraphDatabase graphDatabase = new SpringRestGraphDatabase(SERVER_ROOT_URI, transport);
+        final Node node = graphDatabase.createNode();
+        node.setProperty("name", "compressed");
+        assertEquals("compressed", graphDatabase.getNodeById(node.getId()).getProperty("name"));
+    }
+}
@@ -36,5 +36,18 @@ public @interface GraphProperty {
     String UNSET_DEFAULT = "\0";
 
     String defaultValue() default UNSET_DEFAULT;
-    Class<?> propertyType() default String.class;
+
+    /**
+     * @return the type the value is stored as, if not set it is stored as String or as configured with
+     * {@link org.springframework.data.neo4j.support.mapping.NativePropertyTypes}
+     */
+    Class<?> propertyType() default Unset.class;
+
+    /**
+     * Marker for a {@link #propertyType()} that was not declared.
+     */
+    final class Unset {
+        private Unset() {
+        }
+    }
 }
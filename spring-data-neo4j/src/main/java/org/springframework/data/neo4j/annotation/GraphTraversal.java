@@ -51,4 +51,26 @@ public @interface GraphTraversal {
      * @return parameters that are passed to the @see FieldTraversalDescriptionBuilder#build
      */
     String[] params() default {};
+
+    /**
+     * @return true if the traversal description built by the builder does not depend on the entity, it is then built
+     * once on first access and reused for all entities
+     */
+    boolean reusable() default false;
+
+    /**
+     * @return maximum depth of the traversal, paths beyond it are pruned, -1 for unbounded
+     */
+    int maxDepth() default -1;
+
+    /**
+     * @return maximum number of results, the traversal stops after reaching it, -1 for unbounded
+     */
+    int maxResults() default -1;
+
+    /**
+     * @return true if the result should be computed once per entity within the current transaction and reused on
+     * repeated field access, the result is then materialized as a list
+     */
+    boolean cached() default false;
 }
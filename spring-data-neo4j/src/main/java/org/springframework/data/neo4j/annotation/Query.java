@@ -58,6 +58,14 @@ public @interface Query {
     // FQN is a fix for javac compiler bug
     org.springframework.data.neo4j.annotation.QueryType type() default org.springframework.data.neo4j.annotation.QueryType.Cypher;
 
+    /**
+     * @return true if the value of an annotated field should be computed only once per entity and transaction. Fields of
+     * entities loaded together, i.e. with {@link org.springframework.data.neo4j.template.Neo4jOperations#loadAll}, from
+     * query or repository results and from relationship collections, are evaluated with a single query for all of them,
+     * if the query starts at <code>node({self})</code> and returns one column.
+     */
+    boolean cached() default false;
+
     /**
      * @return name of the named query to be used for this annotated method, instead of Class.method
      */
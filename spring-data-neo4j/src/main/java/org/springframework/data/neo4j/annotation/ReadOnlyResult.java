@@ -0,0 +1,38 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Entities returned by the annotated repository method are created with the
+ * {@link org.springframework.data.neo4j.mapping.MappingPolicy#READ_ONLY_POLICY}, as plain objects holding copies of
+ * their stored properties. They are not attached to the graph, changes to them are not persisted.
+ * <pre>
+ * &#64;ReadOnlyResult
+ * &#64;Query("start person=node:Person('name:*') return person")
+ * Iterable&lt;Person&gt; reportAll();
+ * </pre>
+ * @author agent
+ * @since 19.10.26
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadOnlyResult {
+}
@@ -25,6 +25,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.convert.DefaultTypeMapper;
 import org.springframework.data.convert.TypeMapper;
@@ -32,6 +33,7 @@ import org.springframework.data.mapping.context.MappingContextIsNewStrategyFacto
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.fieldaccess.FieldAccessorFactoryFactory;
+import org.springframework.data.neo4j.fieldaccess.EntityValidator;
 import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
 import org.springframework.data.neo4j.fieldaccess.NodeDelegatingFieldAccessorFactory;
 import org.springframework.data.neo4j.fieldaccess.RelationshipDelegatingFieldAccessorFactory;
@@ -47,6 +49,7 @@ import org.springframework.data.neo4j.support.mapping.EntityAlias;
 import org.springframework.data.neo4j.support.mapping.EntityStateHandler;
 import org.springframework.data.neo4j.support.mapping.IndexCreationMappingEventListener;
 import org.springframework.data.neo4j.support.mapping.Neo4jEntityFetchHandler;
+import org.springframework.data.neo4j.support.mapping.NativePropertyTypes;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.mapping.SourceStateTransmitter;
 import org.springframework.data.neo4j.support.mapping.TRSTypeAliasAccessor;
@@ -61,6 +64,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import javax.validation.Validator;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import static java.util.Arrays.asList;
 
@@ -81,6 +86,21 @@ public abstract class Neo4jConfiguration {
     @Autowired(required = false)
     private Validator validator;
 
+    @Autowired(required = false)
+    private NativePropertyTypes nativePropertyTypes;
+
+    @Qualifier("neo4jAsyncTaskExecutor")
+    @Autowired(required = false)
+    private AsyncTaskExecutor asyncTaskExecutor;
+
+    @Qualifier("neo4jLifecycleEventExecutor")
+    @Autowired(required = false)
+    private Executor lifecycleEventExecutor;
+
+    @Qualifier("neo4jConversionExecutor")
+    @Autowired(required = false)
+    private ExecutorService conversionExecutor;
+
     public GraphDatabaseService getGraphDatabaseService() {
         return graphDatabaseService;
     }
@@ -122,10 +142,18 @@ public abstract class Neo4jConfiguration {
 
         if (validator!=null) {
             factoryBean.setValidator(validator);
+            factoryBean.setValidationMode(validationMode());
         }
         return factoryBean;
     }
     
+    /**
+     * @return how entities are validated, override to validate once per entity instead of per written field
+     */
+    protected EntityValidator.Mode validationMode() {
+        return EntityValidator.Mode.PER_FIELD;
+    }
+
     @Bean
     public IsNewStrategyFactory isNewStrategyFactory() throws Exception {
         return new MappingContextIsNewStrategyFactory(neo4jMappingContext());
@@ -133,7 +161,17 @@ public abstract class Neo4jConfiguration {
 
     @Bean
     public Neo4jTemplate neo4jTemplate() throws Exception {
-        return new Neo4jTemplate(mappingInfrastructure().getObject());
+        final Neo4jTemplate template = new Neo4jTemplate(mappingInfrastructure().getObject());
+        if (asyncTaskExecutor != null) {
+            template.setAsyncTaskExecutor(asyncTaskExecutor);
+        }
+        if (lifecycleEventExecutor != null) {
+            template.setLifecycleEventExecutor(lifecycleEventExecutor);
+        }
+        if (conversionExecutor != null) {
+            template.setConversionExecutor(conversionExecutor);
+        }
+        return template;
 	}
 
     @Bean
@@ -182,7 +220,7 @@ public abstract class Neo4jConfiguration {
     //@Scope(BeanDefinition.SCOPE_PROTOTYPE)
     @Bean
     protected ConversionService neo4jConversionService() throws Exception {
-        final Neo4jConversionServiceFactoryBean neo4jConversionServiceFactoryBean = new Neo4jConversionServiceFactoryBean();
+        final Neo4jConversionServiceFactoryBean neo4jConversionServiceFactoryBean = new Neo4jConversionServiceFactoryBean(nativePropertyTypes);
         if (conversionService!=null) {
             neo4jConversionServiceFactoryBean.addConverters(conversionService);
             return conversionService;
@@ -207,6 +245,7 @@ public abstract class Neo4jConfiguration {
             mappingContext.setInitialEntitySet(initialEntitySet);
         }
         mappingContext.setEntityAlias(entityAlias());
+        mappingContext.setNativePropertyTypes(nativePropertyTypes);
         return mappingContext;
     }
 
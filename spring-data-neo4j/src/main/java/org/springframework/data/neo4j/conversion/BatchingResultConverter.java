@@ -0,0 +1,40 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.conversion;
+
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.List;
+
+/**
+ * Result converter that can convert several values at once, e.g. to load data all of the converted objects need with
+ * a single query. Results read ahead this many values and convert them together.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public interface BatchingResultConverter<T, R> extends ResultConverter<T, R> {
+    /**
+     * @return the number of values to convert together, values of types that don't profit from it are converted one
+     * by one (0)
+     */
+    int getBatchSize(Class<R> type);
+
+    /**
+     * @return the converted values in the order of the given values
+     */
+    List<R> convertAll(List<T> values, Class<R> type, MappingPolicy mappingPolicy);
+}
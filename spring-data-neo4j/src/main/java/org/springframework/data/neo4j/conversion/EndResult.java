@@ -16,6 +16,8 @@
 
 package org.springframework.data.neo4j.conversion;
 
+import java.util.concurrent.ExecutorService;
+
 /**
 * @author mh
 * @since 28.06.11
@@ -26,4 +28,11 @@ public interface EndResult<R> extends Iterable<R> {
     void handle(Handler<R> handler);
     <C extends Iterable<R>> C as(Class<C> container);
     void finish();
+
+    /**
+     * Converts the result rows in chunks on up to <code>threads</code> threads of the executor, keeping their order.
+     * Has no effect within a transaction. The executor is owned by the caller, e.g.
+     * {@link org.springframework.data.neo4j.support.Neo4jTemplate#getConversionExecutor()}.
+     */
+    EndResult<R> parallel(ExecutorService executor, int threads);
 }
@@ -0,0 +1,193 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.conversion;
+
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Converts the rows of a result in chunks on the given executor while keeping the original order.
+ * The source is only iterated on the calling thread, at most <code>threads</code> chunks are converted concurrently.
+ * Chunks still pending are cancelled by {@link #close()}, when the consumer stops early or conversion fails.
+ * <p/>
+ * Worker threads read outside of the callers transaction, so within a running transaction (whose uncommitted changes
+ * and read isolation they would not share) the conversion falls back to the calling thread.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class ParallelConverter<T, R> {
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final ResultConverter<T, R> resultConverter;
+    private final Class<R> type;
+    private final MappingPolicy mappingPolicy;
+    private final int threads;
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private ChunkedIterator chunks;
+
+    public ParallelConverter(ResultConverter<T, R> resultConverter, Class<R> type, MappingPolicy mappingPolicy, ExecutorService executor, int threads) {
+        this(resultConverter, type, mappingPolicy, executor, threads, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelConverter(ResultConverter<T, R> resultConverter, Class<R> type, MappingPolicy mappingPolicy, ExecutorService executor, int threads, int chunkSize) {
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        if (threads < 1) throw new IllegalArgumentException("Number of threads must be at least 1 but was " + threads);
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be at least 1 but was " + chunkSize);
+        this.resultConverter = resultConverter;
+        this.type = type;
+        this.mappingPolicy = mappingPolicy;
+        this.executor = executor;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return a fixed pool of daemon threads for result conversion, to be shut down by its owner
+     */
+    public static ExecutorService newExecutor(int threads) {
+        return Executors.newFixedThreadPool(threads, new ConversionThreadFactory());
+    }
+
+    public static boolean isParallelConversionPossible() {
+        return !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    public Iterator<R> convert(final Iterator<T> source) {
+        if (threads == 1 || !isParallelConversionPossible()) {
+            return new Iterator<R>() {
+                public boolean hasNext() {
+                    return source.hasNext();
+                }
+
+                public R next() {
+                    return convert(source.next());
+                }
+
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+        chunks = new ChunkedIterator(source);
+        return chunks;
+    }
+
+    /**
+     * Cancels the chunks that are still pending, called when the result is not consumed completely.
+     */
+    public void close() {
+        if (chunks != null) chunks.cancelPending();
+    }
+
+    private R convert(T value) {
+        return resultConverter.convert(value, type, mappingPolicy);
+    }
+
+    private class ChunkedIterator implements Iterator<R> {
+        private final Iterator<T> source;
+        private final LinkedList<Future<List<R>>> pending = new LinkedList<Future<List<R>>>();
+        private Iterator<R> current = Collections.<R>emptyList().iterator();
+
+        ChunkedIterator(Iterator<T> source) {
+            this.source = source;
+        }
+
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                submitChunks();
+                if (pending.isEmpty()) return false;
+                current = await(pending.removeFirst()).iterator();
+            }
+            return true;
+        }
+
+        public R next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return current.next();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void submitChunks() {
+            try {
+                doSubmitChunks();
+            } catch (RuntimeException e) {
+                cancelPending();
+                throw e;
+            }
+        }
+
+        private void doSubmitChunks() {
+            while (pending.size() < threads && source.hasNext()) {
+                final List<T> chunk = new ArrayList<T>(chunkSize);
+                while (chunk.size() < chunkSize && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+                pending.add(executor.submit(new Callable<List<R>>() {
+                    public List<R> call() throws Exception {
+                        final List<R> converted = new ArrayList<R>(chunk.size());
+                        for (T value : chunk) {
+                            converted.add(convert(value));
+                        }
+                        return converted;
+                    }
+                }));
+            }
+        }
+
+        private List<R> await(Future<List<R>> chunk) {
+            try {
+                return chunk.get();
+            } catch (InterruptedException e) {
+                cancelPending();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while converting result", e);
+            } catch (ExecutionException e) {
+                cancelPending();
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new RuntimeException("Error converting result", cause);
+            }
+        }
+
+        private void cancelPending() {
+            for (Future<List<R>> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+        }
+    }
+
+    private static class ConversionThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "sdn-result-conversion-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
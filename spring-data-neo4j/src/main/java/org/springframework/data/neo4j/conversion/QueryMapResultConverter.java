@@ -19,7 +19,6 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.conversion.QueryResultProxy;
 import org.springframework.data.neo4j.template.Neo4jOperations;
 
-import java.lang.reflect.Proxy;
 import java.util.Map;
 
 public class QueryMapResultConverter<T> implements ResultConverter<Map<String, Object>, T> {
@@ -32,7 +31,7 @@ public class QueryMapResultConverter<T> implements ResultConverter<Map<String, O
     @SuppressWarnings("unchecked")
     @Override
     public T convert(Map<String, Object> value, Class<T> type, MappingPolicy mappingPolicy) {
-        return (T) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[]{type}, new QueryResultProxy(value,mappingPolicy,template.getDefaultConverter()));
+        return QueryResultProxy.newProxy(type, value, mappingPolicy, template.getDefaultConverter());
     }
 
     @SuppressWarnings("unchecked")
@@ -22,8 +22,13 @@ import org.neo4j.helpers.collection.IteratorUtil;
 import org.neo4j.helpers.collection.IteratorWrapper;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @author mh
@@ -35,6 +40,9 @@ public class QueryResultBuilder<T> implements Result<T> {
     private final boolean isClosableIterable;
     private boolean isClosed;
     private MappingPolicy mappingPolicy;
+    private int parallelism = 1;
+    private ExecutorService executor;
+    private List<String> columns;
 
     @SuppressWarnings("unchecked")
     public QueryResultBuilder(Iterable<T> result) {
@@ -47,6 +55,14 @@ public class QueryResultBuilder<T> implements Result<T> {
         this.defaultConverter = defaultConverter;
     }
 
+    /**
+     * @param columns the column names of a tabular result, in result order
+     */
+    public QueryResultBuilder(Iterable<T> result, final ResultConverter<T,?> defaultConverter, List<String> columns) {
+        this(result, defaultConverter);
+        this.columns = columns;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <R> EndResult<R> to(Class<R> type) {
@@ -78,61 +94,144 @@ public class QueryResultBuilder<T> implements Result<T> {
 
     @Override
     public <R> EndResult<R> to(final Class<R> type, final ResultConverter<T, R> resultConverter) {
-        return new EndResult<R>() {
-            @Override
-            public R single() {
-                try {
-                    final T value = IteratorUtil.single(result);
-                    return convert(value);
-                } finally {
-                    closeIfNeeded();
+        return new ConvertingEndResult<R>(type, resultConverter, executor, parallelism);
+    }
+
+    private class ConvertingEndResult<R> implements EndResult<R> {
+        private final Class<R> type;
+        private final ResultConverter<T, R> resultConverter;
+        private ExecutorService executor;
+        private int threads;
+        private ParallelConverter<T, R> parallelConverter;
+
+        ConvertingEndResult(Class<R> type, ResultConverter<T, R> resultConverter, ExecutorService executor, int threads) {
+            this.type = type;
+            this.resultConverter = resultConverter;
+            this.executor = executor;
+            this.threads = threads;
+        }
+
+        @Override
+        public R single() {
+            try {
+                final T value = IteratorUtil.single(result);
+                return convert(value);
+            } finally {
+                closeIfNeeded();
+            }
+        }
+        @Override
+        public R singleOrNull() {
+            try {
+                final T value = IteratorUtil.singleOrNull(result);
+                return convert(value);
+            } finally {
+                closeIfNeeded();
+            }
+        }
+
+        private R convert(T value) {
+            return resultConverter.convert(value, type, mappingPolicy);
+        }
+
+        @Override
+        public void handle(Handler<R> handler) {
+            try {
+                final Iterator<R> it = iterator();
+                while (it.hasNext()) {
+                    handler.handle(it.next());
                 }
+            } finally {
+                cancelConversion();
+                closeIfNeeded();
             }
-            @Override
-            public R singleOrNull() {
-                try {
-                    final T value = IteratorUtil.singleOrNull(result);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Iterator<R> iterator() {
+            if (threads > 1) {
+                cancelConversion();
+                parallelConverter = new ParallelConverter<T, R>(resultConverter, type, mappingPolicy, executor, threads);
+                return parallelConverter.convert(result.iterator());
+            }
+            final int batchSize = resultConverter instanceof BatchingResultConverter ? ((BatchingResultConverter<T, R>) resultConverter).getBatchSize(type) : 0;
+            if (batchSize > 1) {
+                return new BatchIterator(result.iterator(), (BatchingResultConverter<T, R>) resultConverter, batchSize);
+            }
+            return new IteratorWrapper<R, T>(result.iterator()) {
+                protected R underlyingObjectToObject(T value) {
                     return convert(value);
-                } finally {
-                    closeIfNeeded();
                 }
-            }
+            };
+        }
+
+        /**
+         * Reads up to batchSize values ahead and converts them together.
+         */
+        private class BatchIterator implements Iterator<R> {
+            private final Iterator<T> values;
+            private final BatchingResultConverter<T, R> converter;
+            private final int batchSize;
+            private Iterator<R> batch = Collections.<R>emptyList().iterator();
 
-            private R convert(T value) {
-                return resultConverter.convert(value, type, mappingPolicy);
+            BatchIterator(Iterator<T> values, BatchingResultConverter<T, R> converter, int batchSize) {
+                this.values = values;
+                this.converter = converter;
+                this.batchSize = batchSize;
             }
 
             @Override
-            public void handle(Handler<R> handler) {
-                try {
-                    for (T value : result) {
-                        handler.handle(convert(value));
-                    }
-                } finally {
-                    closeIfNeeded();
+            public boolean hasNext() {
+                if (batch.hasNext()) return true;
+                if (!values.hasNext()) return false;
+                final List<T> next = new ArrayList<T>(batchSize);
+                while (next.size() < batchSize && values.hasNext()) {
+                    next.add(values.next());
                 }
+                batch = converter.convertAll(next, type, mappingPolicy).iterator();
+                return batch.hasNext();
             }
 
             @Override
-            public Iterator<R> iterator() {
-                return new IteratorWrapper<R, T>(result.iterator()) {
-                    protected R underlyingObjectToObject(T value) {
-                        return convert(value);
-                    }
-                };
+            public R next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return batch.next();
             }
 
             @Override
-            public <C extends Iterable<R>> C as(Class<C> container) {
-                return ContainerConverter.toContainer(container, this);
+            public void remove() {
+                throw new UnsupportedOperationException();
             }
+        }
 
-            @Override
-            public void finish()
-            {
-                closeIfNeeded();
+        @Override
+        public <C extends Iterable<R>> C as(Class<C> container) {
+            try {
+                return ContainerConverter.toContainer(container, this);
+            } finally {
+                cancelConversion();
             }
-        };
+        }
+
+        @Override
+        public EndResult<R> parallel(ExecutorService executor, int threads) {
+            checkParallelism(executor, threads);
+            this.executor = executor;
+            this.threads = threads;
+            return this;
+        }
+
+        private void cancelConversion() {
+            if (parallelConverter != null) parallelConverter.close();
+        }
+
+        @Override
+        public void finish()
+        {
+            cancelConversion();
+            closeIfNeeded();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -153,6 +252,15 @@ public class QueryResultBuilder<T> implements Result<T> {
     }
 
 
+    @Override
+    public void handle(RowHandler handler) {
+        try {
+            new RowReader(columns, defaultConverter, mappingPolicy).read(result, handler);
+        } finally {
+            closeIfNeeded();
+        }
+    }
+
     private void closeIfNeeded() {
         if (isClosableIterable && !isClosed) {
             if (result instanceof IndexHits) {
@@ -174,6 +282,19 @@ public class QueryResultBuilder<T> implements Result<T> {
         return this;
     }
 
+    @Override
+    public Result<T> parallel(ExecutorService executor, int threads) {
+        checkParallelism(executor, threads);
+        this.executor = executor;
+        this.parallelism = threads;
+        return this;
+    }
+
+    private static void checkParallelism(ExecutorService executor, int threads) {
+        if (executor == null) throw new IllegalArgumentException("Executor for parallel conversion must not be null");
+        if (threads < 1) throw new IllegalArgumentException("Number of threads must be at least 1 but was " + threads);
+    }
+
     public static <T> QueryResultBuilder<T> from(Iterable<T> values) {
         return new QueryResultBuilder<T>(values);
     }
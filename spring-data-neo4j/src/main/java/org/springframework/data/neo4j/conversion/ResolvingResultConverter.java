@@ -0,0 +1,32 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.conversion;
+
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+/**
+ * Result converter that can decide once how values of a source type are converted to a target type, e.g. for all
+ * cells of a result column that are read with a {@link RowHandler}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public interface ResolvingResultConverter<T, R> extends ResultConverter<T, R> {
+    /**
+     * @return a converter for non-null values of exactly the source type that are no instances of the target type
+     */
+    ResultConverter<T, R> resolve(Class<?> sourceType, Class<R> type, MappingPolicy mappingPolicy);
+}
@@ -18,6 +18,8 @@ package org.springframework.data.neo4j.conversion;
 
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 
+import java.util.concurrent.ExecutorService;
+
 /**
 * @author mh
 * @since 28.06.11
@@ -26,5 +28,11 @@ public interface Result<T> extends EndResult<T> {
     <R> EndResult<R> to(Class<R> type);
     <R> EndResult<R> to(Class<R> type, ResultConverter<T, R> resultConverter);
     Result<T> with(MappingPolicy mappingPolicy);
+    Result<T> parallel(ExecutorService executor, int threads);
+
+    /**
+     * Reads the rows of a tabular result with typed getters instead of converting each row, see {@link RowReader}.
+     */
+    void handle(RowHandler handler);
 
 }
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.conversion;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+
+import java.util.List;
+
+/**
+ * A row of a query result read by a {@link RowReader}. Columns are accessed by their position, which can be looked up
+ * once per result with {@link #column(String)}. Like with JDBC the primitive getters return 0 or false for null values,
+ * use {@link #isNull(int)} to tell them apart.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public interface Row {
+    List<String> getColumns();
+
+    /**
+     * @return the position of the column
+     * @throws IllegalArgumentException if there is no column of that name
+     */
+    int column(String name);
+
+    boolean isNull(int column);
+
+    Object get(int column);
+
+    /**
+     * Converts the value with the result converter unless it already has the requested type.
+     */
+    <T> T get(int column, Class<T> type);
+
+    String getString(int column);
+
+    long getLong(int column);
+
+    int getInt(int column);
+
+    double getDouble(int column);
+
+    boolean getBoolean(int column);
+
+    Node getNode(int column);
+
+    Relationship getRelationship(int column);
+}
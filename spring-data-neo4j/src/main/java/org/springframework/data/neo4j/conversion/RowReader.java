@@ -0,0 +1,206 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.conversion;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Passes the rows of a query result to a {@link RowHandler} without converting each row to the requested type first.
+ * The column names are resolved once per result, a single {@link Row} instance reads the cells of the current row.
+ * Cells are converted with the converter a {@link ResolvingResultConverter} resolves for the first cell of their column,
+ * it is reused as long as the column's cells and requested types don't change.
+ * Tabular results that provide their rows as lists are read by position with {@link #readPositional}, rows that are
+ * maps by column name and all other rows as a single column named "value".
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class RowReader {
+    public static final String SINGLE_COLUMN = "value";
+
+    private final List<String> columns;
+    private final ResultConverter resultConverter;
+    private final MappingPolicy mappingPolicy;
+
+    /**
+     * @param columns the column names in result order, if null they are taken from the first row
+     */
+    public RowReader(List<String> columns, ResultConverter resultConverter, MappingPolicy mappingPolicy) {
+        this.columns = columns;
+        this.resultConverter = resultConverter != null ? resultConverter : new DefaultConverter();
+        this.mappingPolicy = mappingPolicy;
+    }
+
+    public void read(Iterable<?> rows, RowHandler handler) {
+        final Iterator<?> it = rows.iterator();
+        if (!it.hasNext()) return;
+        Object first = it.next();
+        read(first, it, new CurrentRow(columns != null ? columns : columnsOf(first), false), handler);
+    }
+
+    /**
+     * Reads rows that hold the cells in the order of the columns given to the constructor.
+     */
+    public void readPositional(Iterable<? extends List<?>> rows, RowHandler handler) {
+        if (columns == null) throw new IllegalStateException("Positional rows require the column names");
+        final Iterator<? extends List<?>> it = rows.iterator();
+        if (!it.hasNext()) return;
+        read(it.next(), it, new CurrentRow(columns, true), handler);
+    }
+
+    private void read(Object first, Iterator<?> it, CurrentRow row, RowHandler handler) {
+        row.current = first;
+        handler.handle(row);
+        while (it.hasNext()) {
+            row.current = it.next();
+            handler.handle(row);
+        }
+    }
+
+    /**
+     * @return the value of a cell as read from the result, e.g. to resolve entity representations of a remote result
+     */
+    protected Object readValue(Object cell) {
+        return cell;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> columnsOf(Object row) {
+        if (row instanceof Map) return new ArrayList<String>(((Map<String, ?>) row).keySet());
+        return Collections.singletonList(SINGLE_COLUMN);
+    }
+
+    private class CurrentRow implements Row {
+        private final List<String> columns;
+        private final String[] names;
+        private final boolean positional;
+        private final Class<?>[] sourceTypes;
+        private final Class<?>[] targetTypes;
+        private final ResultConverter[] converters;
+        private Object current;
+
+        CurrentRow(List<String> columns, boolean positional) {
+            this.columns = Collections.unmodifiableList(columns);
+            this.names = columns.toArray(new String[columns.size()]);
+            this.positional = positional;
+            this.sourceTypes = new Class<?>[names.length];
+            this.targetTypes = new Class<?>[names.length];
+            this.converters = new ResultConverter[names.length];
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        @Override
+        public int column(String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) return i;
+            }
+            throw new IllegalArgumentException("Unknown column " + name + " available are " + columns);
+        }
+
+        @Override
+        public boolean isNull(int column) {
+            return get(column) == null;
+        }
+
+        @Override
+        public Object get(int column) {
+            if (positional) return readValue(((List<?>) current).get(column));
+            if (current instanceof Map) return readValue(((Map) current).get(names[column]));
+            if (column != 0) throw new IndexOutOfBoundsException("Column " + column + " of single column row");
+            return readValue(current);
+        }
+
+        @Override
+        public <T> T get(int column, Class<T> type) {
+            return convert(column, get(column), type);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T convert(int column, Object value, Class<T> type) {
+            if (value == null || type.isInstance(value)) return (T) value;
+            return (T) converter(column, value.getClass(), type).convert(value, type, mappingPolicy);
+        }
+
+        @SuppressWarnings("unchecked")
+        private ResultConverter converter(int column, Class<?> sourceType, Class<?> type) {
+            if (sourceTypes[column] != sourceType || targetTypes[column] != type) {
+                converters[column] = resultConverter instanceof ResolvingResultConverter
+                        ? ((ResolvingResultConverter) resultConverter).resolve(sourceType, type, mappingPolicy)
+                        : resultConverter;
+                sourceTypes[column] = sourceType;
+                targetTypes[column] = type;
+            }
+            return converters[column];
+        }
+
+        @Override
+        public String getString(int column) {
+            final Object value = get(column);
+            return value == null ? null : value.toString();
+        }
+
+        @Override
+        public long getLong(int column) {
+            final Object value = get(column);
+            if (value instanceof Number) return ((Number) value).longValue();
+            return value == null ? 0L : convert(column, value, Long.class);
+        }
+
+        @Override
+        public int getInt(int column) {
+            final Object value = get(column);
+            if (value instanceof Number) return ((Number) value).intValue();
+            return value == null ? 0 : convert(column, value, Integer.class);
+        }
+
+        @Override
+        public double getDouble(int column) {
+            final Object value = get(column);
+            if (value instanceof Number) return ((Number) value).doubleValue();
+            return value == null ? 0d : convert(column, value, Double.class);
+        }
+
+        @Override
+        public boolean getBoolean(int column) {
+            final Object value = get(column);
+            if (value instanceof Boolean) return (Boolean) value;
+            return value != null && convert(column, value, Boolean.class);
+        }
+
+        @Override
+        public Node getNode(int column) {
+            return get(column, Node.class);
+        }
+
+        @Override
+        public Relationship getRelationship(int column) {
+            return get(column, Relationship.class);
+        }
+    }
+}
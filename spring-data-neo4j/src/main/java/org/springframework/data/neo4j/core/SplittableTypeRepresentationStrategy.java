@@ -0,0 +1,36 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.neo4j.graphdb.PropertyContainer;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+
+import java.util.List;
+
+/**
+ * A {@link TypeRepresentationStrategy} that can divide the instances of a type into disjoint splits, which can be
+ * iterated concurrently, e.g. by bulk jobs like reindexing or exports.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public interface SplittableTypeRepresentationStrategy<S extends PropertyContainer> extends TypeRepresentationStrategy<S> {
+    /**
+     * @param type
+     * @return disjoint splits that together contain the same instances as {@link #findAll(StoredEntityType)}
+     */
+    List<TypeSplit<S>> findAllSplits(StoredEntityType type);
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.neo4j.helpers.collection.ClosableIterable;
+
+import java.util.Iterator;
+
+/**
+ * A part of the instances of a type, usually the direct instances of a single subtype. Splits are independent of each
+ * other, each one can be iterated by its own thread. Closing the split releases the underlying resources.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class TypeSplit<T> implements ClosableIterable<T> {
+    public static final long UNKNOWN_SIZE = -1;
+
+    private final Object alias;
+    private final long estimatedSize;
+    private final Iterable<T> values;
+    private final Iterable<?> resource;
+
+    public TypeSplit(Object alias, long estimatedSize, Iterable<T> values) {
+        this(alias, estimatedSize, values, values);
+    }
+
+    private TypeSplit(Object alias, long estimatedSize, Iterable<T> values, Iterable<?> resource) {
+        this.alias = alias;
+        this.estimatedSize = estimatedSize;
+        this.values = values;
+        this.resource = resource;
+    }
+
+    /**
+     * @return the same split with converted values, closing it still closes the original values
+     */
+    public <R> TypeSplit<R> withValues(Iterable<R> values) {
+        return new TypeSplit<R>(alias, estimatedSize, values, resource);
+    }
+
+    /**
+     * @return the alias of the type whose instances are contained in this split
+     */
+    public Object getAlias() {
+        return alias;
+    }
+
+    /**
+     * @return the number of instances as recorded by the type representation or {@link #UNKNOWN_SIZE}
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return values.iterator();
+    }
+
+    @Override
+    public void close() {
+        if (resource instanceof ClosableIterable) {
+            ((ClosableIterable<?>) resource).close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TypeSplit " + alias + " ~" + estimatedSize;
+    }
+}
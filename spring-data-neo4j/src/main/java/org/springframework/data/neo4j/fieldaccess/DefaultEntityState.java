@@ -111,6 +111,7 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     public Object setValue(final Neo4jPersistentProperty property, final Object newVal, MappingPolicy mappingPolicy) {
         final FieldAccessor accessor = accessorFor(property);
         final Object result=accessor!=null ? accessor.setValue(entity, newVal, mappingPolicy) : newVal;
+        if (accessor!=null) QueryFieldValues.invalidate();
         notifyListeners(property, result);
         return result;
     }
@@ -16,6 +16,7 @@
 
 package org.springframework.data.neo4j.fieldaccess;
 
+import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +25,9 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.OptimisticLocking;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ObjectUtils;
 
 import java.lang.reflect.Field;
@@ -44,6 +48,9 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
     protected final EntityState<STATE> delegate;
     private Neo4jTemplate template;
     private Neo4jPersistentEntity<?> persistentEntity;
+    private Object detachedVersion;
+    private boolean detachedVersionCaptured;
+    private boolean versionIncrementedInTransaction;
 
     public DetachedEntityState(final EntityState<STATE> delegate, Neo4jTemplate template) {
         this.delegate = delegate;
@@ -148,7 +155,11 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
     public Object setValue(final Neo4jPersistentProperty property, final Object newVal, MappingPolicy mappingPolicy) {
         if (isDetached()) {
             if (!isDirty(property) && isWritable(property)) {
-                if (hasPersistentState()) {
+                if (hasPersistentState() && isVersioned()) {
+                    captureVersion();
+                    addDirty(property, newVal, false);
+                }
+                else if (hasPersistentState()) {
                     addDirty(property, unwrap(delegate.getValue(property, MappingPolicy.MAP_FIELD_DIRECT_POLICY)), true);
                 }
                 else {
@@ -158,6 +169,7 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
             return newVal;
         }
         // flushDirty();
+        if (isVersioned() && !property.equals(persistentEntity.getVersionProperty())) incrementAttachedVersion();
         return delegate.setValue(property, newVal, mappingPolicy);
     }
 	@Override
@@ -187,7 +199,9 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
 
         if (isDirty()) {
             final Map<Neo4jPersistentProperty, ExistingValue> dirtyCopy = new HashMap<Neo4jPersistentProperty, ExistingValue>(dirty);
+            VersionRestore versionRestore = null;
             try {
+                if (isVersioned()) versionRestore = checkAndIncrementVersion(entity);
                 for (final Map.Entry<Neo4jPersistentProperty, ExistingValue> entry : dirtyCopy.entrySet()) {
                     final Neo4jPersistentProperty property = entry.getKey();
                     Object valueFromEntity = getValueFromEntity(property, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
@@ -201,12 +215,102 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
             } finally {
                 if (!dirty.isEmpty()) { // restore all dirty data
                     dirty.putAll(dirtyCopy);
+                    if (versionRestore != null) versionRestore.run();
                 }
             }
         }
     }
 
 
+    private boolean isVersioned() {
+        return persistentEntity.getVersionProperty() != null;
+    }
+
+    /**
+     * Versioned entities remember the stored version when their state is loaded or assigned, instead of the previous
+     * value of each dirty property. States that were created by the delegate read it when they first become dirty.
+     */
+    private void captureVersion() {
+        if (detachedVersionCaptured) return;
+        captureVersion(getPersistentState());
+    }
+
+    private void captureVersion(STATE state) {
+        if (state == null) return;
+        detachedVersion = ((PropertyContainer) state).getProperty(persistentEntity.getVersionProperty().getNeo4jPropertyName(), null);
+        detachedVersionCaptured = true;
+    }
+
+    /**
+     * The in-memory version is only kept if the transaction that incremented it commits.
+     */
+    private VersionRestore versionWritten(Object version) {
+        final VersionRestore versionRestore = new VersionRestore(version);
+        detachedVersion = version;
+        detachedVersionCaptured = true;
+        OptimisticLocking.afterRollback(versionRestore);
+        return versionRestore;
+    }
+
+    /**
+     * The expected version is the one set explicitly on the entity or otherwise the one captured at load.
+     */
+    private VersionRestore checkAndIncrementVersion(Object entity) {
+        final Neo4jPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+        final Object expectedVersion = isDirty(versionProperty) || !detachedVersionCaptured ? getValueFromEntity(versionProperty, MappingPolicy.MAP_FIELD_DIRECT_POLICY) : detachedVersion;
+        final Object version = OptimisticLocking.checkAndIncrement((PropertyContainer) getPersistentState(), versionProperty, expectedVersion);
+        final VersionRestore versionRestore = versionWritten(version);
+        versionProperty.setValue(entity, version);
+        return versionRestore;
+    }
+
+    /**
+     * Values written within a transaction go directly to the state, whether or not the entity is persisted. The first
+     * write of each Spring managed transaction checks the version they are based on and increments it, the state then
+     * holds the write lock until the transaction ends. Without a Spring managed transaction every write increments it.
+     */
+    private void incrementAttachedVersion() {
+        if (versionIncrementedInTransaction) return;
+        final PropertyContainer state = (PropertyContainer) getPersistentState();
+        final Neo4jPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+        versionWritten(detachedVersionCaptured ? OptimisticLocking.checkAndIncrement(state, versionProperty, detachedVersion) : OptimisticLocking.increment(state, versionProperty));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        versionIncrementedInTransaction = true;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                versionIncrementedInTransaction = false;
+            }
+        });
+    }
+
+    /**
+     * Restores the captured and the field version of before an increment, unless they changed since.
+     */
+    private class VersionRestore implements Runnable {
+        private final Object version;
+        private final Object previousVersion;
+        private final boolean previousVersionCaptured;
+        private final Object previousFieldVersion;
+
+        VersionRestore(Object version) {
+            this.version = version;
+            this.previousVersion = detachedVersion;
+            this.previousVersionCaptured = detachedVersionCaptured;
+            this.previousFieldVersion = getValueFromEntity(persistentEntity.getVersionProperty(), MappingPolicy.MAP_FIELD_DIRECT_POLICY);
+        }
+
+        public void run() {
+            if (!ObjectUtils.nullSafeEquals(detachedVersion, version)) return;
+            detachedVersion = previousVersion;
+            detachedVersionCaptured = previousVersionCaptured;
+            final Neo4jPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+            if (ObjectUtils.nullSafeEquals(getValueFromEntity(versionProperty, MappingPolicy.MAP_FIELD_DIRECT_POLICY), version)) {
+                versionProperty.setValue(getEntity(), previousFieldVersion);
+            }
+        }
+    }
+
     private void cascadePersist(Object valueFromEntity) {
     /* TODO   if (valueFromEntity instanceof NodeBacked) {
             ((NodeBacked) valueFromEntity).persist();
@@ -224,6 +328,10 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
     @Override
     public void setPersistentState(final STATE state) {
         delegate.setPersistentState(state);
+        if (isVersioned()) {
+            detachedVersionCaptured = false;
+            captureVersion(state);
+        }
     }
 
 
@@ -262,7 +370,9 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
     // todo always create an transaction for persist, atomic operation when no outside tx exists
     @Override
     public Object persist() {
-        if (!isDetached()) return getEntity();
+        if (!isDetached()) {
+            return getEntity();
+        }
         Transaction tx = template.getGraphDatabase().beginTx();
         try {
             Object result = delegate.persist();
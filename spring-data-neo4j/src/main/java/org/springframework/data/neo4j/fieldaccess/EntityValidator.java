@@ -0,0 +1,169 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bean validation of entities written to the graph. The constraint metadata of the validator is looked up once per
+ * entity type, properties without constraints are not validated at all.
+ * <p/>
+ * In {@link Mode#PER_FIELD} mode every written constrained property is validated on its own. In
+ * {@link Mode#PER_ENTITY} mode the changed entities are collected within a {@link UnitOfWork} (e.g. while copying an
+ * entity to its node) and each of them is validated once, including class level constraints, before the unit of work
+ * is completed. Property writes outside of a unit of work are still validated per field.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityValidator {
+    public enum Mode { PER_FIELD, PER_ENTITY }
+
+    private static final ThreadLocal<UnitOfWork> unitOfWork = new ThreadLocal<UnitOfWork>();
+
+    private final Validator validator;
+    private final Mode mode;
+    private final ConcurrentMap<Class<?>, BeanDescriptor> descriptors = new ConcurrentHashMap<Class<?>, BeanDescriptor>();
+
+    public EntityValidator(Validator validator, Mode mode) {
+        this.validator = validator;
+        this.mode = mode == null ? Mode.PER_FIELD : mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isEnabled() {
+        return validator != null;
+    }
+
+    /**
+     * Opens a unit of work on the current thread, nested units of work are part of the outermost one.
+     * Must be closed with {@link UnitOfWork#close()}.
+     */
+    public UnitOfWork begin() {
+        final UnitOfWork current = unitOfWork.get();
+        if (current != null) return new NestedUnitOfWork(current);
+        final UnitOfWork result = new UnitOfWork(this);
+        if (mode == Mode.PER_ENTITY && isEnabled()) unitOfWork.set(result);
+        return result;
+    }
+
+    /**
+     * Called when a constrained property of the entity was written.
+     */
+    public void valueChanged(Object entity, Class<?> entityType, String propertyName, Object newVal) {
+        if (!isEnabled()) return;
+        final UnitOfWork current = unitOfWork.get();
+        if (current != null && current.validator == this) {
+            current.add(entity);
+            return;
+        }
+        validateValue(entityType, propertyName, newVal);
+    }
+
+    public <T> void validateValue(Class<T> entityType, String propertyName, Object value) {
+        if (!isEnabled()) return;
+        if (descriptorFor(entityType).getConstraintsForProperty(propertyName) == null) return;
+        final Set<ConstraintViolation<T>> violations = validator.validateValue(entityType, propertyName, value);
+        if (!violations.isEmpty()) throw new ValidationException("Error validating field "+propertyName+ " of "+entityType+": "+violations);
+    }
+
+    public <T> void validate(T entity) {
+        if (!isEnabled() || entity == null) return;
+        if (!descriptorFor(entity.getClass()).isBeanConstrained()) return;
+        final Set<ConstraintViolation<T>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) throw new ValidationException("Error validating entity "+entity.getClass()+": "+violations);
+    }
+
+    private BeanDescriptor descriptorFor(Class<?> type) {
+        BeanDescriptor descriptor = descriptors.get(type);
+        if (descriptor != null) return descriptor;
+        descriptor = validator.getConstraintsForClass(type);
+        final BeanDescriptor existing = descriptors.putIfAbsent(type, descriptor);
+        return existing != null ? existing : descriptor;
+    }
+
+    /**
+     * Collects the entities changed on the current thread and validates each of them once on {@link #complete()}.
+     */
+    public static class UnitOfWork {
+        private final EntityValidator validator;
+        private final Map<Object, Boolean> entities = new IdentityHashMap<Object, Boolean>();
+
+        UnitOfWork(EntityValidator validator) {
+            this.validator = validator;
+        }
+
+        /**
+         * Registers an entity for validation, ignored unless validating {@link Mode#PER_ENTITY}.
+         */
+        public void add(Object entity) {
+            if (entity == null || validator.mode != Mode.PER_ENTITY || !validator.isEnabled()) return;
+            entities.put(entity, Boolean.TRUE);
+        }
+
+        /**
+         * Validates the collected entities.
+         * @throws ValidationException for the first entity that violates its constraints
+         */
+        public void complete() {
+            final List<Object> changed = new ArrayList<Object>(entities.keySet());
+            entities.clear();
+            for (Object entity : changed) {
+                validator.validate(entity);
+            }
+        }
+
+        public void close() {
+            entities.clear();
+            if (unitOfWork.get() == this) unitOfWork.remove();
+        }
+    }
+
+    private static class NestedUnitOfWork extends UnitOfWork {
+        private final UnitOfWork outer;
+
+        NestedUnitOfWork(UnitOfWork outer) {
+            super(outer.validator);
+            this.outer = outer;
+        }
+
+        @Override
+        public void add(Object entity) {
+            outer.add(entity);
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -75,6 +75,9 @@ public class IndexingPropertyFieldAccessorListenerFactory<S extends PropertyCont
 	    @Override
         public void valueChanged(Object entity, Object oldVal, Object newVal) {
             @SuppressWarnings("unchecked") Index<T> index = template.getIndex(property, entity.getClass());
+            if (newVal != null && !(newVal instanceof Number) && property.isIndexedNumerically()) {
+                newVal = new PropertyConverter(template.getConversionService(), property).serializePropertyValue(newVal);
+            }
             if (newVal instanceof Number && property.getIndexInfo().isNumeric()) newVal = ValueContext.numeric((Number) newVal);
 
             final T state = template.getPersistentState(entity);
@@ -23,11 +23,26 @@ import org.springframework.core.convert.converter.ConverterFactory;
 import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.core.convert.support.ConversionServiceFactory;
 import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.data.neo4j.support.mapping.NativePropertyTypes;
 
 import java.util.Date;
 
 public class Neo4jConversionServiceFactoryBean implements FactoryBean<ConversionService> {
 
+    private final NativePropertyTypes nativePropertyTypes;
+
+    public Neo4jConversionServiceFactoryBean() {
+        this(null);
+    }
+
+    /**
+     * @param nativePropertyTypes storage profile of the mapping context, the converters it needs are only added if it
+     * is not null
+     */
+    public Neo4jConversionServiceFactoryBean(NativePropertyTypes nativePropertyTypes) {
+        this.nativePropertyTypes = nativePropertyTypes;
+    }
+
     @Override
     public ConversionService getObject() throws Exception {
         GenericConversionService conversionService = new GenericConversionService();
@@ -45,11 +60,20 @@ public class Neo4jConversionServiceFactoryBean implements FactoryBean<Conversion
             registry.addConverter(new NumberToDateConverter());
             registry.addConverter(new EnumToStringConverter());
             registry.addConverterFactory(new StringToEnumConverterFactory());
+            if (nativePropertyTypes != null) addNativePropertyConverters(registry);
         } else {
             throw new IllegalArgumentException("conversionservice is no ConverterRegistry:" + service);
         }
     }
 
+    /**
+     * Adds the converters between enums and their ordinals used by {@link NativePropertyTypes#defaults()}.
+     */
+    public static void addNativePropertyConverters(ConverterRegistry registry) {
+        registry.addConverter(new EnumToIntegerConverter());
+        registry.addConverterFactory(new NumberToEnumConverterFactory());
+    }
+
     @Override
     public Class<?> getObjectType() {
         return GenericConversionService.class;
@@ -99,6 +123,38 @@ public class Neo4jConversionServiceFactoryBean implements FactoryBean<Conversion
         }
     }
 
+    public static class EnumToIntegerConverter implements Converter<Enum, Integer> {
+
+        @Override
+        public Integer convert(Enum source) {
+            return source.ordinal();
+        }
+    }
+
+    public static class NumberToEnumConverterFactory implements ConverterFactory<Number, Enum> {
+
+        @SuppressWarnings("unchecked")
+        public <T extends Enum> Converter<Number, T> getConverter(Class<T> targetType) {
+            return new NumberToEnum(targetType);
+        }
+
+        private static class NumberToEnum<T extends Enum> implements Converter<Number, T> {
+
+            private final T[] constants;
+
+            public NumberToEnum(Class<T> enumType) {
+                this.constants = enumType.getEnumConstants();
+            }
+
+            public T convert(Number source) {
+                if (source == null) return null;
+                final int ordinal = source.intValue();
+                if (ordinal < 0 || ordinal >= constants.length) throw new IllegalArgumentException("No constant with ordinal "+ordinal+" in "+constants.getClass().getComponentType());
+                return constants[ordinal];
+            }
+        }
+    }
+
     public static class StringToEnumConverterFactory implements ConverterFactory<String, Enum> {
 
         @SuppressWarnings("unchecked")
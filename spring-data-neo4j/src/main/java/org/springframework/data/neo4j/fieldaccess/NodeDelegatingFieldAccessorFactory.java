@@ -49,7 +49,7 @@ public class NodeDelegatingFieldAccessorFactory extends DelegatingFieldAccessorF
                 new IdFieldAccessorFactory(template),
                 new TransientFieldAccessorFactory(),
                 new TraversalFieldAccessorFactory(template),
-                new QueryFieldAccessorFactory(template),
+                template.getQueryFieldAccessorFactory(),
                 new PropertyFieldAccessorFactory(template),
                 new ConvertingNodePropertyFieldAccessorFactory(template),
                 new RelatedToSingleFieldAccessorFactory(template),
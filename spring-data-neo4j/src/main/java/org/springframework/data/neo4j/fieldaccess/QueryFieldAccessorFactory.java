@@ -17,24 +17,43 @@
 package org.springframework.data.neo4j.fieldaccess;
 
 import org.neo4j.graphdb.Node;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.neo4j.annotation.Query;
 
 import org.springframework.data.neo4j.annotation.QueryType;
 import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 import org.springframework.data.util.TypeInformation;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.springframework.data.neo4j.support.DoReturn.doReturn;
 
+/**
+ * Creates the accessors of <code>@Query</code> fields. The accessors don't hold any entity state, so they are created
+ * once per property, together with their batch query.
+ */
 public class QueryFieldAccessorFactory implements FieldAccessorFactory {
+    /**
+     * number of nodes a batchable query field is evaluated for at once
+     */
+    public static final int BATCH_SIZE = 1000;
+
     private final Neo4jTemplate template;
+    private final ConcurrentMap<Neo4jPersistentProperty, QueryFieldAccessor> accessors = new ConcurrentHashMap<Neo4jPersistentProperty, QueryFieldAccessor>();
+    private final ConcurrentMap<Class<?>, List<QueryFieldAccessor>> batchableAccessors = new ConcurrentHashMap<Class<?>, List<QueryFieldAccessor>>();
 
     public QueryFieldAccessorFactory(Neo4jTemplate template) {
         this.template = template;
@@ -48,7 +67,58 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
 
     @Override
     public FieldAccessor forField(final Neo4jPersistentProperty property) {
-        return new QueryFieldAccessor(property, template);
+        return accessorFor(property);
+    }
+
+    public QueryFieldAccessor accessorFor(final Neo4jPersistentProperty property) {
+        final QueryFieldAccessor accessor = accessors.get(property);
+        if (accessor != null) return accessor;
+        final QueryFieldAccessor newAccessor = new QueryFieldAccessor(property, template);
+        final QueryFieldAccessor existing = accessors.putIfAbsent(property, newAccessor);
+        return existing != null ? existing : newAccessor;
+    }
+
+    /**
+     * @return the accessors of the entity's query fields that can be evaluated for many nodes at once
+     */
+    public List<QueryFieldAccessor> getBatchableAccessors(final Neo4jPersistentEntity<?> persistentEntity) {
+        final List<QueryFieldAccessor> result = batchableAccessors.get(persistentEntity.getType());
+        if (result != null) return result;
+        final List<QueryFieldAccessor> batchable = new ArrayList<QueryFieldAccessor>();
+        persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                addIfBatchable(property, batchable);
+            }
+        });
+        persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                addIfBatchable(association.getInverse(), batchable);
+            }
+        });
+        final List<QueryFieldAccessor> existing = batchableAccessors.putIfAbsent(persistentEntity.getType(), batchable);
+        return existing != null ? existing : batchable;
+    }
+
+    private void addIfBatchable(Neo4jPersistentProperty property, List<QueryFieldAccessor> batchable) {
+        if (!accept(property)) return;
+        final QueryFieldAccessor accessor = accessorFor(property);
+        if (accessor.isBatchable()) batchable.add(accessor);
+    }
+
+    /**
+     * Evaluates the batchable query fields of the entity for the given nodes, {@link #BATCH_SIZE} nodes at a time.
+     */
+    public void prefetch(Neo4jPersistentEntity<?> persistentEntity, List<Long> nodeIds, QueryFieldValues values) {
+        final List<QueryFieldAccessor> batchable = getBatchableAccessors(persistentEntity);
+        if (batchable.isEmpty()) return;
+        for (int i = 0; i < nodeIds.size(); i += BATCH_SIZE) {
+            final List<Long> chunk = nodeIds.subList(i, Math.min(nodeIds.size(), i + BATCH_SIZE));
+            for (QueryFieldAccessor accessor : batchable) {
+                accessor.prefetch(chunk, values, accessor.getProperty().getMappingPolicy());
+            }
+        }
     }
 
 	/**
@@ -56,6 +126,10 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
 	 * @since 12.09.2010
 	 */
 	public static class QueryFieldAccessor implements FieldAccessor {
+        private static final String SELF_ID = "__self";
+        private static final Pattern SELF_START = Pattern.compile("^\\s*start\\s+(\\w+)\\s*=\\s*node\\s*\\(\\s*\\{self\\}\\s*\\)(.*?)\\breturn\\s+(distinct\\s+)?(.+)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+        private static final Pattern NOT_BATCHABLE = Pattern.compile("\\b(with|order\\s+by|skip|limit|union|return)\\b|\\{self\\}", Pattern.CASE_INSENSITIVE);
+
 	    protected final Neo4jPersistentProperty property;
         private final Neo4jTemplate template;
         private final String query;
@@ -63,6 +137,8 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
         protected String[] annotationParams;
         private boolean iterableResult;
         private final QueryEngine<Object> queryEngine;
+        private final boolean cached;
+        private final String batchQuery;
 
         public QueryFieldAccessor(final Neo4jPersistentProperty property, Neo4jTemplate template) {
 	        this.property = property;
@@ -76,6 +152,42 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
             this.iterableResult = Iterable.class.isAssignableFrom(property.getType());
             this.target = resolveTarget(query,property);
             queryEngine = this.template.queryEngineFor(QueryType.Cypher);
+            this.cached = query.cached();
+            this.batchQuery = cached ? createBatchQuery(this.query) : null;
+        }
+
+        /**
+         * rewrites <code>start n=node({self}) ... return expr</code> to return the node id along with the single column,
+         * so that the query can be executed for many start nodes at once
+         */
+        private String createBatchQuery(String query) {
+            if (query == null || property.getTypeInformation().getActualType().isMap()) return null;
+            if (iterableResult && !property.getType().isAssignableFrom(List.class)) return null;
+            final Matcher matcher = SELF_START.matcher(query);
+            if (!matcher.matches()) return null;
+            final String body = matcher.group(2);
+            final String returnExpression = matcher.group(4);
+            if (NOT_BATCHABLE.matcher(body).find() || NOT_BATCHABLE.matcher(returnExpression).find() || hasMultipleColumns(returnExpression)) return null;
+            final String distinct = matcher.group(3) == null ? "" : matcher.group(3);
+            return String.format("start %s=node({self})%sreturn %sid(%s) as %s, %s", matcher.group(1), body, distinct, matcher.group(1), SELF_ID, returnExpression);
+        }
+
+        private static boolean hasMultipleColumns(String returnExpression) {
+            int depth = 0;
+            for (char c : returnExpression.toCharArray()) {
+                if (c == '(' || c == '[' || c == '{') depth++;
+                else if (c == ')' || c == ']' || c == '}') depth--;
+                else if (c == ',' && depth == 0) return true;
+            }
+            return false;
+        }
+
+        public boolean isBatchable() {
+            return batchQuery != null;
+        }
+
+        public Neo4jPersistentProperty getProperty() {
+            return property;
         }
 
         private Class<?> resolveTarget(Query query, Neo4jPersistentProperty property) {
@@ -95,9 +207,68 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
 
 	    @Override
 	    public Object getValue(final Object entity, MappingPolicy mappingPolicy) {
-            return doReturn(executeQuery(entity, this.query, createPlaceholderParams(entity),mappingPolicy));
+            final QueryFieldValues values = cached ? QueryFieldValues.current() : null;
+            if (values == null) {
+                return doReturn(executeQuery(entity, this.query, createPlaceholderParams(entity),mappingPolicy));
+            }
+            final long nodeId = template.<Node>getPersistentState(entity).getId();
+            if (values.contains(property, nodeId)) return doReturn(values.get(property, nodeId));
+            final Object value = executeQuery(entity, this.query, createPlaceholderParams(entity), mappingPolicy);
+            values.put(property, nodeId, value);
+            return doReturn(value);
 	    }
 
+        /**
+         * Evaluates the query once for all given nodes and stores the value of each node. The query matched nothing
+         * for nodes without result rows, so they share its value over no rows (e.g. a count of 0), which is
+         * evaluated once for the first of them.
+         */
+        @SuppressWarnings("unchecked")
+        public void prefetch(Collection<Long> nodeIds, QueryFieldValues values, MappingPolicy mappingPolicy) {
+            if (!isBatchable()) throw new IllegalStateException("Query of " + property + " cannot be executed in batches: " + query);
+            final Map<String, Object> params = createPlaceholderParams(new ArrayList<Long>(nodeIds));
+            final Map<Long, List<Object>> rows = new HashMap<Long, List<Object>>();
+            for (Map<String, Object> row : template.query(batchQuery, params)) {
+                final Long nodeId = ((Number) row.get(SELF_ID)).longValue();
+                List<Object> nodeRows = rows.get(nodeId);
+                if (nodeRows == null) {
+                    nodeRows = new ArrayList<Object>();
+                    rows.put(nodeId, nodeRows);
+                }
+                nodeRows.add(valueColumn(row));
+            }
+            for (Map.Entry<Long, List<Object>> entry : rows.entrySet()) {
+                values.put(property, entry.getKey(), toValue(entry.getValue(), mappingPolicy));
+            }
+            Object emptyValue = null;
+            boolean emptyValueEvaluated = false;
+            for (Long nodeId : nodeIds) {
+                if (rows.containsKey(nodeId)) continue;
+                if (!emptyValueEvaluated) {
+                    final List<Object> emptyRows = new ArrayList<Object>();
+                    for (Map<String, Object> row : template.query(query, createPlaceholderParams(nodeId))) {
+                        emptyRows.add(valueColumn(row));
+                    }
+                    emptyValue = toValue(emptyRows, mappingPolicy);
+                    emptyValueEvaluated = true;
+                }
+                values.put(property, nodeId, iterableResult ? new ArrayList<Object>((List<Object>) emptyValue) : emptyValue);
+            }
+        }
+
+        private Object toValue(List<Object> columnValues, MappingPolicy mappingPolicy) {
+            final Class<?> targetType = property.getTypeInformation().getActualType().getType();
+            final Result<Object> result = template.convert(columnValues).with(mappingPolicy);
+            return iterableResult ? IteratorUtil.addToCollection(result.to(targetType), new ArrayList<Object>()) : result.to(targetType).singleOrNull();
+        }
+
+        private Object valueColumn(Map<String, Object> row) {
+            for (Map.Entry<String, Object> column : row.entrySet()) {
+                if (!column.getKey().equals(SELF_ID)) return column.getValue();
+            }
+            return null;
+        }
+
         private Object executeQuery(Object entity, String queryString, Map<String, Object> params, MappingPolicy mappingPolicy) {
             final TypeInformation<?> typeInformation = property.getTypeInformation();
             final TypeInformation<?> actualType = typeInformation.getActualType();
@@ -113,9 +284,13 @@ public class QueryFieldAccessorFactory implements FieldAccessorFactory {
         }
 
         private Map<String, Object> createPlaceholderParams(Object entity) {
-            Map<String,Object> params=new HashMap<String, Object>();
             final Node startNode = template.<Node>getPersistentState(entity);
-            params.put("self", startNode.getId());
+            return createPlaceholderParams(startNode.getId());
+        }
+
+        private Map<String, Object> createPlaceholderParams(Object self) {
+            Map<String,Object> params=new HashMap<String, Object>();
+            params.put("self", self);
             if (annotationParams.length==0) return params;
             for (int i = 0; i < annotationParams.length; i+=2) {
                 params.put(annotationParams[i],annotationParams[i+1]);
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memoised values of <code>@Query(cached=true)</code> and <code>@GraphTraversal(cached=true)</code> fields per
+ * property and node id. The values live as long as the
+ * current Spring managed transaction or, outside of one, as long as an explicitly opened scope (e.g. while loading a
+ * batch of entities). Writes through the mapping layer invalidate them with {@link #invalidate()}, as the queries
+ * may read any part of the graph.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class QueryFieldValues {
+    private static final ThreadLocal<QueryFieldValues> scope = new ThreadLocal<QueryFieldValues>();
+
+    private final Map<Neo4jPersistentProperty, Map<Long, Object>> values = new HashMap<Neo4jPersistentProperty, Map<Long, Object>>();
+
+    /**
+     * @return the values of the current scope or transaction, null if there is neither
+     */
+    public static QueryFieldValues current() {
+        final QueryFieldValues values = scope.get();
+        if (values != null) return values;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        return transactionValues();
+    }
+
+    private static QueryFieldValues transactionValues() {
+        QueryFieldValues values = (QueryFieldValues) TransactionSynchronizationManager.getResource(QueryFieldValues.class);
+        if (values != null) return values;
+        values = new QueryFieldValues();
+        TransactionSynchronizationManager.bindResource(QueryFieldValues.class, values);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(QueryFieldValues.class);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Opens a scope on the current thread unless there already is one, must be closed with {@link #close()}.
+     * @return the values of the opened or existing scope
+     */
+    public static QueryFieldValues open() {
+        final QueryFieldValues existing = current();
+        if (existing != null) return new NestedScope(existing);
+        final QueryFieldValues values = new QueryFieldValues();
+        scope.set(values);
+        return values;
+    }
+
+    /**
+     * Drops the values of the current scope or transaction after properties or relationships were written.
+     */
+    public static void invalidate() {
+        QueryFieldValues values = scope.get();
+        if (values == null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            values = (QueryFieldValues) TransactionSynchronizationManager.getResource(QueryFieldValues.class);
+        }
+        if (values != null) values.clear();
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    public void close() {
+        if (scope.get() == this) scope.remove();
+    }
+
+    public boolean contains(Neo4jPersistentProperty property, long nodeId) {
+        final Map<Long, Object> propertyValues = values.get(property);
+        return propertyValues != null && propertyValues.containsKey(nodeId);
+    }
+
+    public Object get(Neo4jPersistentProperty property, long nodeId) {
+        final Map<Long, Object> propertyValues = values.get(property);
+        return propertyValues == null ? null : propertyValues.get(nodeId);
+    }
+
+    public void put(Neo4jPersistentProperty property, long nodeId, Object value) {
+        Map<Long, Object> propertyValues = values.get(property);
+        if (propertyValues == null) {
+            propertyValues = new HashMap<Long, Object>();
+            values.put(property, propertyValues);
+        }
+        propertyValues.put(nodeId, value);
+    }
+
+    private static class NestedScope extends QueryFieldValues {
+        private final QueryFieldValues outer;
+
+        NestedScope(QueryFieldValues outer) {
+            this.outer = outer;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void clear() {
+            outer.clear();
+        }
+
+        @Override
+        public boolean contains(Neo4jPersistentProperty property, long nodeId) {
+            return outer.contains(property, nodeId);
+        }
+
+        @Override
+        public Object get(Neo4jPersistentProperty property, long nodeId) {
+            return outer.get(property, nodeId);
+        }
+
+        @Override
+        public void put(Neo4jPersistentProperty property, long nodeId, Object value) {
+            outer.put(property, nodeId, value);
+        }
+    }
+}
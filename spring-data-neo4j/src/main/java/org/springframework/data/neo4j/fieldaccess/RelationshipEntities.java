@@ -20,7 +20,8 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.mapping.RelationshipProperties;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -48,26 +49,44 @@ class RelationshipEntities {
     }
 
     public Node getOtherNode(Node startNode, Object relationshipEntity) {
+        return getOtherNode(startNode, relationshipEntity, new IdentityHashMap<Object, Node>());
+    }
+
+    private Node getOtherNode(Node startNode, Object relationshipEntity, Map<Object, Node> resolvedNodes) {
         Object fieldValue = endNodeProperty.getValue(relationshipEntity, endNodeMappingPolicy);
 
         if (fieldValue == null)
             throw new IllegalArgumentException("End node must not be null (" + relationshipEntity.getClass().getName() + ")");
 
-        final Node endNode = relationshipHelper.getNode(fieldValue);
+        final Node endNode = resolveNode(fieldValue, resolvedNodes);
 
         if (startNode.equals(endNode)) {
-            return relationshipHelper.getNode(startNodeProperty.getValue(relationshipEntity, startNodeMappingPolicy));
+            return resolveNode(startNodeProperty.getValue(relationshipEntity, startNodeMappingPolicy), resolvedNodes);
         } else {
             return endNode;
         }
     }
 
+    /**
+     * Resolves the node of each distinct start or end node entity only once, in a collection they are mostly the
+     * owning entity on one side.
+     */
+    private Node resolveNode(Object nodeEntity, Map<Object, Node> resolvedNodes) {
+        Node node = resolvedNodes.get(nodeEntity);
+        if (node == null) {
+            node = relationshipHelper.getNode(nodeEntity);
+            resolvedNodes.put(nodeEntity, node);
+        }
+        return node;
+    }
+
     public Map<Node, Object> loadEndNodeToRelationshipEntityMapping(Node startNode, Iterable<Object> values, Class<?> relatedType) {
-        Map<Node, Object> endNodeToEntityMapping = new HashMap<Node, Object>();
+        Map<Node, Object> endNodeToEntityMapping = new LinkedHashMap<Node, Object>();
+        Map<Object, Node> resolvedNodes = new IdentityHashMap<Object, Node>();
         for (Object entry : values) {
             if (!relatedType.isInstance(entry))
                 throw new IllegalArgumentException("Elements of " + property + " collection must be of " + relatedType);
-            Node endNode = getOtherNode(startNode, entry);
+            Node endNode = getOtherNode(startNode, entry, resolvedNodes);
             endNodeToEntityMapping.put(endNode, entry);
         }
         return endNodeToEntityMapping;
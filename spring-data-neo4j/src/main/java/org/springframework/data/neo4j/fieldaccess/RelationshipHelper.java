@@ -19,12 +19,15 @@ import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -124,13 +127,18 @@ public class RelationshipHelper {
 
 
     protected Set<Object> createEntitySetFromRelationshipEndNodes(Object entity, final MappingPolicy mappingPolicy, final Class<?> relatedType) {
-        final Iterable<Node> nodes = getStatesFromEntity(entity);
-        final Set<Object> result = new HashSet<Object>();
-        for (final Node otherNode : nodes) {
-            Object target = template.createEntityFromState(otherNode, relatedType, mappingPolicy);
-            result.add(target);
+        final List<Node> nodes = IteratorUtil.addToCollection(getStatesFromEntity(entity), new ArrayList<Node>());
+        final QueryFieldValues queryFieldValues = template.prefetchQueryFields(nodes, relatedType);
+        try {
+            final Set<Object> result = new HashSet<Object>();
+            for (final Node otherNode : nodes) {
+                Object target = template.createEntityFromState(otherNode, relatedType, mappingPolicy);
+                result.add(target);
+            }
+            return result;
+        } finally {
+            if (queryFieldValues != null) queryFieldValues.close();
         }
-        return result;
     }
 
     @SuppressWarnings("unchecked")
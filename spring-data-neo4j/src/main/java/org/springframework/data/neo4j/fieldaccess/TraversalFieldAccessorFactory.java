@@ -19,6 +19,7 @@ package org.springframework.data.neo4j.fieldaccess;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
 import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.traversal.Evaluators;
 import org.neo4j.graphdb.traversal.TraversalDescription;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.neo4j.annotation.GraphTraversal;
@@ -30,11 +31,21 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.springframework.data.neo4j.support.DoReturn.doReturn;
 
 public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
     private final Neo4jTemplate template;
+    /**
+     * descriptions of reusable traversals, shared by the accessors of all entities
+     */
+    private final ConcurrentMap<Neo4jPersistentProperty, TraversalDescription> traversalDescriptions = new ConcurrentHashMap<Neo4jPersistentProperty, TraversalDescription>();
 
     public TraversalFieldAccessorFactory(Neo4jTemplate template) {
         this.template = template;
@@ -51,7 +62,7 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
 
     @Override
     public FieldAccessor forField(final Neo4jPersistentProperty property) {
-        return new TraversalFieldAccessor(property, template);
+        return new TraversalFieldAccessor(property, template, traversalDescriptions);
     }
 
 	/**
@@ -64,14 +75,28 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
         private final FieldTraversalDescriptionBuilder fieldTraversalDescriptionBuilder;
 	    private Class<?> target;
         protected String[] params;
+        private final boolean reusable;
+        private final int maxDepth;
+        private final int maxResults;
+        private final boolean cached;
+        private final ConcurrentMap<Neo4jPersistentProperty, TraversalDescription> traversalDescriptions;
 
         public TraversalFieldAccessor(final Neo4jPersistentProperty property, Neo4jTemplate template) {
+            this(property, template, new ConcurrentHashMap<Neo4jPersistentProperty, TraversalDescription>());
+        }
+
+        public TraversalFieldAccessor(final Neo4jPersistentProperty property, Neo4jTemplate template, ConcurrentMap<Neo4jPersistentProperty, TraversalDescription> traversalDescriptions) {
 	        this.property = property;
             this.template = template;
+            this.traversalDescriptions = traversalDescriptions;
             final GraphTraversal graphEntityTraversal = property.getAnnotation(GraphTraversal.class);
 	        this.target = resolveTarget(graphEntityTraversal,property);
             this.params = graphEntityTraversal.params();
             this.fieldTraversalDescriptionBuilder = createTraversalDescription(graphEntityTraversal);
+            this.reusable = graphEntityTraversal.reusable();
+            this.maxDepth = graphEntityTraversal.maxDepth();
+            this.maxResults = graphEntityTraversal.maxResults();
+            this.cached = graphEntityTraversal.cached();
 	    }
 
         private Class<?> resolveTarget(GraphTraversal graphTraversal, Neo4jPersistentProperty property) {
@@ -104,10 +129,39 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
 
 	    @Override
 	    public Object getValue(final Object entity, MappingPolicy mappingPolicy) {
-	        final TraversalDescription traversalDescription = fieldTraversalDescriptionBuilder.build(entity, property,params);
-            return doReturn(template.traverse(entity, target, traversalDescription));
+            final QueryFieldValues values = cached ? QueryFieldValues.current() : null;
+            if (values == null) {
+                return doReturn(traverse(entity));
+            }
+            final long nodeId = template.<Node>getPersistentState(entity).getId();
+            if (values.contains(property, nodeId)) return doReturn(values.get(property, nodeId));
+            final List<Object> value = new ArrayList<Object>();
+            for (Object element : traverse(entity)) {
+                value.add(element);
+            }
+            values.put(property, nodeId, value);
+            return doReturn(value);
 	    }
 
+        private Iterable<Object> traverse(Object entity) {
+            final Iterable<Object> result = template.traverse(entity, target, getTraversalDescription(entity));
+            return maxResults < 0 ? result : new LimitedIterable<Object>(result, maxResults);
+        }
+
+        protected TraversalDescription getTraversalDescription(Object entity) {
+            if (!reusable) return buildTraversalDescription(entity);
+            final TraversalDescription description = traversalDescriptions.get(property);
+            if (description != null) return description;
+            final TraversalDescription newDescription = buildTraversalDescription(entity);
+            final TraversalDescription existing = traversalDescriptions.putIfAbsent(property, newDescription);
+            return existing != null ? existing : newDescription;
+        }
+
+        private TraversalDescription buildTraversalDescription(Object entity) {
+            final TraversalDescription description = fieldTraversalDescriptionBuilder.build(entity, property, params);
+            return maxDepth < 0 ? description : description.evaluator(Evaluators.toDepth(maxDepth));
+        }
+
 
 	    private FieldTraversalDescriptionBuilder createTraversalDescription(final GraphTraversal graphEntityTraversal) {
 	        try {
@@ -126,4 +180,42 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
 		}
 
 	}
+
+    /**
+     * Stops iterating the underlying (lazy) traversal result after the given number of elements.
+     */
+    private static class LimitedIterable<T> implements Iterable<T> {
+        private final Iterable<T> delegate;
+        private final int limit;
+
+        LimitedIterable(Iterable<T> delegate, int limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<T> it = delegate.iterator();
+            return new Iterator<T>() {
+                private int count;
+
+                @Override
+                public boolean hasNext() {
+                    return count < limit && it.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    count++;
+                    return it.next();
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
 }
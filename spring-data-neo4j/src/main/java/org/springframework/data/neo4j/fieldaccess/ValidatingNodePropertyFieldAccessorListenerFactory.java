@@ -24,11 +24,7 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
 import javax.validation.Constraint;
-import javax.validation.ConstraintViolation;
-import javax.validation.ValidationException;
-import javax.validation.Validator;
 import java.lang.annotation.Annotation;
-import java.util.Set;
 
 
 class ValidatingNodePropertyFieldAccessorListenerFactory implements FieldAccessorListenerFactory {
@@ -53,7 +49,7 @@ class ValidatingNodePropertyFieldAccessorListenerFactory implements FieldAccesso
 
     @Override
     public FieldAccessListener forField(Neo4jPersistentProperty property) {
-        return new ValidatingNodePropertyFieldAccessorListener(property, template.getValidator());
+        return new ValidatingNodePropertyFieldAccessorListener(property, template.getEntityValidator());
     }
 
 
@@ -64,11 +60,11 @@ class ValidatingNodePropertyFieldAccessorListenerFactory implements FieldAccesso
 	public static class ValidatingNodePropertyFieldAccessorListener<T extends PropertyContainer> implements FieldAccessListener {
 
 	    private final static Logger log = LoggerFactory.getLogger(ValidatingNodePropertyFieldAccessorListener.class);
-        private String propertyName;
-        private Validator validator;
-        private Neo4jPersistentEntity<?> entityType;
+        private final String propertyName;
+        private final EntityValidator validator;
+        private final Neo4jPersistentEntity<?> entityType;
 
-        public ValidatingNodePropertyFieldAccessorListener(final Neo4jPersistentProperty field, Validator validator) {
+        public ValidatingNodePropertyFieldAccessorListener(final Neo4jPersistentProperty field, EntityValidator validator) {
             this.propertyName = field.getName();
             this.entityType = field.getOwner();
             this.validator = validator;
@@ -77,9 +73,7 @@ class ValidatingNodePropertyFieldAccessorListenerFactory implements FieldAccesso
 	    @Override
         public void valueChanged(Object entity, Object oldVal, Object newVal) {
             if (validator==null) return;
-            @SuppressWarnings("unchecked") Class<T> type = (Class<T>) entityType.getType();
-            Set<ConstraintViolation<T>> constraintViolations = validator.validateValue(type, propertyName, newVal);
-            if (!constraintViolations.isEmpty()) throw new ValidationException("Error validating field "+propertyName+ " of "+entityType+": "+constraintViolations);
+            validator.valueChanged(entity, entityType.getType(), propertyName, newVal);
         }
     }
 }
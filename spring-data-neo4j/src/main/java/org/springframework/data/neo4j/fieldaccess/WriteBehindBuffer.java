@@ -0,0 +1,140 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link WriteBehindEntityState}s with deferred property writes of the current Spring managed transaction.
+ * Before the transaction commits they are flushed ordered by the id of their node or relationship, so concurrent
+ * transactions acquire the write locks in the same order. The deferred values of nodes and relationships that are
+ * deleted within the transaction are discarded.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class WriteBehindBuffer extends TransactionSynchronizationAdapter {
+    private static final Comparator<WriteBehindEntityState<?>> BY_ID = new Comparator<WriteBehindEntityState<?>>() {
+        @Override
+        public int compare(WriteBehindEntityState<?> o1, WriteBehindEntityState<?> o2) {
+            final long id1 = idOf(o1.getPersistentState());
+            final long id2 = idOf(o2.getPersistentState());
+            return id1 < id2 ? -1 : id1 == id2 ? 0 : 1;
+        }
+    };
+
+    private final Map<WriteBehindEntityState<?>, Boolean> states = new IdentityHashMap<WriteBehindEntityState<?>, Boolean>();
+
+    private WriteBehindBuffer() {
+    }
+
+    /**
+     * Registers the state with the buffer of the current transaction.
+     * @return false if there is no Spring managed transaction, then the write must not be deferred
+     */
+    static boolean register(WriteBehindEntityState<?> state) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+        WriteBehindBuffer buffer = (WriteBehindBuffer) TransactionSynchronizationManager.getResource(WriteBehindBuffer.class);
+        if (buffer == null) {
+            buffer = new WriteBehindBuffer();
+            TransactionSynchronizationManager.bindResource(WriteBehindBuffer.class, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        synchronized (buffer.states) {
+            buffer.states.put(state, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the deferred values of the current transaction, e.g. before running a query that has to see them.
+     */
+    public static void flush() {
+        final WriteBehindBuffer buffer = (WriteBehindBuffer) TransactionSynchronizationManager.getResource(WriteBehindBuffer.class);
+        if (buffer != null) buffer.flushStates();
+    }
+
+    /**
+     * Drops the deferred values of the node or relationship, which is deleted in the current transaction.
+     */
+    public static void discard(PropertyContainer state) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        final WriteBehindBuffer buffer = (WriteBehindBuffer) TransactionSynchronizationManager.getResource(WriteBehindBuffer.class);
+        if (buffer != null) buffer.discardState(state);
+    }
+
+    private void discardState(PropertyContainer state) {
+        synchronized (states) {
+            for (Iterator<WriteBehindEntityState<?>> it = states.keySet().iterator(); it.hasNext(); ) {
+                final WriteBehindEntityState<?> entityState = it.next();
+                if (state.equals(entityState.getPersistentState())) {
+                    entityState.clearPending();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private void flushStates() {
+        List<WriteBehindEntityState<?>> toFlush = takeStates();
+        while (!toFlush.isEmpty()) {
+            Collections.sort(toFlush, BY_ID);
+            for (WriteBehindEntityState<?> state : toFlush) {
+                state.flushPending();
+            }
+            toFlush = takeStates();
+        }
+    }
+
+    private List<WriteBehindEntityState<?>> takeStates() {
+        synchronized (states) {
+            final List<WriteBehindEntityState<?>> result = new ArrayList<WriteBehindEntityState<?>>(states.keySet());
+            states.clear();
+            return result;
+        }
+    }
+
+    private static long idOf(Object state) {
+        if (state instanceof Node) return ((Node) state).getId();
+        if (state instanceof Relationship) return ((Relationship) state).getId();
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        flushStates();
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(WriteBehindBuffer.class);
+        for (WriteBehindEntityState<?> state : takeStates()) {
+            state.clearPending();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.springframework.data.neo4j.core.EntityState;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Defers writes of simple properties within a Spring managed transaction. The entity field holds the current value,
+ * the changed properties are registered with the {@link WriteBehindBuffer} of the transaction, which writes the final
+ * value of each of them (including index updates and validation) once before the transaction commits.
+ * <p/>
+ * Relationship, query, traversal and id fields as well as writes outside of a Spring managed transaction are passed
+ * through to the delegate. Queries within the transaction don't see the deferred values unless
+ * {@link WriteBehindBuffer#flush()} is called first.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class WriteBehindEntityState<STATE> implements EntityState<STATE> {
+    private final EntityState<STATE> delegate;
+    private final Neo4jTemplate template;
+    private final Set<Neo4jPersistentProperty> pending = new LinkedHashSet<Neo4jPersistentProperty>();
+
+    public WriteBehindEntityState(EntityState<STATE> delegate, Neo4jTemplate template) {
+        this.delegate = delegate;
+        this.template = template;
+    }
+
+    @Override
+    public Object getEntity() {
+        return delegate.getEntity();
+    }
+
+    @Override
+    public void setPersistentState(STATE state) {
+        delegate.setPersistentState(state);
+    }
+
+    @Override
+    public Object getDefaultValue(Neo4jPersistentProperty property) {
+        return delegate.getDefaultValue(property);
+    }
+
+    @Override
+    public Object getValue(Field field, MappingPolicy mappingPolicy) {
+        return getValue(property(field), mappingPolicy);
+    }
+
+    @Override
+    public Object getValue(Neo4jPersistentProperty property, MappingPolicy mappingPolicy) {
+        if (isPending(property)) return property.getValue(getEntity(), MappingPolicy.MAP_FIELD_DIRECT_POLICY);
+        return delegate.getValue(property, mappingPolicy);
+    }
+
+    @Override
+    public boolean isWritable(Neo4jPersistentProperty property) {
+        return delegate.isWritable(property);
+    }
+
+    @Override
+    public Object setValue(Field field, Object newVal, MappingPolicy mappingPolicy) {
+        return setValue(property(field), newVal, mappingPolicy);
+    }
+
+    @Override
+    public Object setValue(Neo4jPersistentProperty property, Object newVal, MappingPolicy mappingPolicy) {
+        if (isDeferrable(property) && WriteBehindBuffer.register(this)) {
+            synchronized (pending) {
+                pending.add(property);
+            }
+            return newVal;
+        }
+        return delegate.setValue(property, newVal, mappingPolicy);
+    }
+
+    private boolean isDeferrable(Neo4jPersistentProperty property) {
+        if (property == null || !hasPersistentState() || !template.transactionIsRunning()) return false;
+        if (property.isIdProperty() || property.isTransient() || property.hasQuery() || property.isRelationship()) return false;
+        return property.isNeo4jPropertyType() || property.isSerializablePropertyField(template.getConversionService());
+    }
+
+    private boolean isPending(Neo4jPersistentProperty property) {
+        synchronized (pending) {
+            return pending.contains(property);
+        }
+    }
+
+    /**
+     * Writes the current field values of the deferred properties to the delegate.
+     */
+    void flushPending() {
+        final List<Neo4jPersistentProperty> properties;
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            properties = new ArrayList<Neo4jPersistentProperty>(pending);
+            pending.clear();
+        }
+        final Object entity = getEntity();
+        for (Neo4jPersistentProperty property : properties) {
+            final MappingPolicy mappingPolicy = property.getMappingPolicy();
+            delegate.setValue(property, property.getValue(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY), mappingPolicy);
+        }
+    }
+
+    /**
+     * Drops the deferred properties after a rollback or when the state is deleted, the entity fields keep their values.
+     */
+    void clearPending() {
+        synchronized (pending) {
+            pending.clear();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void createAndAssignState() {
+        delegate.createAndAssignState();
+    }
+
+    @Override
+    public boolean hasPersistentState() {
+        return delegate.hasPersistentState();
+    }
+
+    @Override
+    public STATE getPersistentState() {
+        return delegate.getPersistentState();
+    }
+
+    @Override
+    public Object persist() {
+        flushPending();
+        return delegate.persist();
+    }
+
+    @Override
+    public Neo4jPersistentEntity<?> getPersistentEntity() {
+        return delegate.getPersistentEntity();
+    }
+
+    private Neo4jPersistentProperty property(Field field) {
+        return getPersistentEntity().getPersistentProperty(field.getName());
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import java.util.List;
+
+/**
+ * The entities saved by a committed transaction, replaces the {@link AfterSaveEvent}s when lifecycle events are batched.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class AfterSaveBatchEvent<T> extends Neo4jLifecycleBatchEvent<T> {
+    public AfterSaveBatchEvent(Object source, List<T> entities) {
+        super(source, entities);
+    }
+}
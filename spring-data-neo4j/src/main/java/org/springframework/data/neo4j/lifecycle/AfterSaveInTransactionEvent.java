@@ -0,0 +1,30 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+/**
+ * Published synchronously within the transaction for each saved entity while the {@link AfterSaveEvent}s are deferred
+ * until after the commit by a {@link LifecycleEventBatcher}. Listen for it instead of the {@link AfterSaveEvent} to keep
+ * reacting before the commit.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class AfterSaveInTransactionEvent<T> extends Neo4jLifecycleEvent<T> {
+    public AfterSaveInTransactionEvent(Object source, T entity) {
+        super(source, entity);
+    }
+}
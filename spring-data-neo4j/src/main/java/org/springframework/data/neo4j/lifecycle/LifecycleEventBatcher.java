@@ -0,0 +1,165 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
+
+/**
+ * Collects the saved and deleted entities of the current Spring managed transaction and publishes them after the
+ * commit as one {@link AfterSaveBatchEvent} and one {@link DeleteBatchEvent} (split into chunks of at most
+ * {@link #setMaxBatchSize(int) maxBatchSize} entities) on the configured executor. Each entity is contained once
+ * in the batch of its last operation, e.g. an entity saved and then deleted within the transaction is only part of the
+ * {@link DeleteBatchEvent}. Nothing is published after a rollback.
+ * <p/>
+ * {@link BeforeSaveEvent}s are not affected. The {@link AfterSaveEvent}s and {@link DeleteEvent}s of the entities of
+ * the batches are published through the application context on the executor as well, before the batch events.
+ * Listeners that have to react within the transaction listen for the {@link AfterSaveInTransactionEvent}s and
+ * {@link DeleteInTransactionEvent}s instead, which are published synchronously for each operation. Outside of a Spring
+ * managed transaction the batch events contain the entities of a single operation and are published right away.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class LifecycleEventBatcher {
+    private final static Logger log = LoggerFactory.getLogger(LifecycleEventBatcher.class);
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    private final ApplicationContext applicationContext;
+    private final Executor executor;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    public LifecycleEventBatcher(ApplicationContext applicationContext, Executor executor) {
+        notNull(applicationContext, "applicationContext", executor, "executor");
+        this.applicationContext = applicationContext;
+        this.executor = executor;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) throw new IllegalArgumentException("Batch size must be positive but was " + maxBatchSize);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void afterSave(Object source, Iterable<?> entities) {
+        final List<Object> saved = new ArrayList<Object>();
+        for (Object entity : entities) {
+            applicationContext.publishEvent(new AfterSaveInTransactionEvent<Object>(source, entity));
+            saved.add(entity);
+        }
+        final Batch batch = currentBatch(source);
+        if (batch == null) publish(source, saved, Collections.emptyList());
+        else batch.addSaved(saved);
+    }
+
+    public void afterDelete(Object source, Object entity) {
+        applicationContext.publishEvent(new DeleteInTransactionEvent<Object>(source, entity));
+        final Batch batch = currentBatch(source);
+        if (batch == null) publish(source, Collections.emptyList(), Collections.singletonList(entity));
+        else batch.addDeleted(entity);
+    }
+
+    private Batch currentBatch(Object source) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new Batch(source);
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        return batch;
+    }
+
+    private void publish(final Object source, List<Object> saved, List<Object> deleted) {
+        final List<ApplicationEvent> events = new ArrayList<ApplicationEvent>();
+        for (Object entity : saved) events.add(new AfterSaveEvent<Object>(source, entity));
+        for (Object entity : deleted) events.add(new DeleteEvent<Object>(source, entity));
+        for (int start = 0; start < saved.size(); start += maxBatchSize) {
+            events.add(new AfterSaveBatchEvent<Object>(source, chunk(saved, start)));
+        }
+        for (int start = 0; start < deleted.size(); start += maxBatchSize) {
+            events.add(new DeleteBatchEvent<Object>(source, chunk(deleted, start)));
+        }
+        if (events.isEmpty()) return;
+        executor.execute(new Runnable() {
+            public void run() {
+                for (ApplicationEvent event : events) {
+                    try {
+                        applicationContext.publishEvent(event);
+                    } catch (RuntimeException e) {
+                        log.error("Error publishing " + event.getClass().getSimpleName(), e);
+                    }
+                }
+            }
+        });
+    }
+
+    private List<Object> chunk(List<Object> entities, int start) {
+        return new ArrayList<Object>(entities.subList(start, Math.min(entities.size(), start + maxBatchSize)));
+    }
+
+    private class Batch extends TransactionSynchronizationAdapter {
+        private final Object source;
+        private final Map<Object, Boolean> deleted = new IdentityHashMap<Object, Boolean>();
+        private final List<Object> order = new ArrayList<Object>();
+
+        Batch(Object source) {
+            this.source = source;
+        }
+
+        synchronized void addSaved(List<Object> entities) {
+            for (Object entity : entities) {
+                add(entity, Boolean.FALSE);
+            }
+        }
+
+        synchronized void addDeleted(Object entity) {
+            add(entity, Boolean.TRUE);
+        }
+
+        private void add(Object entity, Boolean isDeleted) {
+            if (deleted.put(entity, isDeleted) == null) order.add(entity);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(LifecycleEventBatcher.this);
+            if (status != STATUS_COMMITTED) return;
+            final List<Object> savedEntities = new ArrayList<Object>();
+            final List<Object> deletedEntities = new ArrayList<Object>();
+            synchronized (this) {
+                for (Object entity : order) {
+                    if (deleted.get(entity)) deletedEntities.add(entity);
+                    else savedEntities.add(entity);
+                }
+            }
+            publish(source, savedEntities, deletedEntities);
+        }
+    }
+}
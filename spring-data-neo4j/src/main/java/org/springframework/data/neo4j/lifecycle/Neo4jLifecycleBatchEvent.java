@@ -0,0 +1,41 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Carries the entities of several lifecycle events of one committed transaction, published by the
+ * {@link LifecycleEventBatcher}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class Neo4jLifecycleBatchEvent<T> extends ApplicationEvent {
+    private final List<T> entities;
+
+    public Neo4jLifecycleBatchEvent(Object source, List<T> entities) {
+        super(source);
+        this.entities = Collections.unmodifiableList(entities);
+    }
+
+    public List<T> getEntities() {
+        return entities;
+    }
+}
@@ -26,10 +26,16 @@ import static java.util.Arrays.asList;
 public interface MappingPolicy {
 
     enum Option {
-        FIELD_DIRECT, SHOULD_LOAD
+        FIELD_DIRECT, SHOULD_LOAD, READ_ONLY
     }
     boolean accessField();
     boolean shouldLoad();
+
+    /**
+     * @return true if entities are created as plain objects with copied property values, without entity state,
+     * relationships or change tracking, e.g. for reporting queries
+     */
+    boolean readOnly();
     MappingPolicy combineWith(MappingPolicy mappingPolicy);
 
     public class DefaultMappingPolicy implements MappingPolicy {
@@ -53,6 +59,11 @@ public interface MappingPolicy {
             return options.contains(Option.SHOULD_LOAD);
         }
 
+        @Override
+        public boolean readOnly() {
+            return options.contains(Option.READ_ONLY);
+        }
+
         public MappingPolicy with(Option...options) {
             return with(asList(options));
         }
@@ -75,7 +86,7 @@ public interface MappingPolicy {
             if (mappingPolicy instanceof DefaultMappingPolicy) {
                 return with(((DefaultMappingPolicy)mappingPolicy).options);
             }
-            return with(mappingPolicy.accessField() ? Option.FIELD_DIRECT : null, mappingPolicy.shouldLoad() ? Option.SHOULD_LOAD : null);
+            return with(mappingPolicy.accessField() ? Option.FIELD_DIRECT : null, mappingPolicy.shouldLoad() ? Option.SHOULD_LOAD : null, mappingPolicy.readOnly() ? Option.READ_ONLY : null);
         }
 
         @Override
@@ -103,4 +114,5 @@ public interface MappingPolicy {
     public MappingPolicy LOAD_POLICY = new DefaultMappingPolicy(Option.SHOULD_LOAD);
     public MappingPolicy DEFAULT_POLICY = new DefaultMappingPolicy();
     public MappingPolicy MAP_FIELD_DIRECT_POLICY = new DefaultMappingPolicy(Option.FIELD_DIRECT);
+    public MappingPolicy READ_ONLY_POLICY = new DefaultMappingPolicy(Option.READ_ONLY);
 }
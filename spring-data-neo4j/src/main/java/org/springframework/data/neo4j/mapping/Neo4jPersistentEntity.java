@@ -46,4 +46,9 @@ public interface Neo4jPersistentEntity<T> extends PersistentEntity<T, Neo4jPersi
     Neo4jPersistentProperty getUniqueProperty();
 
     boolean isUnique();
+
+    /**
+     * @return the property annotated with {@link org.springframework.data.neo4j.annotation.GraphVersion} or null
+     */
+    Neo4jPersistentProperty getVersionProperty();
 }
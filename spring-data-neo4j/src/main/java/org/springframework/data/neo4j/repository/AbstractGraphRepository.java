@@ -16,7 +16,9 @@
 
 package org.springframework.data.neo4j.repository;
 
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.NumericRangeQuery;
+import org.apache.lucene.search.TermQuery;
 import org.neo4j.cypherdsl.grammar.Execute;
 import org.neo4j.cypherdsl.grammar.Skip;
 import org.neo4j.graphdb.NotFoundException;
@@ -37,6 +39,7 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.index.NoSuchIndexException;
 import org.springframework.data.neo4j.support.index.NullReadableIndex;
+import org.springframework.data.neo4j.support.index.QueryContexts;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
 import java.util.*;
@@ -256,6 +259,65 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
         });
     }
 
+    /**
+     * Index based exact finder for a page of the entities, sorted by Lucene.
+     *
+     * @param indexName or null for default index
+     */
+    @Override
+    public Page<T> findAllByPropertyValue(final String indexName, final String property, final Object value, final Pageable pageable) {
+        return template.queryPage(getIndex(indexName, property), property, exactQuery(property, value), pageable, clazz);
+    }
+
+    @Override
+    public Page<T> findAllByPropertyValue(final String property, final Object value, final Pageable pageable) {
+        return findAllByPropertyValue(null, property, value, pageable);
+    }
+
+    /**
+     * Index based fulltext / query object finder, the hits are sorted by Lucene, by default by relevance.
+     *
+     * @param indexName or null for default index
+     */
+    @Override
+    public EndResult<T> findAllByQuery(final String indexName, final String property, final Object query, final Sort sort) {
+        return queryResult(indexName, new Query<S>() {
+            public IndexHits<S> query(ReadableIndex<S> index) {
+                return getIndex(indexName, property).query(property, QueryContexts.create(query, sort, 0, template, clazz));
+            }
+        });
+    }
+
+    @Override
+    public EndResult<T> findAllByQuery(final String key, final Object query, final Sort sort) {
+        return findAllByQuery(null, key, query, sort);
+    }
+
+    /**
+     * Index based fulltext / query object finder for a page of the entities, Lucene retrieves only the hits up to the
+     * requested page, by default sorted by relevance. The total of the page is the number of all hits.
+     *
+     * @param indexName or null for default index
+     */
+    @Override
+    public Page<T> findAllByQuery(final String indexName, final String property, final Object query, final Pageable pageable) {
+        return template.queryPage(getIndex(indexName, property), property, query, pageable, clazz);
+    }
+
+    @Override
+    public Page<T> findAllByQuery(final String key, final Object query, final Pageable pageable) {
+        return findAllByQuery(null, key, query, pageable);
+    }
+
+    private Object exactQuery(String propertyName, Object value) {
+        final Neo4jPersistentProperty property = template.getPersistentProperty(clazz, propertyName);
+        if (value instanceof Number && (property==null || property.getIndexInfo().isNumeric())) {
+            Number number = (Number) value;
+            return createInclusiveRangeQuery(propertyName, number, number);
+        }
+        return new TermQuery(new Term(propertyName, value.toString()));
+    }
+
     interface Query<S extends PropertyContainer> {
         IndexHits<S> query(ReadableIndex<S> index);
     }
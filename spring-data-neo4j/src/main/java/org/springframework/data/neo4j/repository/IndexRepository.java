@@ -16,6 +16,9 @@
 
 package org.springframework.data.neo4j.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.conversion.EndResult;
 
 
@@ -28,8 +31,14 @@ public interface IndexRepository<T> {
 
     EndResult<T> findAllByPropertyValue(String property, Object value);
 
+    Page<T> findAllByPropertyValue(String property, Object value, Pageable pageable);
+
     EndResult<T> findAllByQuery(String key, Object query);
 
+    EndResult<T> findAllByQuery(String key, Object query, Sort sort);
+
+    Page<T> findAllByQuery(String key, Object query, Pageable pageable);
+
     EndResult<T> findAllByRange(String property, Number from, Number to);
 
 }
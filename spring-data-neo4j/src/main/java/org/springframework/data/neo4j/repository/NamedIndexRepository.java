@@ -16,6 +16,9 @@
 
 package org.springframework.data.neo4j.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.conversion.EndResult;
 
 
@@ -28,8 +31,14 @@ public interface NamedIndexRepository<T> {
 
     EndResult<T> findAllByPropertyValue(String indexName, String property, Object value);
 
+    Page<T> findAllByPropertyValue(String indexName, String property, Object value, Pageable pageable);
+
     EndResult<T> findAllByQuery(String indexName, String key, Object query);
 
+    EndResult<T> findAllByQuery(String indexName, String key, Object query, Sort sort);
+
+    Page<T> findAllByQuery(String indexName, String key, Object query, Pageable pageable);
+
     EndResult<T> findAllByRange(String indexName, String property, Number from, Number to);
 
 }
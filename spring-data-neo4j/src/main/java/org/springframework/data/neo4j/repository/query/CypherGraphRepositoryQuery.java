@@ -35,6 +35,11 @@ class CypherGraphRepositoryQuery extends GraphRepositoryQuery {
         super(queryMethod, template);
     }
 
+    @Override
+    protected boolean convertsParameterValues() {
+        return true;
+    }
+
     @Override
     protected QueryEngine<Object> getQueryEngine() {
         if (this.queryEngine != null) return this.queryEngine;
@@ -38,6 +38,7 @@ public class CypherQuery implements CypherQueryDefinition {
     private final List<StartClause> startClauses = new ArrayList<StartClause>();
     private final List<WhereClause> whereClauses = new ArrayList<WhereClause>();
     private Sort defaultSorts;
+    private Map<String, Neo4jPersistentProperty> returnedProperties;
     private int index = 0;
     private final Neo4jPersistentEntity<?> entity;
     private final Neo4jTemplate template;
@@ -91,6 +92,12 @@ public class CypherQuery implements CypherQueryDefinition {
         return this;
     }
 
+    @Override
+    public CypherQueryDefinition withReturnedProperties(Map<String, Neo4jPersistentProperty> properties) {
+        this.returnedProperties = properties;
+        return this;
+    }
+
     private boolean addedStartClause(PartInfo partInfo) {
         if (!partInfo.isIndexed()) return false;
         for (StartClause startClause : startClauses) {
@@ -133,6 +140,16 @@ public class CypherQuery implements CypherQueryDefinition {
         return parameters;
     }
 
+    @Override
+    public void resolveParameters(ParameterBindingPlan bindingPlan) {
+        for (StartClause startClause : startClauses) {
+            startClause.resolveParameters(bindingPlan, template);
+        }
+        for (WhereClause whereClause : whereClauses) {
+            whereClause.resolveParameters(bindingPlan);
+        }
+    }
+
     @Override
     public String toQueryString() {
         return toQueryString(defaultSorts);
@@ -159,10 +176,25 @@ public class CypherQuery implements CypherQueryDefinition {
             builder.append(" WHERE ").append(whereClauses);
         }
 
-        builder.append(" RETURN ").append(String.format(QueryTemplates.VARIABLE, getEntityName(entity)));
+        builder.append(" RETURN ").append(returnClause());
         return builder.toString();
     }
 
+    private String returnClause() {
+        final String variable = getEntityName(entity);
+        if (returnedProperties == null) return String.format(QueryTemplates.VARIABLE, variable);
+        List<String> result = new ArrayList<String>(returnedProperties.size());
+        for (Map.Entry<String, Neo4jPersistentProperty> entry : returnedProperties.entrySet()) {
+            final Neo4jPersistentProperty property = entry.getValue();
+            if (property.isIdProperty()) {
+                result.add(String.format(QueryTemplates.RETURN_ID, variable, entry.getKey()));
+            } else {
+                result.add(String.format(QueryTemplates.RETURN_PROPERTY, variable, property.getNeo4jPropertyName(), entry.getKey()));
+            }
+        }
+        return collectionToCommaDelimitedString(result);
+    }
+
 
     private String addSorts(Sort sort) {
         final List<String> sorts = formatSorts(sort);
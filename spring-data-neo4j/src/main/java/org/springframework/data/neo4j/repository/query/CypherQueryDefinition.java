@@ -17,6 +17,7 @@ package org.springframework.data.neo4j.repository.query;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.repository.query.Parameter;
 
 import java.util.Map;
@@ -52,4 +53,20 @@ interface CypherQueryDefinition extends ParameterResolver {
      * @return
      */
     String toQueryString(Pageable pageable);
+
+    /**
+     * Returns the given properties of the entity as columns instead of the entity itself.
+     *
+     * @param properties the properties by column name
+     * @return
+     */
+    CypherQueryDefinition withReturnedProperties(Map<String, Neo4jPersistentProperty> properties);
+
+    /**
+     * Adds the parameter value resolution of the query's clauses to the binding plan, so that calls bind their
+     * arguments without resolving the clauses again.
+     *
+     * @param bindingPlan the binding plan of the query method
+     */
+    void resolveParameters(ParameterBindingPlan bindingPlan);
 }
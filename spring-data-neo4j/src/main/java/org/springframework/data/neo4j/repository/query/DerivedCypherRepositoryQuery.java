@@ -20,10 +20,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.conversion.Projections;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.core.EntityMetadata;
-import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -57,14 +58,15 @@ public class DerivedCypherRepositoryQuery extends CypherGraphRepositoryQuery {
         PartTree tree = new PartTree(queryMethod.getName(), info.getJavaType());
 
         this.query = new CypherQueryCreator(tree, mappingContext, info.getJavaType(),template).createQuery();
+        final Class<?> compoundType = queryMethod.getCompoundType();
+        if (Projections.isProjection(compoundType, template)) {
+            final Map<String, Neo4jPersistentProperty> properties = Projections.storedProperties(compoundType, mappingContext.getPersistentEntity(info.getJavaType()));
+            if (properties != null) query.withReturnedProperties(properties);
+        }
+        query.resolveParameters(getBindingPlan());
         if (log.isDebugEnabled()) log.debug("Derived query: "+query+ "from method "+queryMethod);
     }
 
-    @Override
-    public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
-        return super.resolveParameters(query.resolveParameters(parameters));
-    }
-
     /**
      * Returns the actual Cypher query applying {@link Pageable} or {@link Sort} instances.
      * 
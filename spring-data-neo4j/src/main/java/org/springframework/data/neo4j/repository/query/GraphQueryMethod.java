@@ -15,20 +15,24 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.annotation.ReadOnlyResult;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.GenericTypeExtractor;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
-import org.springframework.data.repository.query.Parameter;
-import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.Future;
 
 /**
 * @author mh
@@ -40,6 +44,8 @@ public class GraphQueryMethod extends QueryMethod {
     private final NamedQueries namedQueries;
     private final Neo4jMappingContext mappingContext;
     private final Query queryAnnotation;
+    private final Class<?> resultType;
+    private final Type genericResultType;
 
     public GraphQueryMethod(Method method, RepositoryMetadata metadata, NamedQueries namedQueries, Neo4jMappingContext mappingContext) {
         super(method, metadata);
@@ -47,6 +53,21 @@ public class GraphQueryMethod extends QueryMethod {
         this.namedQueries = namedQueries;
         this.mappingContext = mappingContext;
         this.queryAnnotation = method.getAnnotation(Query.class);
+        this.genericResultType = isAsyncResult() ? unwrapFuture(method.getGenericReturnType()) : method.getGenericReturnType();
+        this.resultType = rawType(genericResultType);
+    }
+
+    private static Type unwrapFuture(Type futureType) {
+        if (futureType instanceof ParameterizedType) {
+            return ((ParameterizedType) futureType).getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) return (Class<?>) type;
+        if (type instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) type).getRawType();
+        return Object.class;
     }
 
     public String getQueryString() {
@@ -80,39 +101,34 @@ public class GraphQueryMethod extends QueryMethod {
 	}
 
     
+    /**
+     * @return the declared return type, or for asynchronous methods the type of the value of the returned future
+     */
     public Class<?> getReturnType() {
-        return method.getReturnType();
-    }
-
-    protected Map<String, Object> resolveParams(ParameterAccessor accessor, ParameterResolver parameterResolver) {
-        Map<Parameter, Object> parameters = parameterResolver.resolveParameters(getParameterValues(accessor));
-
-        return nameParameters(parameters);
+        return resultType;
     }
 
-    private Map<Parameter, Object> getParameterValues(ParameterAccessor accessor) {
-        Map<Parameter,Object> parameters=new LinkedHashMap<Parameter, Object>();
-        for (Parameter parameter : getParameters().getBindableParameters()) {
-            final Object value = accessor.getBindableValue(parameter.getIndex());
-            parameters.put(parameter,value);
-        }
-        return parameters;
+    /**
+     * @return the mapping policy for the returned entities, or null for the policy of their entity type
+     */
+    public MappingPolicy getMappingPolicy() {
+        return method.isAnnotationPresent(ReadOnlyResult.class) ? MappingPolicy.READ_ONLY_POLICY : null;
     }
 
-    private Map<String, Object> nameParameters(Map<Parameter, Object> parameters) {
-        Map<String, Object> params = new HashMap<String, Object>();
-        for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
-            params.put(getParameterName(entry.getKey()), entry.getValue());
-        }
-        return params;
+    public boolean isAsyncResult() {
+        return Future.class.isAssignableFrom(method.getReturnType());
     }
 
-    private String getParameterName(Parameter parameter) {
-        final String parameterName = parameter.getName();
-        if (parameterName != null) {
-            return parameterName;
-        }
-        return String.valueOf(parameter.getIndex());
+    /**
+     * Also true for methods returning a <code>Future&lt;Page&gt;</code>. Those can't declare a Pageable parameter, as
+     * QueryMethod only accepts it for methods returning a Page or List, so their page holds the whole result.
+     */
+    @Override
+    public boolean isPageQuery() {
+        // also called from the super constructor, before the fields are initialized, where it must stay false for
+        // asynchronous methods as they have no Pageable parameter
+        if (resultType != null && isAsyncResult()) return Page.class.isAssignableFrom(resultType);
+        return super.isPageQuery();
     }
 
     Class<?> getCompoundType() {
@@ -120,7 +136,7 @@ public class GraphQueryMethod extends QueryMethod {
         if (elementClass!=null) {
             return elementClass;
         }
-        return GenericTypeExtractor.resolveReturnedType(method);
+        return GenericTypeExtractor.resolveConcreteType(resultType, genericResultType);
     }
 
     private Class<?> getElementClass() {
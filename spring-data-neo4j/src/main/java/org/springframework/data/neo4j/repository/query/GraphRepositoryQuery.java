@@ -15,15 +15,18 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
-import org.neo4j.graphdb.Node;
-import org.neo4j.graphdb.Relationship;
 import org.neo4j.helpers.collection.IteratorUtil;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.conversion.EndResult;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.conversion.EntityResultConverter;
+import org.springframework.data.neo4j.support.conversion.Projections;
 import org.springframework.data.neo4j.support.query.QueryEngine;
-import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -31,58 +34,74 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 
 /**
 * @author mh
 * @since 31.10.11
 */
-abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolver {
+abstract class GraphRepositoryQuery implements RepositoryQuery {
     private final GraphQueryMethod queryMethod;
     protected final Neo4jTemplate template;
+    private final ParameterBindingPlan bindingPlan;
+    private final ResultConverter projectionConverter;
 
     public GraphRepositoryQuery(GraphQueryMethod queryMethod, final Neo4jTemplate template) {
         Assert.notNull(queryMethod);
         Assert.notNull(template);
         this.queryMethod = queryMethod;
         this.template = template;
+        this.bindingPlan = new ParameterBindingPlan(queryMethod, template, convertsParameterValues());
+        this.projectionConverter = Projections.isProjection(queryMethod.getCompoundType(), template) ? EntityResultConverter.forProjections(template.getConversionService(), template) : null;
     }
 
     protected Neo4jTemplate getTemplate() {
         return template;
     }
 
-    @Override
-    public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
-        Map<Parameter, Object> result=new LinkedHashMap<Parameter, Object>();
-        for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
-            result.put(entry.getKey(), convertGraphEntityToId(entry.getValue()));
-        }
-        return result;
+    /**
+     * @return true if enum and date parameters can already be converted to strings while binding, as the query
+     * engine would do it anyway
+     */
+    protected boolean convertsParameterValues() {
+        return false;
     }
 
-    private Object convertGraphEntityToId(Object value) {
-        final Class<?> type = value.getClass();
-        if (template.isNodeEntity(type)) {
-            final Node state = template.getPersistentState(value);
-            if (state != null) return state.getId();
-        }
-        if (template.isRelationshipEntity(type)) {
-            final Relationship state = template.getPersistentState(value);
-            if (state != null) return state.getId();
-        }
-        return value;
+    protected ParameterBindingPlan getBindingPlan() {
+        return bindingPlan;
     }
 
     @Override
     public Object execute(Object[] parameters) {
         final ParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
-        Map<String, Object> params = resolveParams(accessor);
+        final Map<String, Object> params = resolveParams(parameters);
         final String queryString = createQueryWithPagingAndSorting(accessor);
+        if (queryMethod.isAsyncResult()) {
+            return template.executeAsync(new Callable<Object>() {
+                public Object call() throws Exception {
+                    return fetch(dispatchQuery(queryString, params, accessor));
+                }
+            });
+        }
         return dispatchQuery(queryString, params, accessor);
     }
 
-    protected Map<String, Object> resolveParams(ParameterAccessor accessor) {
-        return queryMethod.resolveParams(accessor, this);
+    /**
+     * Lazy results of asynchronous queries are read completely within the task's transaction, keeping the declared
+     * result type. Pages and collections are already read.
+     */
+    @SuppressWarnings("unchecked")
+    private Object fetch(Object result) {
+        if (!(result instanceof Iterable) || result instanceof Collection || result instanceof Page) return result;
+        final List<Object> rows = IteratorUtil.addToCollection((Iterable<Object>) result, new ArrayList<Object>());
+        if (EndResult.class.isAssignableFrom(queryMethod.getReturnType())) {
+            return to(template.convert(rows), queryMethod.getCompoundType());
+        }
+        return rows;
+    }
+
+    protected Map<String, Object> resolveParams(Object[] arguments) {
+        return bindingPlan.bind(arguments);
     }
 
     protected String createQueryWithPagingAndSorting(ParameterAccessor accessor) {
@@ -94,18 +113,28 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
         GraphQueryMethod queryMethod = getQueryMethod();
         final QueryEngine<?> queryEngine = getQueryEngine();
         final Class<?> compoundType = queryMethod.getCompoundType();
+        final MappingPolicy mappingPolicy = queryMethod.getMappingPolicy();
         if (queryMethod.isPageQuery()) {
-            @SuppressWarnings("unchecked") final Iterable<?> result = queryEngine.query(queryString, params).to(compoundType);
+            @SuppressWarnings("unchecked") final Iterable<?> result = to(queryEngine.query(queryString, params).with(mappingPolicy), compoundType);
             Long count = computeCount(params);
             return createPage(result, accessor.getPageable(),count);
         }
         if (queryMethod.isIterableResult()) {
-            final EndResult<?> result = queryEngine.query(queryString, params).to(compoundType);
+            final EndResult<?> result = to(queryEngine.query(queryString, params).with(mappingPolicy), compoundType);
             if (queryMethod.isSetResult()) return IteratorUtil.addToCollection(result,new LinkedHashSet());
             if (queryMethod.isCollectionResult()) return IteratorUtil.addToCollection(result,new ArrayList());
             return result;
         }
-        return queryEngine.query(queryString, params).to(queryMethod.getReturnType()).singleOrNull();
+        return to(queryEngine.query(queryString, params).with(mappingPolicy), queryMethod.getReturnType()).singleOrNull();
+    }
+
+    /**
+     * Interfaces are only converted to projections if the method declares them as its result type.
+     */
+    @SuppressWarnings("unchecked")
+    private EndResult<?> to(Result result, Class<?> type) {
+        if (projectionConverter == null) return result.to(type);
+        return result.to(type, projectionConverter);
     }
 
     private Long computeCount(Map<String, Object> params) {
@@ -34,4 +34,8 @@ public class NodeEntityMatchingStartClause extends StartClause {
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters, Neo4jTemplate template) {
         return parameters;
     }
+
+    @Override
+    public void resolveParameters(ParameterBindingPlan bindingPlan, Neo4jTemplate template) {
+    }
 }
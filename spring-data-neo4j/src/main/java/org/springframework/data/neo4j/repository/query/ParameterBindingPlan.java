@@ -0,0 +1,226 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.NativePropertyTypes;
+import org.springframework.data.repository.query.Parameter;
+
+import java.util.*;
+
+/**
+ * Binding of the arguments of a repository query method to its named query parameters, computed once per method.
+ * Each bindable argument slot is mapped to its parameter name and a converter selected from the declared parameter
+ * type, so binding a call is a single pass over the argument array. Derived queries add the value resolution of
+ * their clauses to the plan once, see {@link #resolve(int, ArgumentResolver)}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class ParameterBindingPlan {
+
+    private final Parameter[] parameters;
+    private final String[] names;
+    private final ValueBinder[] binders;
+    private final ArgumentResolver[] resolvers;
+    private final boolean[] skipped;
+
+    ParameterBindingPlan(GraphQueryMethod queryMethod, Neo4jTemplate template, boolean convertValues) {
+        final List<Parameter> bindableParameters = new ArrayList<Parameter>();
+        for (Parameter parameter : queryMethod.getParameters().getBindableParameters()) {
+            bindableParameters.add(parameter);
+        }
+        final int count = bindableParameters.size();
+        this.parameters = bindableParameters.toArray(new Parameter[count]);
+        this.names = new String[count];
+        this.binders = new ValueBinder[count];
+        this.resolvers = new ArgumentResolver[count];
+        this.skipped = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = parameterName(parameters[i]);
+            binders[i] = binderFor(parameters[i].getType(), template, convertValues);
+        }
+    }
+
+    private static String parameterName(Parameter parameter) {
+        final String parameterName = parameter.getName();
+        if (parameterName != null) {
+            return parameterName;
+        }
+        return String.valueOf(parameter.getIndex());
+    }
+
+    private static ValueBinder binderFor(Class<?> type, Neo4jTemplate template, boolean convertValues) {
+        if (type.isPrimitive() || String.class.equals(type) || Number.class.isAssignableFrom(type)
+                || Boolean.class.equals(type) || Character.class.equals(type)) {
+            return ValueBinder.IDENTITY;
+        }
+        final Class<?> nativeType = convertValues ? nativePropertyType(template, type) : null;
+        if (nativeType != null) return new NativeTypeBinder(template.getConversionService(), type, nativeType);
+        if (convertValues && Enum.class.isAssignableFrom(type)) return ValueBinder.ENUM;
+        if (convertValues && Date.class.isAssignableFrom(type)) return ValueBinder.DATE;
+        if (template.isNodeEntity(type) || template.isRelationshipEntity(type)) {
+            return new EntityIdBinder(template, type);
+        }
+        return new EntityIdBinder(template, null);
+    }
+
+    private static Class<?> nativePropertyType(Neo4jTemplate template, Class<?> type) {
+        if (template.getInfrastructure() == null) return null;
+        final NativePropertyTypes nativePropertyTypes = template.getInfrastructure().getMappingContext().getNativePropertyTypes();
+        return nativePropertyTypes == null ? null : nativePropertyTypes.getPropertyType(type);
+    }
+
+    /**
+     * Resolves the argument of the given parameter index with the resolver before it is bound, after the resolvers
+     * that were added for it before. Unknown indexes are ignored, like the clauses ignore missing parameters.
+     */
+    void resolve(int parameterIndex, ArgumentResolver resolver) {
+        final int slot = slot(parameterIndex);
+        if (slot == -1) return;
+        final ArgumentResolver previous = resolvers[slot];
+        resolvers[slot] = previous == null ? resolver : new ChainedResolver(previous, resolver);
+    }
+
+    /**
+     * Leaves the parameter of the given index unbound, e.g. because a clause merged its value into another parameter.
+     */
+    void skip(int parameterIndex) {
+        final int slot = slot(parameterIndex);
+        if (slot != -1) skipped[slot] = true;
+    }
+
+    private int slot(int parameterIndex) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getIndex() == parameterIndex) return i;
+        }
+        return -1;
+    }
+
+    Map<String, Object> bind(Object[] arguments) {
+        final Map<String, Object> params = new HashMap<String, Object>(parameters.length * 2);
+        for (int i = 0; i < parameters.length; i++) {
+            if (skipped[i]) continue;
+            final Object value = arguments[parameters[i].getIndex()];
+            final ArgumentResolver resolver = resolvers[i];
+            params.put(names[i], binders[i].bind(resolver == null ? value : resolver.resolve(value, arguments)));
+        }
+        return params;
+    }
+
+    /**
+     * Resolution of a parameter value by a query clause.
+     */
+    abstract static class ArgumentResolver {
+        /**
+         * @param value the argument of the parameter, as resolved by the previous resolvers
+         * @param arguments all arguments of the call, by method parameter index
+         */
+        abstract Object resolve(Object value, Object[] arguments);
+    }
+
+    private static class ChainedResolver extends ArgumentResolver {
+        private final ArgumentResolver first;
+        private final ArgumentResolver second;
+
+        ChainedResolver(ArgumentResolver first, ArgumentResolver second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        Object resolve(Object value, Object[] arguments) {
+            return second.resolve(first.resolve(value, arguments), arguments);
+        }
+    }
+
+    abstract static class ValueBinder {
+        abstract Object bind(Object value);
+
+        static final ValueBinder IDENTITY = new ValueBinder() {
+            Object bind(Object value) {
+                return value;
+            }
+        };
+
+        static final ValueBinder ENUM = new ValueBinder() {
+            private final Neo4jConversionServiceFactoryBean.EnumToStringConverter converter = new Neo4jConversionServiceFactoryBean.EnumToStringConverter();
+
+            Object bind(Object value) {
+                return value instanceof Enum ? converter.convert((Enum) value) : value;
+            }
+        };
+
+        static final ValueBinder DATE = new ValueBinder() {
+            private final Neo4jConversionServiceFactoryBean.DateToStringConverter converter = new Neo4jConversionServiceFactoryBean.DateToStringConverter();
+
+            Object bind(Object value) {
+                return value instanceof Date ? converter.convert((Date) value) : value;
+            }
+        };
+    }
+
+    /**
+     * Converts values to the property type they are stored as with {@link NativePropertyTypes}.
+     */
+    static class NativeTypeBinder extends ValueBinder {
+        private final ConversionService conversionService;
+        private final Class<?> valueType;
+        private final Class<?> propertyType;
+
+        NativeTypeBinder(ConversionService conversionService, Class<?> valueType, Class<?> propertyType) {
+            this.conversionService = conversionService;
+            this.valueType = valueType;
+            this.propertyType = propertyType;
+        }
+
+        Object bind(Object value) {
+            if (!valueType.isInstance(value)) return value;
+            return conversionService.convert(value, propertyType);
+        }
+    }
+
+    /**
+     * Replaces persisted node and relationship entities with their id. Parameters with a non-entity declared type
+     * (e.g. Object or an interface) look up the runtime type of each value in the mapping context.
+     */
+    static class EntityIdBinder extends ValueBinder {
+        private final Neo4jTemplate template;
+        private final Class<?> entityType;
+
+        EntityIdBinder(Neo4jTemplate template, Class<?> entityType) {
+            this.template = template;
+            this.entityType = entityType;
+        }
+
+        Object bind(Object value) {
+            if (value == null) return null;
+            if (entityType != null) {
+                if (!entityType.isInstance(value)) return value;
+            } else {
+                final Class<?> type = value.getClass();
+                if (!template.isNodeEntity(type) && !template.isRelationshipEntity(type)) return value;
+            }
+            final PropertyContainer state = template.getPersistentState(value);
+            if (state == null) return value;
+            return state instanceof Node ? ((Node) state).getId() : ((Relationship) state).getId();
+        }
+    }
+}
@@ -53,6 +53,8 @@ public abstract class QueryTemplates {
     static final String WHERE_CLAUSE_1 = "`%1$s`.`%2$s`! %3$s {%4$d}";
     static final String WHERE_TYPE_CHECK = "(has(`%1$s`.__type__) AND `%1$s`.__type__ IN [%2$s])";
     static final String WHERE_CLAUSE_0 = "`%1$s`.`%2$s`! %3$s ";
+    static final String RETURN_PROPERTY = "`%s`.`%s`? AS `%s`";
+    static final String RETURN_ID = "ID(`%s`) AS `%s`";
     static final String SORT_CLAUSE = "%s %s";
     static final String ORDER_BY_CLAUSE = " ORDER BY %s";
     public static final String REGEX_WILDCARD = ".*";
@@ -80,6 +80,37 @@ class StartClause {
         return result;
     }
 
+    /**
+     * Adds the resolution of {@link #resolveParameters(java.util.Map, Neo4jTemplate)} to the binding plan. A
+     * rendered index query is bound to the first parameter, the other parameters of the clause are skipped.
+     */
+    public void resolveParameters(ParameterBindingPlan bindingPlan, final Neo4jTemplate template) {
+        final PartInfo firstPart = getPartInfo();
+        if (!shouldRenderQuery()) {
+            final Neo4jPersistentProperty property = firstPart.getLeafProperty();
+            bindingPlan.resolve(firstPart.getParameterIndex(), new ParameterBindingPlan.ArgumentResolver() {
+                Object resolve(Object value, Object[] arguments) {
+                    return convertIfNecessary(template, value, property);
+                }
+            });
+            return;
+        }
+        final List<PartInfo> parts = new ArrayList<PartInfo>(partInfos.values());
+        bindingPlan.resolve(firstPart.getParameterIndex(), new ParameterBindingPlan.ArgumentResolver() {
+            Object resolve(Object value, Object[] arguments) {
+                final Map<PartInfo, Object> values = new LinkedHashMap<PartInfo, Object>();
+                for (PartInfo partInfo : parts) {
+                    final Object argument = partInfo == firstPart ? value : arguments[partInfo.getParameterIndex()];
+                    values.put(partInfo, convertIfNecessary(template, argument, partInfo.getLeafProperty()));
+                }
+                return renderQuery(values);
+            }
+        });
+        for (PartInfo partInfo : parts) {
+            if (partInfo != firstPart) bindingPlan.skip(partInfo.getParameterIndex());
+        }
+    }
+
     private String renderQuery(Map<PartInfo, Object> values) {
         StringBuilder sb=new StringBuilder();
         for (Map.Entry<PartInfo, Object> entry : values.entrySet()) {
@@ -104,11 +135,13 @@ class StartClause {
     }
 
     private Object convertIfNecessary(Neo4jTemplate template, Object value, Neo4jPersistentProperty property) {
-		if (property.isIndexedNumerically()) return new ValueContext(value).indexNumeric();
+		if (property.isIndexedNumerically() && value instanceof Number) return new ValueContext(value).indexNumeric();
         if (property.isNeo4jPropertyType() && property.isNeo4jPropertyValue(value)) return value;
 
         PropertyConverter converter = new PropertyConverter(template.getConversionService(), property);
-        return converter.serializePropertyValue(value);
+        final Object converted = converter.serializePropertyValue(value);
+        if (property.isIndexedNumerically() && converted instanceof Number) return new ValueContext(converted).indexNumeric();
+        return converted;
     }
 
     private Map<Parameter,PartInfo> findMyParameters(Set<Parameter> parameters) {
@@ -66,6 +66,8 @@ class WhereClause {
         SYMBOLS = Collections.unmodifiableMap(symbols);
     }
 
+    private static final Set<Type> EXPRESSION_TYPES = EnumSet.of(Type.CONTAINING, Type.STARTING_WITH, Type.ENDING_WITH);
+
     protected final PartInfo partInfo;
     private final Type type;
     private PropertyConverter propertyConverter;
@@ -106,17 +108,34 @@ class WhereClause {
     }
 
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
+        final boolean formatExpression = EXPRESSION_TYPES.contains(type);
+        if (!formatExpression && propertyConverter == null) return parameters;
         for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
             if (partInfo.getParameterIndex() == entry.getKey().getIndex()) {
                 Object value = entry.getValue();
-                if (EnumSet.of(Type.CONTAINING,Type.STARTING_WITH,Type.ENDING_WITH).contains(type))
+                if (formatExpression)
                     value = QueryTemplates.formatExpression(partInfo, value);
-                else if (propertyConverter!=null) {
+                else {
                     value = propertyConverter.serializePropertyValue(value);
                 }
                 entry.setValue(value);
+                break;
             }
         }
         return parameters;
     }
+
+    /**
+     * Adds the resolution of {@link #resolveParameters(java.util.Map)} to the binding plan.
+     */
+    public void resolveParameters(ParameterBindingPlan bindingPlan) {
+        final boolean formatExpression = EXPRESSION_TYPES.contains(type);
+        if (!formatExpression && propertyConverter == null) return;
+        bindingPlan.resolve(partInfo.getParameterIndex(), new ParameterBindingPlan.ArgumentResolver() {
+            Object resolve(Object value, Object[] arguments) {
+                if (formatExpression) return QueryTemplates.formatExpression(partInfo, value);
+                return propertyConverter.serializePropertyValue(value);
+            }
+        });
+    }
 }
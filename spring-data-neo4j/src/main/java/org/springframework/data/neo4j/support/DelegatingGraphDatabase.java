@@ -17,6 +17,7 @@
 package org.springframework.data.neo4j.support;
 
 import org.neo4j.graphdb.*;
+import org.neo4j.graphdb.event.TransactionEventHandler;
 import org.neo4j.graphdb.index.Index;
 import org.neo4j.graphdb.index.IndexManager;
 import org.neo4j.graphdb.index.UniqueFactory;
@@ -276,6 +277,14 @@ public class DelegatingGraphDatabase implements GraphDatabase {
         return delegate;
     }
 
+    public <T> void registerTransactionEventHandler(TransactionEventHandler<T> handler) {
+        delegate.registerTransactionEventHandler(handler);
+    }
+
+    public <T> void unregisterTransactionEventHandler(TransactionEventHandler<T> handler) {
+        delegate.unregisterTransactionEventHandler(handler);
+    }
+
     private static class FailingQueryEngine<T> implements QueryEngine<T> {
         private String dependency;
 
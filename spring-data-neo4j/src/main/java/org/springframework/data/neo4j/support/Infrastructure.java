@@ -22,6 +22,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.fieldaccess.EntityValidator;
 import org.springframework.data.neo4j.mapping.EntityInstantiator;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.mapping.EntityRemover;
@@ -47,6 +48,8 @@ public interface Infrastructure {
 
     Validator getValidator();
 
+    EntityValidator getEntityValidator();
+
     GraphDatabaseService getGraphDatabaseService();
 
     GraphDatabase getGraphDatabase();
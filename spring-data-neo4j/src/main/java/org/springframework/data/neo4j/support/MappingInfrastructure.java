@@ -22,6 +22,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.fieldaccess.EntityValidator;
 import org.springframework.data.neo4j.mapping.EntityInstantiator;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.mapping.EntityRemover;
@@ -44,6 +45,7 @@ public class MappingInfrastructure implements Infrastructure {
 
     private final ConversionService conversionService;
     private final Validator validator;
+    private final EntityValidator entityValidator;
     private final TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy;
 
     private final TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy;
@@ -61,6 +63,10 @@ public class MappingInfrastructure implements Infrastructure {
     private final GraphDatabase graphDatabase;
 
     public MappingInfrastructure(GraphDatabase graphDatabase, GraphDatabaseService graphDatabaseService, IndexProvider indexProvider, ResultConverter resultConverter, PlatformTransactionManager transactionManager, TypeRepresentationStrategies typeRepresentationStrategies, EntityRemover entityRemover, Neo4jEntityPersister entityPersister, EntityStateHandler entityStateHandler, CypherQueryExecutor cypherQueryExecutor, Neo4jMappingContext mappingContext, TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy, TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy, Validator validator, ConversionService conversionService) {
+        this(graphDatabase, graphDatabaseService, indexProvider, resultConverter, transactionManager, typeRepresentationStrategies, entityRemover, entityPersister, entityStateHandler, cypherQueryExecutor, mappingContext, relationshipTypeRepresentationStrategy, nodeTypeRepresentationStrategy, validator, EntityValidator.Mode.PER_FIELD, conversionService);
+    }
+
+    public MappingInfrastructure(GraphDatabase graphDatabase, GraphDatabaseService graphDatabaseService, IndexProvider indexProvider, ResultConverter resultConverter, PlatformTransactionManager transactionManager, TypeRepresentationStrategies typeRepresentationStrategies, EntityRemover entityRemover, Neo4jEntityPersister entityPersister, EntityStateHandler entityStateHandler, CypherQueryExecutor cypherQueryExecutor, Neo4jMappingContext mappingContext, TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy, TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy, Validator validator, EntityValidator.Mode validationMode, ConversionService conversionService) {
         this.graphDatabase = graphDatabase;
         this.graphDatabaseService = graphDatabaseService;
         this.indexProvider = indexProvider;
@@ -75,6 +81,7 @@ public class MappingInfrastructure implements Infrastructure {
         this.relationshipTypeRepresentationStrategy = relationshipTypeRepresentationStrategy;
         this.nodeTypeRepresentationStrategy = nodeTypeRepresentationStrategy;
         this.validator = validator;
+        this.entityValidator = new EntityValidator(validator, validationMode);
         this.conversionService = conversionService;
     }
 
@@ -93,6 +100,11 @@ public class MappingInfrastructure implements Infrastructure {
         return validator;
     }
 
+    @Override
+    public EntityValidator getEntityValidator() {
+        return entityValidator;
+    }
+
     @Override
     public GraphDatabaseService getGraphDatabaseService() {
         return graphDatabaseService;
@@ -26,6 +26,7 @@ import org.springframework.data.neo4j.annotation.QueryType;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.fieldaccess.EntityValidator;
 import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
 import org.springframework.data.neo4j.fieldaccess.NodeDelegatingFieldAccessorFactory;
 import org.springframework.data.neo4j.fieldaccess.RelationshipDelegatingFieldAccessorFactory;
@@ -44,6 +45,7 @@ import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
 import org.springframework.data.neo4j.support.query.CypherQueryExecutor;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityInstantiator;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityStateFactory;
+import org.springframework.data.neo4j.support.routing.RoutingGraphDatabase;
 import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategies;
 import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
 import org.springframework.data.support.IsNewStrategyFactory;
@@ -59,6 +61,7 @@ import javax.validation.Validator;
 public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastructure>, InitializingBean {
     private ConversionService conversionService;
     private Validator validator;
+    private EntityValidator.Mode validationMode;
     private TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy;
     private TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy;
     private TypeRepresentationStrategyFactory typeRepresentationStrategyFactory;
@@ -102,8 +105,9 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         if (this.isNewStrategyFactory == null) {
             this.isNewStrategyFactory = new MappingContextIsNewStrategyFactory(mappingContext); 
         }
-        if (this.graphDatabaseService == null && graphDatabase instanceof DelegatingGraphDatabase) {
-            this.graphDatabaseService = ((DelegatingGraphDatabase) graphDatabase).getGraphDatabaseService();
+        final GraphDatabase primary = graphDatabase instanceof RoutingGraphDatabase ? ((RoutingGraphDatabase) graphDatabase).getPrimary() : graphDatabase;
+        if (this.graphDatabaseService == null && primary instanceof DelegatingGraphDatabase) {
+            this.graphDatabaseService = ((DelegatingGraphDatabase) primary).getGraphDatabaseService();
         }
         if (this.graphDatabase == null) {
             this.graphDatabase = new DelegatingGraphDatabase(graphDatabaseService);
@@ -112,7 +116,7 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
             this.transactionManager = new JtaTransactionManager(graphDatabase.getTransactionManager());
         }
         if (this.conversionService==null) {
-            this.conversionService=new Neo4jConversionServiceFactoryBean().getObject();
+            this.conversionService=new Neo4jConversionServiceFactoryBean(mappingContext.getNativePropertyTypes()).getObject();
         }
         if (entityStateHandler == null) {
             entityStateHandler = new EntityStateHandler(mappingContext,graphDatabase);
@@ -153,7 +157,7 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         if (this.indexProvider == null) {
             this.indexProvider = new IndexProviderImpl(graphDatabase);
         }
-        this.mappingInfrastructure = new MappingInfrastructure(graphDatabase, graphDatabaseService, indexProvider, resultConverter, transactionManager, typeRepresentationStrategies, entityRemover, entityPersister, entityStateHandler, cypherQueryExecutor, mappingContext, relationshipTypeRepresentationStrategy, nodeTypeRepresentationStrategy, validator, conversionService);
+        this.mappingInfrastructure = new MappingInfrastructure(graphDatabase, graphDatabaseService, indexProvider, resultConverter, transactionManager, typeRepresentationStrategies, entityRemover, entityPersister, entityStateHandler, cypherQueryExecutor, mappingContext, relationshipTypeRepresentationStrategy, nodeTypeRepresentationStrategy, validator, validationMode, conversionService);
         } catch (Exception e) {
             throw new RuntimeException("error initializing "+getClass().getName(),e);
         }
@@ -220,6 +224,17 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         this.validator = validatorFactory;
     }
 
+    public EntityValidator.Mode getValidationMode() {
+        return validationMode;
+    }
+
+    /**
+     * @param validationMode whether constraints are validated for each written field (default) or once per entity
+     */
+    public void setValidationMode(EntityValidator.Mode validationMode) {
+        this.validationMode = validationMode;
+    }
+
     public void setMappingContext(Neo4jMappingContext mappingContext) {
         this.mappingContext = mappingContext;
     }
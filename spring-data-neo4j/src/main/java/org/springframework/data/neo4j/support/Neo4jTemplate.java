@@ -18,17 +18,24 @@ package org.springframework.data.neo4j.support;
 
 import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.index.Index;
+import org.neo4j.graphdb.index.IndexHits;
+import org.neo4j.graphdb.index.ReadableIndex;
 import org.neo4j.graphdb.traversal.TraversalDescription;
 import org.neo4j.helpers.collection.ClosableIterable;
+import org.neo4j.index.lucene.QueryContext;
 import org.neo4j.index.lucene.ValueContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.annotation.QueryType;
 import org.springframework.data.neo4j.conversion.EndResult;
@@ -37,11 +44,17 @@ import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.core.TypeSplit;
 import org.springframework.data.neo4j.core.UncategorizedGraphStoreException;
+import org.springframework.data.neo4j.fieldaccess.EntityValidator;
 import org.springframework.data.neo4j.fieldaccess.GraphBackedEntityIterableWrapper;
+import org.springframework.data.neo4j.fieldaccess.QueryFieldAccessorFactory;
+import org.springframework.data.neo4j.fieldaccess.PropertyConverter;
+import org.springframework.data.neo4j.fieldaccess.QueryFieldValues;
 import org.springframework.data.neo4j.lifecycle.AfterSaveEvent;
 import org.springframework.data.neo4j.lifecycle.BeforeSaveEvent;
 import org.springframework.data.neo4j.lifecycle.DeleteEvent;
+import org.springframework.data.neo4j.lifecycle.LifecycleEventBatcher;
 import org.springframework.data.neo4j.mapping.IndexInfo;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
@@ -49,22 +62,36 @@ import org.springframework.data.neo4j.mapping.RelationshipResult;
 import org.springframework.data.neo4j.repository.GraphRepository;
 import org.springframework.data.neo4j.repository.NodeGraphRepositoryImpl;
 import org.springframework.data.neo4j.repository.RelationshipGraphRepository;
+import org.springframework.data.neo4j.support.changefeed.ChangeFeed;
+import org.springframework.data.neo4j.support.conversion.Projections;
+import org.springframework.data.neo4j.support.importer.EntityImporter;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.index.IndexType;
+import org.springframework.data.neo4j.support.index.QueryContexts;
 import org.springframework.data.neo4j.support.mapping.*;
 import org.springframework.data.neo4j.support.query.QueryEngine;
+import org.springframework.data.neo4j.support.query.QueryParameterConverter;
 import org.springframework.data.neo4j.template.GraphCallback;
 import org.springframework.data.neo4j.template.Neo4jOperations;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
 
@@ -82,9 +109,16 @@ TODO This is a  merge of GraphDatabaseContext and the previous Neo4jTemplate, so
  */
 public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     private static final Logger log = LoggerFactory.getLogger(Neo4jTemplate.class);
+    public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1000;
 
     private final Infrastructure infrastructure;
     private ApplicationContext applicationContext;
+    private AsyncTaskExecutor asyncTaskExecutor;
+    private Executor lifecycleEventExecutor;
+    private LifecycleEventBatcher lifecycleEventBatcher;
+    private ExecutorService conversionExecutor;
+    private volatile QueryFieldAccessorFactory queryFieldAccessorFactory;
+    private volatile QueryParameterConverter queryParameterConverter;
 
     /**
      * @param graphDatabase      the neo4j graph database
@@ -157,6 +191,16 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         throw new IllegalArgumentException("provided entity type is neither annotated with @NodeEntiy nor @RelationshipEntity");
     }
 
+    @Override
+    public <T> Future<T> findOneAsync(final long id, final Class<T> entityClass) {
+        notNull(entityClass, "entity type");
+        return executeAsync(new Callable<T>() {
+            public T call() throws Exception {
+                return findOne(id, entityClass);
+            }
+        });
+    }
+
     @Override
     public <T> EndResult<T> findAll(final Class<T> entityClass) {
         notNull(entityClass, "entity type");
@@ -164,6 +208,20 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         return new QueryResultBuilder<PropertyContainer>(all, getDefaultConverter()).to(entityClass);
     }
 
+    /**
+     * Provides all instances of a given entity type in disjoint splits, e.g. one per subtype, that can be iterated by
+     * separate threads. Each split has to be closed after use.
+     */
+    public <T> List<TypeSplit<T>> findAllSplits(final Class<T> entityClass) {
+        notNull(entityClass, "entity type");
+        final List<TypeSplit<PropertyContainer>> splits = infrastructure.getTypeRepresentationStrategies().findAllSplits(getEntityType(entityClass));
+        final List<TypeSplit<T>> result = new ArrayList<TypeSplit<T>>(splits.size());
+        for (TypeSplit<PropertyContainer> split : splits) {
+            result.add(split.withValues(new QueryResultBuilder<PropertyContainer>(split, getDefaultConverter()).to(entityClass)));
+        }
+        return result;
+    }
+
     @Override
     public <T> long count(final Class<T> entityClass) {
         notNull(entityClass, "entity type");
@@ -186,17 +244,84 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         return infrastructure.getEntityPersister().createEntityFromState(state, type, getMappingPolicy(type), this);
     }
 
+    @Override
+    public <T> List<T> loadAll(Iterable<? extends Node> nodes, Class<T> type) {
+        notNull(nodes, "nodes", type, "entity class");
+        final List<Node> states = new ArrayList<Node>();
+        for (Node node : nodes) {
+            states.add(node);
+        }
+        final QueryFieldValues values = prefetchQueryFields(states, type);
+        try {
+            final List<T> result = new ArrayList<T>(states.size());
+            for (Node node : states) {
+                result.add(load(node, type));
+            }
+            return result;
+        } finally {
+            if (values != null) values.close();
+        }
+    }
+
+    /**
+     * Evaluates the <code>@Query(cached=true)</code> fields of the entity type that allow it with one query per
+     * {@link QueryFieldAccessorFactory#BATCH_SIZE} nodes. The values are kept in the current transaction or in a scope
+     * opened for them, which the caller has to close after loading the entities.
+     *
+     * @return the scope holding the values, null if the type has no such fields
+     */
+    public QueryFieldValues prefetchQueryFields(Collection<? extends Node> nodes, Class<?> type) {
+        if (nodes.isEmpty() || !hasBatchableQueryFields(type)) return null;
+        final List<Long> ids = new ArrayList<Long>(nodes.size());
+        for (Node node : nodes) {
+            ids.add(node.getId());
+        }
+        final QueryFieldValues values = QueryFieldValues.open();
+        try {
+            getQueryFieldAccessorFactory().prefetch(getPersistentEntity(type), ids, values);
+            return values;
+        } catch (RuntimeException e) {
+            values.close();
+            throw e;
+        }
+    }
+
+    public boolean hasBatchableQueryFields(Class<?> type) {
+        return type != null && isNodeEntity(type)
+                && !getQueryFieldAccessorFactory().getBatchableAccessors(getPersistentEntity(type)).isEmpty();
+    }
+
+    /**
+     * @return the factory of the accessors of <code>@Query</code> fields, which keeps them per property
+     */
+    public QueryFieldAccessorFactory getQueryFieldAccessorFactory() {
+        if (queryFieldAccessorFactory == null) {
+            synchronized (this) {
+                if (queryFieldAccessorFactory == null) queryFieldAccessorFactory = new QueryFieldAccessorFactory(this);
+            }
+        }
+        return queryFieldAccessorFactory;
+    }
+
     @Override
     public <T> T projectTo(Object entity, Class<T> targetType) {
         notNull(entity, "entity", targetType, "new entity class");
+        if (Projections.isProjection(targetType, this)) return projectProperties(entity, targetType, null);
         return infrastructure.getEntityPersister().projectTo(entity, targetType, this);
     }
 
     public <T> T projectTo(Object entity, Class<T> targetType, MappingPolicy mappingPolicy) {
         notNull(entity, "entity", targetType, "new entity class");
+        if (Projections.isProjection(targetType, this)) return projectProperties(entity, targetType, mappingPolicy);
         return infrastructure.getEntityPersister().projectTo(entity, targetType, mappingPolicy, this);
     }
 
+    private <T> T projectProperties(Object entity, Class<T> projectionType, MappingPolicy mappingPolicy) {
+        final PropertyContainer state = entity instanceof PropertyContainer ? (PropertyContainer) entity : getPersistentState(entity);
+        if (state == null) throw new InvalidDataAccessApiUsageException("Cannot project " + entity + " without a node or relationship");
+        return Projections.fromState(state, projectionType, mappingPolicy, this, getDefaultConverter());
+    }
+
     /**
      * just sets the persistent state (i.e. Node or id) to the entity, doesn't copy any values/properties.
      */
@@ -220,8 +345,10 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     @Override
     public void delete(final Object entity) {
         infrastructure.getEntityRemover().remove(entity);
+        QueryFieldValues.invalidate();
 
-        if (applicationContext != null) applicationContext.publishEvent(new DeleteEvent<Object>(this, entity));
+        if (lifecycleEventBatcher != null) lifecycleEventBatcher.afterDelete(this, entity);
+        else if (applicationContext != null) applicationContext.publishEvent(new DeleteEvent<Object>(this, entity));
     }
 
     /**
@@ -291,10 +418,30 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     public <T> T save(T entity, final RelationshipType annotationProvidedRelationshipType) {
         if (applicationContext != null) applicationContext.publishEvent(new BeforeSaveEvent<T>(this, entity));
         T t = (T) infrastructure.getEntityPersister().persist(entity, getMappingPolicy(entity), this, annotationProvidedRelationshipType);
-        if (applicationContext != null) applicationContext.publishEvent(new AfterSaveEvent<T>(this, entity));
+        if (lifecycleEventBatcher != null) lifecycleEventBatcher.afterSave(this, Collections.singletonList(entity));
+        else if (applicationContext != null) applicationContext.publishEvent(new AfterSaveEvent<T>(this, entity));
         return t;
     }
 
+    /**
+     * @return an importer that maps records with the given mapper and saves the results in chunks
+     * @see EntityImporter
+     */
+    public <R> EntityImporter<R> importer(EntityImporter.Mapper<R> mapper) {
+        return new EntityImporter<R>(this, mapper);
+    }
+
+    /**
+     * @return a new, not yet started change feed of the committed entity changes of an embedded database
+     */
+    public ChangeFeed changeFeed() {
+        final GraphDatabase graphDatabase = getGraphDatabase();
+        if (!(graphDatabase instanceof DelegatingGraphDatabase)) {
+            throw new InvalidDataAccessApiUsageException("The change feed requires an embedded graph database but was " + graphDatabase.getClass().getName());
+        }
+        return new ChangeFeed((DelegatingGraphDatabase) graphDatabase, infrastructure.getTypeRepresentationStrategies(), getMappingContext());
+    }
+
     public boolean isManaged(Object entity) {
         return infrastructure.getEntityStateHandler().isManaged(entity);
     }
@@ -303,7 +450,7 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     public Object query(String statement, Map<String, Object> params, final TypeInformation<?> typeInformation) {
         final TypeInformation<?> actualType = typeInformation.getActualType();
         final Class<Object> targetType = (Class<Object>) actualType.getType();
-        final Result<Object> result = queryEngineFor(QueryType.Cypher).query(statement, params);
+        final Result<Object> result = queryEngineFor(QueryType.Cypher).query(statement, getQueryParameterConverter().convert(params));
         final Class<? extends Iterable<Object>> containerType = (Class<? extends Iterable<Object>>) typeInformation.getType();
         if (EndResult.class.isAssignableFrom(containerType)) {
             return result;
@@ -348,12 +495,14 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     public void deleteRelationshipBetween(Object start, Object end, String type) {
         notNull(start, "start", end, "end", type, "relationshipType");
         infrastructure.getEntityRemover().removeRelationshipBetween(start, end, type);
+        QueryFieldValues.invalidate();
     }
 
     @Override
     public <R> R createRelationshipBetween(Object start, Object end, Class<R> relationshipEntityClass, String relationshipType, boolean allowDuplicates) {
         notNull(start, "start", end, "end", relationshipEntityClass, "relationshipEntityClass", relationshipType, "relationshipType");
         final RelationshipResult result = infrastructure.getEntityStateHandler().createRelationshipBetween(start, end, relationshipType, allowDuplicates);
+        QueryFieldValues.invalidate();
         if (result.type == RelationshipResult.Type.NEW) {
             // TODO
             postEntityCreation(result.relationship, relationshipEntityClass);
@@ -445,7 +594,7 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
             @Override
             public void doWithGraphWithoutResult(GraphDatabase graph) throws Exception {
                 if (element instanceof Relationship) {
-                    Index<Relationship> relationshipIndex = infrastructure.getGraphDatabase().createIndex(Relationship.class, indexName, IndexType.SIMPLE);
+                    Index<Relationship> relationshipIndex = infrastructure.getIndexProvider().createIndex(Relationship.class, indexName, IndexType.SIMPLE);
                     relationshipIndex.add((Relationship) element, field, value);
                 } else if (element instanceof Node) {
                     infrastructure.getIndexProvider().createIndex(Node.class, indexName, IndexType.SIMPLE).add((Node) element, field, value);
@@ -518,7 +667,127 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     public Result<Map<String, Object>> query(String statement, Map<String, Object> params) {
         notNull(statement, "statement");
         final QueryEngine<Map<String, Object>> queryEngine = queryEngineFor(QueryType.Cypher);
-        return queryEngine.query(statement, params);
+        return queryEngine.query(statement, getQueryParameterConverter().convert(params));
+    }
+
+    /**
+     * @return the converter of query parameters, which stores dates, enums and value objects with their native
+     * property type if the mapping context has a {@link NativePropertyTypes} profile
+     */
+    public QueryParameterConverter getQueryParameterConverter() {
+        if (queryParameterConverter == null) {
+            synchronized (this) {
+                if (queryParameterConverter == null) {
+                    queryParameterConverter = new QueryParameterConverter(getConversionService(), getMappingContext().getNativePropertyTypes());
+                }
+            }
+        }
+        return queryParameterConverter;
+    }
+
+    @Override
+    public Future<Result<Map<String, Object>>> queryAsync(final String statement, final Map<String, Object> params) {
+        notNull(statement, "statement");
+        return executeAsync(new Callable<Result<Map<String, Object>>>() {
+            public Result<Map<String, Object>> call() throws Exception {
+                final List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+                for (Map<String, Object> row : query(statement, params)) {
+                    rows.add(row);
+                }
+                return convert(rows);
+            }
+        });
+    }
+
+    /**
+     * Runs the task on the configured {@link AsyncTaskExecutor} in a new read-only transaction, if a transaction manager
+     * is available.
+     */
+    public <T> Future<T> executeAsync(final Callable<T> task) {
+        notNull(task, "task");
+        return getAsyncTaskExecutor().submit(new Callable<T>() {
+            public T call() throws Exception {
+                if (infrastructure.getTransactionManager() == null) return doCall(task);
+                final TransactionTemplate template = new TransactionTemplate(infrastructure.getTransactionManager());
+                template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                template.setReadOnly(true);
+                return template.execute(new TransactionCallback<T>() {
+                    @Override
+                    public T doInTransaction(TransactionStatus status) {
+                        return doCall(task);
+                    }
+                });
+            }
+        });
+    }
+
+    private <T> T doCall(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw translateExceptionIfPossible(e);
+        }
+    }
+
+    /**
+     * @return the configured executor for asynchronous calls, or a bounded pool of one daemon thread per processor,
+     * which rejects calls once {@link #DEFAULT_ASYNC_QUEUE_CAPACITY} are waiting
+     */
+    public synchronized AsyncTaskExecutor getAsyncTaskExecutor() {
+        if (asyncTaskExecutor == null) {
+            asyncTaskExecutor = newDefaultAsyncTaskExecutor();
+        }
+        return asyncTaskExecutor;
+    }
+
+    private static AsyncTaskExecutor newDefaultAsyncTaskExecutor() {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(DEFAULT_ASYNC_QUEUE_CAPACITY);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setDaemon(true);
+        executor.setThreadNamePrefix("neo4j-template-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    public synchronized void setAsyncTaskExecutor(AsyncTaskExecutor asyncTaskExecutor) {
+        notNull(asyncTaskExecutor, "asyncTaskExecutor");
+        this.asyncTaskExecutor = asyncTaskExecutor;
+    }
+
+    /**
+     * @return the executor for {@link EndResult#parallel(ExecutorService, int) parallel result conversion}, null if
+     * none was configured, e.g. as a bean named "neo4jConversionExecutor"
+     */
+    public ExecutorService getConversionExecutor() {
+        return conversionExecutor;
+    }
+
+    /**
+     * @param conversionExecutor executor for parallel result conversion, its lifecycle is managed by the caller
+     */
+    public void setConversionExecutor(ExecutorService conversionExecutor) {
+        this.conversionExecutor = conversionExecutor;
+    }
+
+    /**
+     * Publishes the {@link AfterSaveEvent}s and {@link DeleteEvent}s of each transaction after its commit as batch events
+     * on the given executor, see {@link LifecycleEventBatcher}. Pass null to publish each event synchronously again.
+     */
+    public void setLifecycleEventExecutor(Executor lifecycleEventExecutor) {
+        this.lifecycleEventExecutor = lifecycleEventExecutor;
+        initLifecycleEventBatcher();
+    }
+
+    private void initLifecycleEventBatcher() {
+        if (lifecycleEventExecutor == null || applicationContext == null) {
+            lifecycleEventBatcher = null;
+        } else {
+            lifecycleEventBatcher = new LifecycleEventBatcher(applicationContext, lifecycleEventExecutor);
+        }
     }
 
     @Override
@@ -613,6 +882,50 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         }
     }
 
+    @Override
+    public <T> Page<T> findAllByQuery(Class<T> entityClass, String propertyName, Object query, Pageable pageable) {
+        notNull(entityClass, "entity class", propertyName, "property name", query, "query", pageable, "pageable");
+        try {
+            final Index<PropertyContainer> index = getIndex(entityClass, propertyName);
+            return queryPage(index, propertyName, query, pageable, entityClass);
+        } catch (RuntimeException e) {
+            throw translateExceptionIfPossible(e);
+        }
+    }
+
+    /**
+     * Retrieves only the hits up to the requested page from the index, sorted by Lucene. The hit count of such a query
+     * is limited to the retrieved hits, the total is counted by an unsorted query unless the page is the last one.
+     */
+    public <S extends PropertyContainer, T> Page<T> queryPage(ReadableIndex<S> index, String propertyName, Object query, Pageable pageable, Class<T> entityClass) {
+        final int offset = pageable.getOffset();
+        final QueryContext context = QueryContexts.create(query, pageable.getSort(), offset + pageable.getPageSize(), this, entityClass);
+        final IndexHits<S> hits = index.query(propertyName, context);
+        final List<T> content = new ArrayList<T>(pageable.getPageSize());
+        try {
+            final MappingPolicy mappingPolicy = getMappingPolicy(entityClass);
+            int position = 0;
+            for (S hit : hits) {
+                if (position++ < offset) continue;
+                content.add(createEntityFromState(hit, entityClass, mappingPolicy));
+            }
+        } finally {
+            hits.close();
+        }
+        final boolean lastPage = content.size() < pageable.getPageSize() && (offset == 0 || !content.isEmpty());
+        final long total = lastPage ? offset + content.size() : countHits(index, propertyName, context.getQueryOrQueryObject());
+        return new PageImpl<T>(content, pageable, total);
+    }
+
+    private <S extends PropertyContainer> int countHits(ReadableIndex<S> index, String propertyName, Object query) {
+        final IndexHits<S> hits = index.query(propertyName, query);
+        try {
+            return hits.size();
+        } finally {
+            hits.close();
+        }
+    }
+
     @Override
     public TraversalDescription traversalDescription() {
         return infrastructure.getGraphDatabase().traversalDescription();
@@ -630,6 +943,10 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         return infrastructure.getValidator();
     }
 
+    public EntityValidator getEntityValidator() {
+        return infrastructure.getEntityValidator();
+    }
+
     public GraphDatabaseService getGraphDatabaseService() {
         return infrastructure.getGraphDatabaseService();
     }
@@ -682,6 +999,9 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         Object value = uniqueProperty.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
         if (value == null) return createNode();
         final IndexInfo indexInfo = uniqueProperty.getIndexInfo();
+        if (!(value instanceof Number) && uniqueProperty.isIndexedNumerically()) {
+            value = new PropertyConverter(getConversionService(), uniqueProperty).serializePropertyValue(value);
+        }
         if (value instanceof Number && indexInfo.isNumeric()) value = ValueContext.numeric((Number) value);
         return getGraphDatabase().getOrCreateNode(indexInfo.getIndexName(), indexInfo.getIndexKey(), value, Collections.<String, Object>emptyMap());
     }
@@ -689,5 +1009,6 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
+        initLifecycleEventBatcher();
     }
 }
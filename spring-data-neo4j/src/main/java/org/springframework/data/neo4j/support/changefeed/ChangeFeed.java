@@ -0,0 +1,387 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.changefeed;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.event.PropertyEntry;
+import org.neo4j.graphdb.event.TransactionData;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.support.typerepresentation.AbstractIndexingTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategies;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
+
+/**
+ * Publishes the committed changes of node and relationship entities to {@link Subscriber}s, including changes made by
+ * Cypher, Gremlin or the core API. The changes are collected by a {@link TransactionEventHandler} registered with the
+ * {@link DelegatingGraphDatabase}, the entity type is read with the {@link TypeRepresentationStrategies}, nodes and
+ * relationships without a mapped entity type are skipped.
+ * <p/>
+ * The changes are distributed over {@link #setPartitions(int) partitions} by node or relationship id, each one with a
+ * bounded queue and a delivery thread that passes up to {@link #setBatchSize(int) batchSize} changes at once to the
+ * subscribers. The changes of an entity are delivered in commit order. When a queue is full, committing transactions
+ * wait for the subscribers. Changes of rolled back transactions are discarded.
+ * <p/>
+ * Deleted entities can only be typed by the indexing type representation strategies, with the sub reference strategy
+ * their deletion is not published. Changes of relationships between node entities are only published for
+ * relationship entities.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class ChangeFeed {
+    private final static Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    public static final int DEFAULT_QUEUE_SIZE = 10000;
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public interface Subscriber {
+        /**
+         * Called by the delivery thread of a partition, must not block for long or write to the graph, as committing
+         * transactions may be waiting for the delivery.
+         */
+        void onChanges(List<EntityChange> changes);
+    }
+
+    private final DelegatingGraphDatabase graphDatabase;
+    private final TypeRepresentationStrategies typeRepresentationStrategies;
+    private final Neo4jMappingContext mappingContext;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<Subscriber>();
+    private final Map<Object, Class<?>> entityTypes = new ConcurrentHashMap<Object, Class<?>>();
+    private final AtomicLong transactions = new AtomicLong();
+    private final ChangeCollector collector = new ChangeCollector();
+    private int partitions = 1;
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private volatile List<BlockingQueue<Pending>> queues;
+    private ExecutorService executor;
+
+    public ChangeFeed(DelegatingGraphDatabase graphDatabase, TypeRepresentationStrategies typeRepresentationStrategies, Neo4jMappingContext mappingContext) {
+        notNull(graphDatabase, "graphDatabase", typeRepresentationStrategies, "typeRepresentationStrategies", mappingContext, "mappingContext");
+        this.graphDatabase = graphDatabase;
+        this.typeRepresentationStrategies = typeRepresentationStrategies;
+        this.mappingContext = mappingContext;
+    }
+
+    public void subscribe(Subscriber subscriber) {
+        notNull(subscriber, "subscriber");
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * @param partitions number of delivery threads
+     */
+    public void setPartitions(int partitions) {
+        if (partitions < 1) throw new IllegalArgumentException("Number of partitions must be positive but was " + partitions);
+        this.partitions = partitions;
+    }
+
+    /**
+     * @param queueSize number of transactions queued per partition before committing transactions have to wait
+     */
+    public void setQueueSize(int queueSize) {
+        if (queueSize < 1) throw new IllegalArgumentException("Queue size must be positive but was " + queueSize);
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * @param batchSize maximum number of changes passed to a subscriber at once, a single transaction is never split
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive but was " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    public synchronized void start() {
+        if (queues != null) throw new IllegalStateException("Change feed has already been started");
+        final List<BlockingQueue<Pending>> newQueues = new ArrayList<BlockingQueue<Pending>>(partitions);
+        executor = Executors.newFixedThreadPool(partitions, new ChangeFeedThreadFactory());
+        for (int i = 0; i < partitions; i++) {
+            final BlockingQueue<Pending> queue = new ArrayBlockingQueue<Pending>(queueSize);
+            newQueues.add(queue);
+            executor.execute(new Runnable() {
+                public void run() {
+                    deliver(queue);
+                }
+            });
+        }
+        queues = newQueues;
+        graphDatabase.registerTransactionEventHandler(collector);
+    }
+
+    /**
+     * Stops collecting changes and waits until the queued changes are delivered. Transactions committing concurrently
+     * either queue their changes before the end markers of the delivery threads or skip them.
+     */
+    public synchronized void stop() {
+        if (queues == null) return;
+        graphDatabase.unregisterTransactionEventHandler(collector);
+        final Commit stopped = new Commit(-1);
+        stopped.resolve(false);
+        synchronized (collector) {
+            for (BlockingQueue<Pending> queue : queues) {
+                putUninterruptibly(queue, new Pending(stopped, null));
+            }
+            queues = null;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(BlockingQueue<Pending> queue) {
+        final List<EntityChange> batch = new ArrayList<EntityChange>(batchSize);
+        try {
+            while (true) {
+                final Pending first = queue.take();
+                if (first.changes == null) break;
+                first.commit.await();
+                if (first.commit.committed) batch.addAll(first.changes);
+                Pending next;
+                while (batch.size() < batchSize && (next = queue.peek()) != null && next.changes != null && next.commit.isResolved()) {
+                    queue.poll();
+                    if (next.commit.committed) batch.addAll(next.changes);
+                }
+                if (batch.isEmpty()) continue;
+                for (Subscriber subscriber : subscribers) {
+                    try {
+                        subscriber.onChanges(new ArrayList<EntityChange>(batch));
+                    } catch (RuntimeException e) {
+                        log.error("Error delivering entity changes to " + subscriber, e);
+                    }
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Class<?> entityType(PropertyContainer state, Object alias) {
+        if (alias == null && state != null) {
+            try {
+                alias = typeRepresentationStrategies.readAliasFrom(state);
+            } catch (RuntimeException notAnEntity) {
+                return null;
+            }
+        }
+        if (alias == null) return null;
+        Class<?> type = entityTypes.get(alias);
+        if (type == null) {
+            final Neo4jPersistentEntity<?> entity = mappingContext.getPersistentEntity(alias);
+            if (entity == null) return null;
+            type = entity.getType();
+            entityTypes.put(alias, type);
+        }
+        return type;
+    }
+
+    private static <T> void putUninterruptibly(BlockingQueue<T> queue, T item) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(item);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Outcome of a transaction, shared by its {@link Pending} changes in the partition queues.
+     */
+    private static class Commit {
+        final long transaction;
+        private final CountDownLatch resolved = new CountDownLatch(1);
+        volatile boolean committed;
+
+        Commit(long transaction) {
+            this.transaction = transaction;
+        }
+
+        void resolve(boolean committed) {
+            this.committed = committed;
+            resolved.countDown();
+        }
+
+        boolean isResolved() {
+            return resolved.getCount() == 0;
+        }
+
+        void await() throws InterruptedException {
+            resolved.await();
+        }
+    }
+
+    private static class Pending {
+        final Commit commit;
+        final List<EntityChange> changes;
+
+        Pending(Commit commit, List<EntityChange> changes) {
+            this.commit = commit;
+            this.changes = changes;
+        }
+    }
+
+    private static class Change {
+        final PropertyContainer state;
+        EntityChange.Kind kind = EntityChange.Kind.UPDATED;
+        Object deletedAlias;
+        final Set<String> properties = new LinkedHashSet<String>();
+
+        Change(PropertyContainer state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * Queues the changes before the commit while the transaction still holds the write locks of the changed entities,
+     * so the changes of an entity are queued in commit order. The delivery of the queued changes waits for the outcome
+     * of the transaction.
+     */
+    private class ChangeCollector implements TransactionEventHandler<Commit> {
+        @Override
+        public Commit beforeCommit(TransactionData data) throws Exception {
+            final List<BlockingQueue<Pending>> currentQueues = queues;
+            if (currentQueues == null) return null;
+            final Map<Long, Change> nodes = new LinkedHashMap<Long, Change>();
+            final Map<Long, Change> relationships = new LinkedHashMap<Long, Change>();
+            for (Node node : data.createdNodes()) change(nodes, node).kind = EntityChange.Kind.CREATED;
+            for (Relationship relationship : data.createdRelationships()) change(relationships, relationship).kind = EntityChange.Kind.CREATED;
+            for (PropertyEntry<Node> entry : data.assignedNodeProperties()) change(nodes, entry.entity()).properties.add(entry.key());
+            for (PropertyEntry<Relationship> entry : data.assignedRelationshipProperties()) change(relationships, entry.entity()).properties.add(entry.key());
+            for (PropertyEntry<Node> entry : data.removedNodeProperties()) removed(change(nodes, entry.entity()), entry);
+            for (PropertyEntry<Relationship> entry : data.removedRelationshipProperties()) removed(change(relationships, entry.entity()), entry);
+            for (Node node : data.deletedNodes()) deleted(nodes, node);
+            for (Relationship relationship : data.deletedRelationships()) deleted(relationships, relationship);
+
+            final Commit commit = new Commit(transactions.incrementAndGet());
+            final List<List<EntityChange>> partitioned = new ArrayList<List<EntityChange>>(currentQueues.size());
+            for (int i = 0; i < currentQueues.size(); i++) partitioned.add(new ArrayList<EntityChange>());
+            addChanges(nodes, false, commit, partitioned);
+            addChanges(relationships, true, commit, partitioned);
+
+            // one transaction at a time fills the queues, so the changes in a queue always belong to a transaction
+            // that has finished queueing and a full queue can't wait for a transaction that waits for another queue.
+            // stop() ends the queues under the same lock, nothing is queued behind the end markers of a stopped feed
+            boolean queued = false;
+            synchronized (this) {
+                if (queues != currentQueues) return null;
+                for (int i = 0; i < currentQueues.size(); i++) {
+                    if (partitioned.get(i).isEmpty()) continue;
+                    putUninterruptibly(currentQueues.get(i), new Pending(commit, partitioned.get(i)));
+                    queued = true;
+                }
+            }
+            return queued ? commit : null;
+        }
+
+        private Change change(Map<Long, Change> changes, PropertyContainer state) {
+            final long id = state instanceof Node ? ((Node) state).getId() : ((Relationship) state).getId();
+            Change change = changes.get(id);
+            if (change == null) {
+                change = new Change(state);
+                changes.put(id, change);
+            }
+            return change;
+        }
+
+        private void removed(Change change, PropertyEntry<?> entry) {
+            change.properties.add(entry.key());
+            if (AbstractIndexingTypeRepresentationStrategy.TYPE_PROPERTY_NAME.equals(entry.key())) {
+                change.deletedAlias = entry.previouslyCommitedValue();
+            }
+        }
+
+        private void deleted(Map<Long, Change> changes, PropertyContainer state) {
+            final Change change = change(changes, state);
+            if (change.kind == EntityChange.Kind.CREATED) {
+                changes.values().remove(change);
+            } else {
+                change.kind = EntityChange.Kind.DELETED;
+            }
+        }
+
+        private void addChanges(Map<Long, Change> changes, boolean relationship, Commit commit, List<List<EntityChange>> partitioned) {
+            for (Map.Entry<Long, Change> entry : changes.entrySet()) {
+                final Change change = entry.getValue();
+                final Class<?> type = change.kind == EntityChange.Kind.DELETED
+                        ? entityType(null, change.deletedAlias)
+                        : entityType(change.state, null);
+                if (type == null) continue;
+                final long id = entry.getKey();
+                final int partition = (int) (((id << 1) + (relationship ? 1 : 0)) % partitioned.size());
+                partitioned.get(partition).add(new EntityChange(change.kind, type, id, relationship, change.properties, commit.transaction));
+            }
+        }
+
+        @Override
+        public void afterCommit(TransactionData data, Commit commit) {
+            if (commit != null) commit.resolve(true);
+        }
+
+        @Override
+        public void afterRollback(TransactionData data, Commit commit) {
+            if (commit != null) commit.resolve(false);
+        }
+    }
+
+    private static class ChangeFeedThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "entity-change-feed-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
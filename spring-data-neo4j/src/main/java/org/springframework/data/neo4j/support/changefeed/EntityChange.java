@@ -0,0 +1,85 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.changefeed;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A committed change of a node or relationship entity, as published by the {@link ChangeFeed}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityChange {
+    public enum Kind {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Kind kind;
+    private final Class<?> type;
+    private final long id;
+    private final boolean relationship;
+    private final Set<String> properties;
+    private final long transaction;
+
+    public EntityChange(Kind kind, Class<?> type, long id, boolean relationship, Set<String> properties, long transaction) {
+        this.kind = kind;
+        this.type = type;
+        this.id = id;
+        this.relationship = relationship;
+        this.properties = Collections.unmodifiableSet(properties);
+        this.transaction = transaction;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the id of the node or relationship, of a deleted one it may already be reused
+     */
+    public long getId() {
+        return id;
+    }
+
+    public boolean isRelationship() {
+        return relationship;
+    }
+
+    /**
+     * @return names of the properties written or removed by the transaction
+     */
+    public Set<String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return sequence number of the committed transaction within the {@link ChangeFeed}, increasing in commit order
+     */
+    public long getTransaction() {
+        return transaction;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + type.getSimpleName() + (relationship ? " relationship " : " node ") + id + " " + properties + " tx " + transaction;
+    }
+}
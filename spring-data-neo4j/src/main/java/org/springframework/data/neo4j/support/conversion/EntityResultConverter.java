@@ -16,11 +16,19 @@
 
 package org.springframework.data.neo4j.support.conversion;
 
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PropertyContainer;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.annotation.MapResult;
+import org.springframework.data.neo4j.conversion.BatchingResultConverter;
 import org.springframework.data.neo4j.conversion.DefaultConverter;
+import org.springframework.data.neo4j.conversion.ResolvingResultConverter;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.EntityPath;
+import org.springframework.data.neo4j.fieldaccess.QueryFieldAccessorFactory;
+import org.springframework.data.neo4j.fieldaccess.QueryFieldValues;
 import org.springframework.data.neo4j.mapping.EntityPersister;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
@@ -28,17 +36,18 @@ import org.springframework.data.neo4j.support.Neo4jTemplateAware;
 import org.springframework.data.neo4j.support.path.ConvertingEntityPath;
 
 import javax.inject.Provider;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
  * @author mh
  * @since 28.06.11
  */
-public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implements Neo4jTemplateAware<EntityResultConverter<T,R>> {
+public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implements BatchingResultConverter<T, R>, ResolvingResultConverter<T, R>, Neo4jTemplateAware<EntityResultConverter<T,R>> {
     private final ConversionService conversionService;
     private Neo4jTemplate template;
+    private boolean projecting;
 
     public EntityResultConverter(ConversionService conversionService) {
         this.conversionService = conversionService;
@@ -50,6 +59,17 @@ public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implemen
         this.template = template;
     }
 
+    /**
+     * @return a converter that also converts values to projection interfaces, see {@link Projections}. Used for the
+     * results of repository methods that declare a projection as their result type, other converters treat interfaces
+     * as plain target types.
+     */
+    public static EntityResultConverter<Object, Object> forProjections(ConversionService conversionService, Neo4jTemplate template) {
+        final EntityResultConverter<Object, Object> converter = new EntityResultConverter<Object, Object>(conversionService, template);
+        converter.projecting = true;
+        return converter;
+    }
+
     @Override
     public EntityResultConverter<T,R> with(Neo4jTemplate template) {
         if (template == null) throw new IllegalArgumentException( "Template for EntityResultConverter must not be null" );
@@ -86,17 +106,122 @@ public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implemen
             throw new RuntimeException("MapResult can only be extracted from Map<String,Object>.");
         }
 
-        InvocationHandler handler = new QueryResultProxy((Map<String, Object>) value,mappingPolicy,this);
-
-        return (R) Proxy.newProxyInstance(returnType.getClassLoader(), new Class[]{returnType}, handler);
+        return (R) QueryResultProxy.newProxy(returnType, (Map<String, Object>) value, mappingPolicy, this);
     }
 
     @Override
     public R convert(Object value, Class type, MappingPolicy mappingPolicy) {
         if (type.isAnnotationPresent(MapResult.class)) {
             return extractMapResult(value, type,mappingPolicy);
+        } else if (projecting && value != null && !type.isInstance(value) && Projections.isProjection(type, template)) {
+            return project(value, type, mappingPolicy);
         } else
             return super.convert(value, type,mappingPolicy);
     }
 
+    /**
+     * @return the batch size for node entities with batchable <code>@Query(cached=true)</code> fields
+     */
+    @Override
+    public int getBatchSize(Class<R> type) {
+        return template != null && template.hasBatchableQueryFields(type) ? QueryFieldAccessorFactory.BATCH_SIZE : 0;
+    }
+
+    /**
+     * Evaluates the batchable query fields of all nodes at once, before converting the values one by one.
+     */
+    @Override
+    public List<R> convertAll(List<T> values, Class<R> type, MappingPolicy mappingPolicy) {
+        final List<Node> nodes = new ArrayList<Node>(values.size());
+        for (T value : values) {
+            final Object node = value instanceof Map && ((Map) value).size() == 1 ? extractValue(value) : value;
+            if (node instanceof Node) nodes.add((Node) node);
+        }
+        final QueryFieldValues queryFieldValues = template.prefetchQueryFields(nodes, type);
+        try {
+            final List<R> result = new ArrayList<R>(values.size());
+            for (T value : values) {
+                result.add(convert(value, type, mappingPolicy));
+            }
+            return result;
+        } finally {
+            if (queryFieldValues != null) queryFieldValues.close();
+        }
+    }
+
+    /**
+     * Decides once between entity, path and value conversion. Containers, map results and projections are converted
+     * value by value, as their conversion depends on their content.
+     */
+    @Override
+    public ResultConverter<T, R> resolve(Class<?> sourceType, Class<R> type, MappingPolicy mappingPolicy) {
+        if (Map.class.isAssignableFrom(sourceType) || Iterable.class.isAssignableFrom(sourceType) && !Path.class.isAssignableFrom(sourceType)) {
+            return this;
+        }
+        if (type.isAnnotationPresent(MapResult.class) || projecting && Projections.isProjection(type, template)) return this;
+        if (EntityPath.class.isAssignableFrom(type)) return new ResolvedConverter(sourceType, ResolvedConverter.ENTITY_PATH);
+        if (template.isNodeEntity(type)) return new ResolvedConverter(sourceType, ResolvedConverter.NODE_ENTITY);
+        if (template.isRelationshipEntity(type)) return new ResolvedConverter(sourceType, ResolvedConverter.RELATIONSHIP_ENTITY);
+        return new ResolvedConverter(sourceType, ResolvedConverter.VALUE);
+    }
+
+    private class ResolvedConverter implements ResultConverter<T, R> {
+        static final int ENTITY_PATH = 0, NODE_ENTITY = 1, RELATIONSHIP_ENTITY = 2, VALUE = 3;
+
+        private final Class<?> sourceType;
+        private final int kind;
+
+        ResolvedConverter(Class<?> sourceType, int kind) {
+            this.sourceType = sourceType;
+            this.kind = kind;
+        }
+
+        @Override
+        public R convert(T value, Class<R> type) {
+            return convert(value, type, null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R convert(T value, Class<R> type, MappingPolicy mappingPolicy) {
+            final Object result;
+            switch (kind) {
+                case ENTITY_PATH:
+                    result = new ConvertingEntityPath(toPath(value, sourceType), template);
+                    break;
+                case NODE_ENTITY:
+                    result = template.projectTo(toNode(value, sourceType), type, mappingPolicy);
+                    break;
+                case RELATIONSHIP_ENTITY:
+                    result = template.projectTo(toRelationship(value, sourceType), type, mappingPolicy);
+                    break;
+                default:
+                    final Object converted = EntityResultConverter.super.doConvert(value, sourceType, type, mappingPolicy);
+                    result = converted == null && conversionService.canConvert(sourceType, type) ? conversionService.convert(value, type) : converted;
+            }
+            if (result == null)
+                throw new RuntimeException("Cannot automatically convert " + sourceType + " to " + type + " please use a custom converter");
+            return (R) result;
+        }
+    }
+
+    /**
+     * Rows with the projected properties as columns are read directly, nodes and relationships on access.
+     */
+    @SuppressWarnings("unchecked")
+    private R project(Object value, Class type, MappingPolicy mappingPolicy) {
+        if (value instanceof Map && ((Map) value).size() != 1) {
+            return (R) Projections.fromRow((Map<String, Object>) value, type, mappingPolicy, this);
+        }
+        final Object singleValue = extractValue(value);
+        if (singleValue instanceof PropertyContainer) {
+            return (R) Projections.fromState((PropertyContainer) singleValue, type, mappingPolicy, template, this);
+        }
+        if (value instanceof Map) {
+            return (R) Projections.fromRow((Map<String, Object>) value, type, mappingPolicy, this);
+        }
+        if (singleValue == null) return null;
+        throw new MappingException("Cannot project " + singleValue.getClass() + " to " + type);
+    }
+
 }
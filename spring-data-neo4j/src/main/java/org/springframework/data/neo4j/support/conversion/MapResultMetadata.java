@@ -0,0 +1,122 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.conversion;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.neo4j.annotation.ResultColumn;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Column name and target type of each getter of a {@link org.springframework.data.neo4j.annotation.MapResult}
+ * interface and the constructor of its proxy class. Computed once per interface, so reading a column of a result
+ * row needs no further reflection. For projection interfaces the getters without {@link ResultColumn} annotation
+ * read the column named like their property.
+ * <p/>
+ * The caches only hold soft references, so they don't keep the classes of undeployed applications and their class
+ * loaders alive.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class MapResultMetadata {
+    private static final ConcurrentMap<Class<?>, MapResultMetadata> metadata = new ConcurrentReferenceHashMap<Class<?>, MapResultMetadata>();
+    private static final ConcurrentMap<Class<?>, MapResultMetadata> projections = new ConcurrentReferenceHashMap<Class<?>, MapResultMetadata>();
+
+    private final Constructor<?> proxyConstructor;
+    private final Map<Method, Column> columns = new HashMap<Method, Column>();
+    private final List<String> columnNames = new ArrayList<String>();
+
+    static class Column {
+        final String name;
+        final Class<?> type;
+        final boolean collectionLike;
+
+        Column(String name, TypeInformation<?> returnType) {
+            this.name = name;
+            this.collectionLike = returnType.isCollectionLike();
+            this.type = collectionLike ? returnType.getActualType().getType() : returnType.getType();
+        }
+    }
+
+    private MapResultMetadata(Class<?> type, boolean projection) {
+        try {
+            this.proxyConstructor = Proxy.getProxyClass(type.getClassLoader(), type).getConstructor(InvocationHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Cannot create proxy class for " + type, e);
+        }
+        for (Method method : type.getMethods()) {
+            final String name = columnName(method, projection);
+            if (name == null) continue;
+            columns.put(method, new Column(name, ClassTypeInformation.fromReturnTypeOf(method)));
+            if (!columnNames.contains(name)) columnNames.add(name);
+        }
+        Collections.sort(columnNames);
+    }
+
+    private static String columnName(Method method, boolean projection) {
+        final ResultColumn column = method.getAnnotation(ResultColumn.class);
+        if (column != null) return column.value();
+        if (!projection) return null;
+        final PropertyDescriptor descriptor = BeanUtils.findPropertyForMethod(method);
+        return descriptor != null && method.equals(descriptor.getReadMethod()) ? descriptor.getName() : null;
+    }
+
+    static MapResultMetadata forType(Class<?> type) {
+        return forType(type, metadata, false);
+    }
+
+    static MapResultMetadata forProjection(Class<?> type) {
+        return forType(type, projections, true);
+    }
+
+    private static MapResultMetadata forType(Class<?> type, ConcurrentMap<Class<?>, MapResultMetadata> cache, boolean projection) {
+        MapResultMetadata result = cache.get(type);
+        if (result != null) return result;
+        result = new MapResultMetadata(type, projection);
+        final MapResultMetadata existing = cache.putIfAbsent(type, result);
+        return existing != null ? existing : result;
+    }
+
+    List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    Column getColumn(Method method) {
+        return columns.get(method);
+    }
+
+    Object newProxy(InvocationHandler handler) {
+        try {
+            return proxyConstructor.newInstance(handler);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot create proxy instance of " + proxyConstructor.getDeclaringClass(), e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.conversion;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.data.neo4j.annotation.MapResult;
+import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.core.EntityPath;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Projections are interfaces of property getters that are neither entities nor {@link MapResult}s, e.g.
+ * <pre>
+ * interface MovieSummary {
+ *     String getTitle();
+ *     int getYear();
+ * }
+ * </pre>
+ * Their proxies read only the properties of their getters, from the columns of a query result row or on access from
+ * a node or relationship, without creating the entity. Getters annotated with
+ * {@link org.springframework.data.neo4j.annotation.ResultColumn} read the named column instead.
+ * <p/>
+ * Interfaces are only treated as projections where a projection is asked for: as the result type of a repository
+ * method and as the target type of {@link Neo4jTemplate#projectTo}. A getter of a column or property that the result
+ * does not have fails with a {@link NoSuchColumnFoundException}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public abstract class Projections {
+
+    public static boolean isProjection(Class<?> type, Neo4jTemplate template) {
+        if (type == null || !type.isInterface() || type.isAnnotationPresent(MapResult.class)) return false;
+        final String name = type.getName();
+        if (name.startsWith("java") || name.startsWith("scala.") || name.startsWith("org.neo4j.")) return false;
+        if (Iterable.class.isAssignableFrom(type) || EntityPath.class.isAssignableFrom(type)) return false;
+        return !template.isNodeEntity(type) && !template.isRelationshipEntity(type);
+    }
+
+    public static <T> T fromRow(Map<String, Object> row, Class<T> type, MappingPolicy mappingPolicy, ResultConverter converter) {
+        return QueryResultProxy.newProjection(type, row, mappingPolicy, converter);
+    }
+
+    public static <T> T fromState(PropertyContainer state, Class<T> type, MappingPolicy mappingPolicy, Neo4jTemplate template, ResultConverter converter) {
+        return QueryResultProxy.newProjection(type, new StateMap(state, template), mappingPolicy, converter);
+    }
+
+    /**
+     * @return the properties of the entity read by the projection by their column names, or null if the projection
+     * reads more than simple properties of the entity
+     */
+    public static Map<String, Neo4jPersistentProperty> storedProperties(Class<?> type, Neo4jPersistentEntity<?> entity) {
+        final Map<String, Neo4jPersistentProperty> result = new LinkedHashMap<String, Neo4jPersistentProperty>();
+        for (String column : MapResultMetadata.forProjection(type).getColumnNames()) {
+            final Neo4jPersistentProperty property = entity.getPersistentProperty(column);
+            if (property == null || property.isRelationship() || property.isTransient() || property.hasQuery()) return null;
+            result.put(column, property);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the properties of a node or relationship on access, property names are mapped to the stored names of the
+     * entity type of the state.
+     */
+    private static class StateMap extends AbstractMap<String, Object> {
+        private final PropertyContainer state;
+        private final Neo4jTemplate template;
+        private Neo4jPersistentEntity<?> entity;
+        private boolean entityResolved;
+
+        StateMap(PropertyContainer state, Neo4jTemplate template) {
+            this.state = state;
+            this.template = template;
+        }
+
+        /**
+         * @return true for the id and the stored properties of the entity type, even if they are not set, and for the
+         * set properties of states without entity type
+         */
+        @Override
+        public boolean containsKey(Object key) {
+            if (!(key instanceof String)) return false;
+            final Neo4jPersistentProperty property = property((String) key);
+            if (property == null) return state.hasProperty((String) key);
+            return property.isIdProperty() || !(property.isRelationship() || property.isTransient());
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (!(key instanceof String)) return null;
+            final Neo4jPersistentProperty property = property((String) key);
+            if (property == null) return state.getProperty((String) key, null);
+            if (property.isIdProperty()) return idOf(state);
+            if (property.isRelationship() || property.isTransient()) return null;
+            return state.getProperty(property.getNeo4jPropertyName(), null);
+        }
+
+        private Neo4jPersistentProperty property(String name) {
+            if (!entityResolved) {
+                entityResolved = true;
+                try {
+                    final StoredEntityType type = template.getStoredEntityType(state);
+                    entity = type != null ? type.getEntity() : null;
+                } catch (RuntimeException e) {
+                    entity = null;
+                }
+            }
+            return entity != null ? entity.getPersistentProperty(name) : null;
+        }
+
+        private static Long idOf(PropertyContainer state) {
+            if (state instanceof Node) return ((Node) state).getId();
+            if (state instanceof Relationship) return ((Relationship) state).getId();
+            return null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    final Iterator<String> keys = state.getPropertyKeys().iterator();
+                    return new Iterator<Entry<String, Object>>() {
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        public Entry<String, Object> next() {
+                            final String key = keys.next();
+                            return new SimpleImmutableEntry<String, Object>(key, state.getProperty(key));
+                        }
+
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (String ignored : state.getPropertyKeys()) size++;
+                    return size;
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof StateMap && state.equals(((StateMap) other).state);
+        }
+
+        @Override
+        public int hashCode() {
+            return state.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Projection of " + state;
+        }
+    }
+}
@@ -19,74 +19,144 @@ import org.springframework.data.neo4j.annotation.ResultColumn;
 import org.springframework.data.neo4j.conversion.QueryResultBuilder;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
-import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.data.util.TypeInformation;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 /**
+* The scala lookups are cached with soft references like {@link MapResultMetadata}, so they don't keep the classes
+* of undeployed applications alive.
+*
 * @author mh
 * @since 10.11.11
 */
 public class QueryResultProxy implements InvocationHandler {
+    private static final String SCALA_ITERABLE = "scala.collection.Iterable";
+    private static final Class<?> NOT_SCALA = Void.class;
+    private static final ConcurrentMap<Class<?>, Class<?>> scalaIterableTypes = new ConcurrentReferenceHashMap<Class<?>, Class<?>>();
+    private static final ConcurrentMap<Class<?>, Method> scalaConversions = new ConcurrentReferenceHashMap<Class<?>, Method>();
+
     private final Map<String, Object> map;
     private final MappingPolicy mappingPolicy;
     private final ResultConverter converter;
+    private final MapResultMetadata metadata;
 
     public QueryResultProxy(Map<String, Object> map, MappingPolicy mappingPolicy, ResultConverter converter) {
+        this(map, mappingPolicy, converter, null);
+    }
+
+    private QueryResultProxy(Map<String, Object> map, MappingPolicy mappingPolicy, ResultConverter converter, MapResultMetadata metadata) {
         this.map = map;
         this.mappingPolicy = mappingPolicy;
         this.converter = converter;
+        this.metadata = metadata;
     }
 
+    /**
+     * Creates a proxy of the given result interface backed by the row, using the metadata cached for the interface.
+     */
     @SuppressWarnings("unchecked")
-    @Override
-    public Object invoke(Object proxy, Method method, Object[] params) throws Throwable {
-        if (method.getName().equals("equals") && params!=null && params.length == 1) {
-            return equalsInternal(proxy, params[0]);
-        }
-
-        if (method.getName().equals("hashCode") && (params==null || params.length == 0)) {
-          return map.hashCode();
-        }
+    public static <T> T newProxy(Class<T> type, Map<String, Object> map, MappingPolicy mappingPolicy, ResultConverter converter) {
+        final MapResultMetadata metadata = MapResultMetadata.forType(type);
+        return (T) metadata.newProxy(new QueryResultProxy(map, mappingPolicy, converter, metadata));
+    }
 
-        ResultColumn column = method.getAnnotation(ResultColumn.class);
-        TypeInformation<?> returnType = ClassTypeInformation.fromReturnTypeOf(method);
+    /**
+     * Creates a proxy of the given projection interface backed by the row, each getter reads the column named like its
+     * property unless it is annotated with {@link ResultColumn}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T newProjection(Class<T> type, Map<String, Object> map, MappingPolicy mappingPolicy, ResultConverter converter) {
+        final MapResultMetadata metadata = MapResultMetadata.forProjection(type);
+        return (T) metadata.newProxy(new QueryResultProxy(map, mappingPolicy, converter, metadata));
+    }
 
-        String columnName = column.value();
-        if(!map.containsKey( columnName )) {
-            throw new NoSuchColumnFoundException( columnName );
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] params) throws Throwable {
+        final MapResultMetadata.Column column = column(method);
+        if (column == null) {
+            if (method.getName().equals("equals") && params!=null && params.length == 1) {
+                return equalsInternal(proxy, params[0]);
+            }
+            if (method.getName().equals("hashCode") && (params==null || params.length == 0)) {
+                return map.hashCode();
+            }
+            if (method.getName().equals("toString") && (params==null || params.length == 0)) {
+                return map.toString();
+            }
+            throw new IllegalStateException("Method " + method + " is not annotated with @ResultColumn");
         }
 
+        final String columnName = column.name;
         Object columnValue = map.get( columnName );
-        if(columnValue==null) return null;
+        if(columnValue==null) {
+            if (!map.containsKey( columnName )) throw new NoSuchColumnFoundException( columnName );
+            return defaultValue(method.getReturnType());
+        }
 
         // If the returned value is a Scala iterable, transform it to a Java iterable first
-        Class iterableLikeInterface = implementsInterface("scala.collection.Iterable", columnValue.getClass());
+        Class iterableLikeInterface = scalaIterableInterface(columnValue.getClass());
         if (iterableLikeInterface!=null) {
             columnValue = transformScalaIterableToJavaIterable(columnValue, iterableLikeInterface);
         }
 
-        if (returnType.isCollectionLike())
-            return new QueryResultBuilder((Iterable)columnValue, converter).to(returnType.getActualType().getType());
+        if (column.collectionLike)
+            return new QueryResultBuilder((Iterable)columnValue, converter).to(column.type);
         else
-            return converter.convert(columnValue, returnType.getType(), mappingPolicy);
+            return converter.convert(columnValue, column.type, mappingPolicy);
+    }
+
+    /**
+     * @return the default value of primitive return types for null values, which the proxy can't return
+     */
+    private static Object defaultValue(Class<?> returnType) {
+        if (!returnType.isPrimitive() || returnType == void.class) return null;
+        if (returnType == boolean.class) return false;
+        if (returnType == char.class) return '\0';
+        if (returnType == byte.class) return (byte) 0;
+        if (returnType == short.class) return (short) 0;
+        if (returnType == int.class) return 0;
+        if (returnType == long.class) return 0L;
+        if (returnType == float.class) return 0f;
+        return 0d;
+    }
+
+    private MapResultMetadata.Column column(Method method) {
+        if (metadata != null) return metadata.getColumn(method);
+        return MapResultMetadata.forType(method.getDeclaringClass()).getColumn(method);
     }
+
     public Object transformScalaIterableToJavaIterable(Object scalaIterable, Class iterableLikeIface) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         // This is equivalent to doing this:
         // JavaConversions.asJavaIterable(((IterableLike) columnValue).toIterable());
 
-        Class<?> javaConversions = iterableLikeIface.getClassLoader().loadClass("scala.collection.JavaConversions");
-        Method asJavaIterable = javaConversions.getMethod("asJavaIterable", iterableLikeIface);
+        Method asJavaIterable = scalaConversions.get(iterableLikeIface);
+        if (asJavaIterable == null) {
+            Class<?> javaConversions = iterableLikeIface.getClassLoader().loadClass("scala.collection.JavaConversions");
+            asJavaIterable = javaConversions.getMethod("asJavaIterable", iterableLikeIface);
+            scalaConversions.put(iterableLikeIface, asJavaIterable);
+        }
         Iterable<?> javaIterable = (Iterable<?>) asJavaIterable.invoke(null, scalaIterable);
         return javaIterable;
     }
+
+    private Class scalaIterableInterface(Class<?> type) {
+        Class<?> iface = scalaIterableTypes.get(type);
+        if (iface == null) {
+            iface = implementsInterface(SCALA_ITERABLE, type);
+            scalaIterableTypes.put(type, iface != null ? iface : NOT_SCALA);
+        }
+        return iface == NOT_SCALA ? null : iface;
+    }
+
     private Class implementsInterface(String interfaceName, Class clazz) {
-        if(clazz.getCanonicalName().equals(interfaceName)) return clazz;
+        if(interfaceName.equals(clazz.getName())) return clazz;
 
         Class superclass = clazz.getSuperclass();
         if(superclass != null) {
@@ -0,0 +1,408 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.importer;
+
+import org.neo4j.graphdb.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.core.UncategorizedGraphStoreException;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
+
+/**
+ * Imports a stream of records as entities in three pipeline stages connected by bounded queues:
+ * <ol>
+ * <li>the caller passes the records to a {@link Session}, it blocks while the mapping stage is behind</li>
+ * <li>a configurable number of threads map the records to entities with the {@link Mapper}</li>
+ * <li>a single thread writes the entities with the {@link Writer} in the order of the records and commits every
+ * chunk of records</li>
+ * </ol>
+ * Mapping runs without a transaction, the mapper must not rely on entities of the same import being readable.
+ * Entities with a unique property are resolved while writing by {@link Neo4jTemplate#save(Object)}, the single writer
+ * thread avoids races between records sharing a unique key.
+ * <p/>
+ * An interrupted import can be continued by passing {@link ImportProgress#getCommitted()} of the last
+ * {@link Listener#chunkCommitted(ImportProgress) committed chunk} to {@link #setResumeFrom(long)} and the same records
+ * to the new session, the leading records up to that position are skipped.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityImporter<R> {
+    private final static Logger log = LoggerFactory.getLogger(EntityImporter.class);
+
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Maps a record to an entity, an {@link Iterable} of entities or null to skip it. Called concurrently.
+     */
+    public interface Mapper<R> {
+        Object map(R record);
+    }
+
+    /**
+     * Writes the result of the {@link Mapper}, called by a single thread within the transaction of the current chunk.
+     */
+    public interface Writer {
+        void write(Object mapped, Neo4jTemplate template);
+    }
+
+    public interface Listener {
+        void chunkCommitted(ImportProgress progress);
+    }
+
+    /**
+     * Saves the mapped entity or each of the mapped entities.
+     */
+    public static final Writer SAVE = new Writer() {
+        @Override
+        public void write(Object mapped, Neo4jTemplate template) {
+            if (mapped instanceof Iterable) {
+                for (Object entity : (Iterable<?>) mapped) {
+                    template.save(entity);
+                }
+            } else {
+                template.save(mapped);
+            }
+        }
+    };
+
+    private final Neo4jTemplate template;
+    private final Mapper<R> mapper;
+    private Writer writer = SAVE;
+    private Listener listener;
+    private int mappingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private long resumeFrom;
+
+    public EntityImporter(Neo4jTemplate template, Mapper<R> mapper) {
+        notNull(template, "template", mapper, "mapper");
+        this.template = template;
+        this.mapper = mapper;
+    }
+
+    public void setWriter(Writer writer) {
+        notNull(writer, "writer");
+        this.writer = writer;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public void setMappingThreads(int mappingThreads) {
+        if (mappingThreads < 1) throw new IllegalArgumentException("Number of mapping threads must be positive but was " + mappingThreads);
+        this.mappingThreads = mappingThreads;
+    }
+
+    /**
+     * @param queueSize capacity of the queues between the stages
+     */
+    public void setQueueSize(int queueSize) {
+        if (queueSize < 1) throw new IllegalArgumentException("Queue size must be positive but was " + queueSize);
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * @param chunkSize number of records written per transaction
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be positive but was " + chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param resumeFrom number of leading records to skip, as reported by {@link ImportProgress#getCommitted()}
+     */
+    public void setResumeFrom(long resumeFrom) {
+        if (resumeFrom < 0) throw new IllegalArgumentException("Resume position must not be negative but was " + resumeFrom);
+        this.resumeFrom = resumeFrom;
+    }
+
+    /**
+     * Imports all records and waits for the import to finish.
+     */
+    public ImportProgress run(Iterable<? extends R> records) {
+        notNull(records, "records");
+        final Session session = start();
+        try {
+            for (R record : records) {
+                session.add(record);
+            }
+        } catch (RuntimeException e) {
+            session.abort();
+            throw e;
+        }
+        return session.finish();
+    }
+
+    /**
+     * Starts the mapping and writing threads, the session has to be {@link Session#finish() finished} or
+     * {@link Session#abort() aborted}.
+     */
+    public Session start() {
+        return new Session();
+    }
+
+    private static class Item<T> {
+        final long sequence;
+        final T value;
+
+        Item(long sequence, T value) {
+            this.sequence = sequence;
+            this.value = value;
+        }
+    }
+
+    private static final Comparator<Item<?>> BY_SEQUENCE = new Comparator<Item<?>>() {
+        @Override
+        public int compare(Item<?> item1, Item<?> item2) {
+            return item1.sequence < item2.sequence ? -1 : item1.sequence == item2.sequence ? 0 : 1;
+        }
+    };
+
+    public class Session {
+        private final Item<R> endOfRecords = new Item<R>(-1, null);
+        private final Item<Object> endOfMapped = new Item<Object>(-1, null);
+
+        private final BlockingQueue<Item<R>> records = new ArrayBlockingQueue<Item<R>>(queueSize);
+        private final BlockingQueue<Item<Object>> mapped = new ArrayBlockingQueue<Item<Object>>(queueSize);
+        private final ExecutorService executor;
+        private final Future<?> writing;
+        private final AtomicInteger runningMappers = new AtomicInteger(mappingThreads);
+        private final long start = System.currentTimeMillis();
+
+        private long read;
+        private final AtomicLong mappedCount = new AtomicLong();
+        private volatile long written;
+        private volatile long committed = resumeFrom;
+        private volatile long chunks;
+        private volatile Throwable failure;
+        private boolean finished;
+
+        Session() {
+            executor = Executors.newFixedThreadPool(mappingThreads + 1, new ImportThreadFactory());
+            writing = executor.submit(new Runnable() {
+                public void run() {
+                    write();
+                }
+            });
+            for (int i = 0; i < mappingThreads; i++) {
+                executor.execute(new Runnable() {
+                    public void run() {
+                        map();
+                    }
+                });
+            }
+        }
+
+        /**
+         * Passes a record to the mapping stage, blocks while its queue is full.
+         * @throws RuntimeException the failure of the mapping or writing stage
+         */
+        public void add(R record) {
+            if (finished) throw new IllegalStateException("Import session has already been finished");
+            checkFailure();
+            read++;
+            if (read <= resumeFrom) return;
+            final Item<R> item = new Item<R>(read, record);
+            try {
+                while (!records.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    checkFailure();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                checkFailure();
+            }
+        }
+
+        /**
+         * Waits until all added records are written.
+         * @return the final progress
+         * @throws RuntimeException the failure of the mapping or writing stage
+         */
+        public ImportProgress finish() {
+            if (!finished) {
+                finished = true;
+                for (int i = 0; i < mappingThreads; i++) {
+                    putUninterruptibly(records, endOfRecords);
+                }
+            }
+            try {
+                writing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } catch (ExecutionException e) {
+                fail(e.getCause());
+            } finally {
+                executor.shutdown();
+            }
+            checkFailure();
+            final ImportProgress progress = getProgress();
+            if (log.isInfoEnabled()) log.info("Import finished: " + progress);
+            return progress;
+        }
+
+        /**
+         * Stops the import, records of uncommitted chunks are discarded.
+         */
+        public void abort() {
+            fail(new IllegalStateException("Import session was aborted"));
+            try {
+                finish();
+            } catch (RuntimeException expected) {
+                // the abort itself
+            }
+        }
+
+        public ImportProgress getProgress() {
+            return new ImportProgress(read, mappedCount.get(), written, committed, chunks, System.currentTimeMillis() - start);
+        }
+
+        private void map() {
+            try {
+                while (true) {
+                    final Item<R> item = records.take();
+                    if (item == endOfRecords) break;
+                    if (failure != null) continue;
+                    try {
+                        final Object entity = mapper.map(item.value);
+                        mappedCount.incrementAndGet();
+                        mapped.put(new Item<Object>(item.sequence, entity));
+                    } catch (Throwable t) {
+                        fail(t);
+                    }
+                }
+            } catch (InterruptedException e) {
+                fail(e);
+            } finally {
+                if (runningMappers.decrementAndGet() == 0) putUninterruptibly(mapped, endOfMapped);
+            }
+        }
+
+        /**
+         * Mapped records arrive out of order, they are held back until all preceding records are written. So each
+         * commit covers all records up to its last one and a resumed import can skip exactly that prefix.
+         */
+        private void write() {
+            final PriorityQueue<Item<Object>> pending = new PriorityQueue<Item<Object>>(mappingThreads + 1, BY_SEQUENCE);
+            long next = resumeFrom + 1;
+            long chunk = 0;
+            Transaction tx = null;
+            try {
+                while (true) {
+                    final Item<Object> item = mapped.take();
+                    if (item == endOfMapped) break;
+                    if (failure != null) continue;
+                    pending.add(item);
+                    try {
+                        while (!pending.isEmpty() && pending.peek().sequence == next) {
+                            final Item<Object> current = pending.poll();
+                            if (tx == null) tx = template.getGraphDatabase().beginTx();
+                            if (current.value != null) writer.write(current.value, template);
+                            next++;
+                            if (++chunk < chunkSize) continue;
+                            commit(tx, chunk, next - 1);
+                            tx = null;
+                            chunk = 0;
+                        }
+                    } catch (Throwable t) {
+                        fail(t);
+                        tx = rollback(tx);
+                    }
+                }
+                if (tx != null && failure == null) {
+                    commit(tx, chunk, next - 1);
+                    tx = null;
+                }
+            } catch (InterruptedException e) {
+                fail(e);
+            } finally {
+                rollback(tx);
+            }
+        }
+
+        private void commit(Transaction tx, long chunk, long position) {
+            tx.success();
+            tx.finish();
+            written += chunk;
+            chunks++;
+            committed = position;
+            if (listener != null) listener.chunkCommitted(getProgress());
+        }
+
+        private Transaction rollback(Transaction tx) {
+            if (tx == null) return null;
+            tx.failure();
+            tx.finish();
+            return null;
+        }
+
+        private void fail(Throwable t) {
+            if (failure == null) failure = t;
+        }
+
+        private void checkFailure() {
+            final Throwable t = failure;
+            if (t == null) return;
+            if (t instanceof Error) throw (Error) t;
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            throw new UncategorizedGraphStoreException("Error importing records", t);
+        }
+
+        private <T> void putUninterruptibly(BlockingQueue<T> queue, T item) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    queue.put(item);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ImportThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "entity-import-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
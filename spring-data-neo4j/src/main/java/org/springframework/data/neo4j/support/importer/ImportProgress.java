@@ -0,0 +1,84 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.importer;
+
+/**
+ * Counters of a running or finished {@link EntityImporter} session.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class ImportProgress {
+    private final long read;
+    private final long mapped;
+    private final long written;
+    private final long committed;
+    private final long chunks;
+    private final long elapsedMillis;
+
+    ImportProgress(long read, long mapped, long written, long committed, long chunks, long elapsedMillis) {
+        this.read = read;
+        this.mapped = mapped;
+        this.written = written;
+        this.committed = committed;
+        this.chunks = chunks;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return number of records passed to the session, including the skipped ones when resuming
+     */
+    public long getRead() {
+        return read;
+    }
+
+    public long getMapped() {
+        return mapped;
+    }
+
+    /**
+     * @return number of records whose entities were written and committed
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * @return number of leading records that are all committed, pass it to {@link EntityImporter#setResumeFrom(long)}
+     * to continue an interrupted import
+     */
+    public long getCommitted() {
+        return committed;
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRecordsPerSecond() {
+        return elapsedMillis == 0 ? 0 : written * 1000d / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("read %d, mapped %d, written %d in %d chunks, committed up to %d, %d ms (%.1f records/s)",
+                read, mapped, written, chunks, committed, elapsedMillis, getRecordsPerSecond());
+    }
+}
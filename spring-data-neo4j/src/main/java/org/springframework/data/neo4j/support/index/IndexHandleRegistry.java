@@ -0,0 +1,100 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.index;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.index.Index;
+import org.springframework.data.neo4j.core.GraphDatabase;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent registry of the index handles of one graph database, keyed by index name and indexed type (node or
+ * relationship). Remembers the {@link IndexType} an index was verified against, so repeated creation requests don't
+ * need to compare the index configuration again.
+ * <p/>
+ * Handles whose index was deleted directly via the Neo4j API become stale, see {@link ResolvingIndex}. Stale handles are
+ * looked up or created again on the next request for the index.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class IndexHandleRegistry {
+
+    private final GraphDatabase graphDatabase;
+    private final ConcurrentMap<String, ResolvingIndex<?>> nodeIndexes = new ConcurrentHashMap<String, ResolvingIndex<?>>();
+    private final ConcurrentMap<String, ResolvingIndex<?>> relationshipIndexes = new ConcurrentHashMap<String, ResolvingIndex<?>>();
+
+    public IndexHandleRegistry(GraphDatabase graphDatabase) {
+        this.graphDatabase = graphDatabase;
+    }
+
+    /**
+     * @return the index with this name, a node index takes precedence over a relationship index
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends PropertyContainer> Index<T> getIndex(String indexName) {
+        ResolvingIndex<?> index = nodeIndexes.get(indexName);
+        if (index == null) index = relationshipIndexes.get(indexName);
+        if (index != null && !index.isStale()) return (Index<T>) index;
+        return register(graphDatabase.<T>getIndex(indexName), null);
+    }
+
+    /**
+     * @return the index, which is only looked up or created in the database if it wasn't already verified against
+     * the given index type
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends PropertyContainer> Index<T> createIndex(Class<T> type, String indexName, IndexType indexType) {
+        final ResolvingIndex<?> index = indexesFor(type).get(indexName);
+        if (index != null && !index.isStale() && index.getIndexType() == indexType) return (Index<T>) index;
+        return register(graphDatabase.createIndex(type, indexName, indexType), indexType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends PropertyContainer> Index<T> register(Index<T> index, IndexType indexType) {
+        if (index == null) return null;
+        final ConcurrentMap<String, ResolvingIndex<?>> indexes = indexesFor(index.getEntityType());
+        final ResolvingIndex<?> existing = indexes.get(index.getName());
+        if (indexType == null && existing != null && !existing.isStale()) return (Index<T>) existing;
+        final ResolvingIndex<T> handle = ResolvingIndex.wrap(graphDatabase, index, indexType);
+        indexes.put(index.getName(), handle);
+        return handle;
+    }
+
+    public void invalidate(String indexName) {
+        nodeIndexes.remove(indexName);
+        relationshipIndexes.remove(indexName);
+    }
+
+    public void invalidateAll() {
+        nodeIndexes.clear();
+        relationshipIndexes.clear();
+    }
+
+    public int size() {
+        return nodeIndexes.size() + relationshipIndexes.size();
+    }
+
+    private ConcurrentMap<String, ResolvingIndex<?>> indexesFor(Class<?> type) {
+        if (Node.class.isAssignableFrom(type)) return nodeIndexes;
+        if (Relationship.class.isAssignableFrom(type)) return relationshipIndexes;
+        throw new IllegalArgumentException("Unknown Graph Primitive, neither Node nor Relationship" + type);
+    }
+}
@@ -34,11 +34,26 @@ public interface IndexProvider {
 
     boolean isNode(Class<? extends PropertyContainer> type);
 
-    // TODO handle existing indexes
+    /**
+     * Returns an existing index if its configuration matches, creates it otherwise. Index handles are cached per name
+     * and entity type, so only the first call for each index accesses the database.
+     */
     @SuppressWarnings("unchecked")
     <T extends PropertyContainer> Index<T> createIndex(Class<T> propertyContainerType, String indexName,
             IndexType fullText);
 
+    /**
+     * deletes the index, if it exists, and removes its cached handle
+     */
+    void deleteIndex(String indexName);
+
+    /**
+     * removes the cached handle of the index, so it is looked up again on next use
+     */
+    void invalidateIndex(String indexName);
+
+    void invalidateIndexes();
+
     <S extends PropertyContainer> Index<S> getIndex(Neo4jPersistentProperty property, final Class<?> instanceType);
     /**
      * adjust your indexName for the "__types__" indices
@@ -32,9 +32,11 @@ import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
  */
 public class IndexProviderImpl implements IndexProvider {
     private final GraphDatabase graphDatabase;
+    private final IndexHandleRegistry indexHandles;
 
     public IndexProviderImpl(GraphDatabase graphDatabase) {
         this.graphDatabase = graphDatabase;
+        this.indexHandles = new IndexHandleRegistry(graphDatabase);
     }
 
     @Override
@@ -74,7 +76,7 @@ public class IndexProviderImpl implements IndexProvider {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends PropertyContainer> Index<T> getIndex(String indexName) {
-        return graphDatabase.getIndex(indexName);
+        return indexHandles.getIndex(indexName);
     }
 
     @Override
@@ -84,11 +86,32 @@ public class IndexProviderImpl implements IndexProvider {
         throw new IllegalArgumentException("Unknown Graph Primitive, neither Node nor Relationship" + type);
     }
 
-    // TODO handle existing indexes
     @Override
     @SuppressWarnings("unchecked")
     public <T extends PropertyContainer> Index<T> createIndex(Class<T> propertyContainerType, String indexName, IndexType fullText) {
-        return graphDatabase.createIndex(propertyContainerType, indexName, fullText);
+        return indexHandles.createIndex(propertyContainerType, indexName, fullText);
+    }
+
+    @Override
+    public void deleteIndex(String indexName) {
+        indexHandles.invalidate(indexName);
+        final Index<PropertyContainer> index;
+        try {
+            index = graphDatabase.getIndex(indexName);
+        } catch (NoSuchIndexException e) {
+            return;
+        }
+        if (index != null) index.delete();
+    }
+
+    @Override
+    public void invalidateIndex(String indexName) {
+        indexHandles.invalidate(indexName);
+    }
+
+    @Override
+    public void invalidateIndexes() {
+        indexHandles.invalidateAll();
     }
 
     @Override
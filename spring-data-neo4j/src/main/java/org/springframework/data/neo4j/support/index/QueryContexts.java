@@ -0,0 +1,80 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.index;
+
+import org.apache.lucene.search.FieldCache;
+import org.apache.lucene.search.SortField;
+import org.neo4j.index.lucene.QueryContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the {@link QueryContext} that lets Lucene sort and limit the hits of an index query, instead of iterating
+ * over all of them.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public abstract class QueryContexts {
+    /**
+     * Sorting by this property sorts by relevance.
+     */
+    public static final String SCORE = "score";
+
+    /**
+     * @param query       query string, Lucene query object or a {@link QueryContext} that is amended
+     * @param sort        sort order by entity properties, if null the hits are sorted by relevance
+     * @param top         maximum number of hits to retrieve, 0 for all of them
+     * @param entityClass indexed entity class, used to sort numerically indexed properties by their numeric value
+     */
+    public static QueryContext create(Object query, Sort sort, int top, Neo4jTemplate template, Class<?> entityClass) {
+        final QueryContext context = query instanceof QueryContext ? (QueryContext) query : new QueryContext(query);
+        if (sort == null) {
+            context.sortByScore();
+        } else {
+            context.sort(new org.apache.lucene.search.Sort(sortFields(sort, template, entityClass)));
+        }
+        if (top > 0) context.top(top);
+        return context;
+    }
+
+    private static SortField[] sortFields(Sort sort, Neo4jTemplate template, Class<?> entityClass) {
+        final List<SortField> fields = new ArrayList<SortField>();
+        for (Sort.Order order : sort) {
+            fields.add(sortField(order, template.getPersistentProperty(entityClass, order.getProperty())));
+        }
+        return fields.toArray(new SortField[fields.size()]);
+    }
+
+    private static SortField sortField(Sort.Order order, Neo4jPersistentProperty property) {
+        final boolean reverse = !order.isAscending();
+        if (property == null) {
+            if (SCORE.equals(order.getProperty())) return new SortField(null, SortField.SCORE, !reverse);
+            return new SortField(order.getProperty(), SortField.STRING, reverse);
+        }
+        final String field = property.isIndexed() ? property.getIndexInfo().getIndexKey() : property.getName();
+        if (!property.isIndexedNumerically()) return new SortField(field, SortField.STRING, reverse);
+        final Class<?> type = property.getType();
+        if (type == Long.class || type == long.class) return new SortField(field, FieldCache.NUMERIC_UTILS_LONG_PARSER, reverse);
+        if (type == Double.class || type == double.class) return new SortField(field, FieldCache.NUMERIC_UTILS_DOUBLE_PARSER, reverse);
+        if (type == Float.class || type == float.class) return new SortField(field, FieldCache.NUMERIC_UTILS_FLOAT_PARSER, reverse);
+        return new SortField(field, FieldCache.NUMERIC_UTILS_INT_PARSER, reverse);
+    }
+}
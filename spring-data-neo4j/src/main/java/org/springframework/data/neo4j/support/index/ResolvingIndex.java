@@ -0,0 +1,261 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.index;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.index.Index;
+import org.neo4j.graphdb.index.IndexHits;
+import org.neo4j.graphdb.index.RelationshipIndex;
+import org.springframework.data.neo4j.core.GraphDatabase;
+
+/**
+ * Cached index handle that notices when its index was deleted, e.g. directly via the Neo4j API. Reads on such a stale
+ * handle look the index up again, without creating it, and are retried once if the database returned a different
+ * handle, e.g. because the index was recreated in the meantime. Writes are never replayed, they fail and leave the
+ * handle stale, so that the {@link IndexHandleRegistry} resolves the index again for the next caller.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class ResolvingIndex<T extends PropertyContainer> implements Index<T> {
+    private final GraphDatabase graphDatabase;
+    private final String indexName;
+    private final Class<T> entityType;
+    private volatile IndexType indexType;
+    private volatile Index<T> delegate;
+    private volatile boolean stale;
+
+    ResolvingIndex(GraphDatabase graphDatabase, Index<T> delegate, IndexType indexType) {
+        this.graphDatabase = graphDatabase;
+        this.delegate = delegate;
+        this.indexName = delegate.getName();
+        this.entityType = delegate.getEntityType();
+        this.indexType = indexType;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends PropertyContainer> ResolvingIndex<T> wrap(GraphDatabase graphDatabase, Index<T> index, IndexType indexType) {
+        if (index instanceof RelationshipIndex) {
+            return (ResolvingIndex<T>) new ResolvingRelationshipIndex(graphDatabase, (RelationshipIndex) index, indexType);
+        }
+        return new ResolvingIndex<T>(graphDatabase, index, indexType);
+    }
+
+    /**
+     * @return the index type this handle was verified against, or null if it was looked up by name
+     */
+    IndexType getIndexType() {
+        return indexType;
+    }
+
+    /**
+     * @return true if an operation failed because the index was deleted and it couldn't be looked up again
+     */
+    boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * @return true if the operation failed because the index of the handle was deleted
+     */
+    static boolean isDeletedIndex(RuntimeException e) {
+        return e instanceof IllegalStateException && e.getMessage() != null && e.getMessage().contains("has been deleted");
+    }
+
+    protected abstract class Operation<R> {
+        protected abstract R on(Index<T> index);
+
+        R read() {
+            final Index<T> index = delegate;
+            try {
+                return on(index);
+            } catch (RuntimeException e) {
+                if (!isDeletedIndex(e)) throw e;
+                return on(resolveAgain(index, e));
+            }
+        }
+
+        R write() {
+            try {
+                return on(delegate);
+            } catch (RuntimeException e) {
+                if (isDeletedIndex(e)) stale = true;
+                throw e;
+            }
+        }
+    }
+
+    private synchronized Index<T> resolveAgain(Index<T> failed, RuntimeException cause) {
+        if (delegate != failed) return delegate;
+        final Index<T> resolved;
+        try {
+            resolved = graphDatabase.getIndex(indexName);
+        } catch (NoSuchIndexException e) {
+            stale = true;
+            throw cause;
+        }
+        if (resolved == null || resolved == failed || !entityType.equals(resolved.getEntityType())) {
+            stale = true;
+            throw cause;
+        }
+        delegate = resolved;
+        indexType = null;
+        return resolved;
+    }
+
+    @Override
+    public String getName() {
+        return indexName;
+    }
+
+    @Override
+    public Class<T> getEntityType() {
+        return entityType;
+    }
+
+    @Override
+    public IndexHits<T> get(final String key, final Object value) {
+        return new Operation<IndexHits<T>>() {
+            protected IndexHits<T> on(Index<T> index) {
+                return index.get(key, value);
+            }
+        }.read();
+    }
+
+    @Override
+    public IndexHits<T> query(final String key, final Object queryOrQueryObject) {
+        return new Operation<IndexHits<T>>() {
+            protected IndexHits<T> on(Index<T> index) {
+                return index.query(key, queryOrQueryObject);
+            }
+        }.read();
+    }
+
+    @Override
+    public IndexHits<T> query(final Object queryOrQueryObject) {
+        return new Operation<IndexHits<T>>() {
+            protected IndexHits<T> on(Index<T> index) {
+                return index.query(queryOrQueryObject);
+            }
+        }.read();
+    }
+
+    @Override
+    public boolean isWriteable() {
+        return delegate.isWriteable();
+    }
+
+    @Override
+    public GraphDatabaseService getGraphDatabase() {
+        return delegate.getGraphDatabase();
+    }
+
+    @Override
+    public void add(final T entity, final String key, final Object value) {
+        new Operation<Void>() {
+            protected Void on(Index<T> index) {
+                index.add(entity, key, value);
+                return null;
+            }
+        }.write();
+    }
+
+    @Override
+    public void remove(final T entity, final String key, final Object value) {
+        new Operation<Void>() {
+            protected Void on(Index<T> index) {
+                index.remove(entity, key, value);
+                return null;
+            }
+        }.write();
+    }
+
+    @Override
+    public void remove(final T entity, final String key) {
+        new Operation<Void>() {
+            protected Void on(Index<T> index) {
+                index.remove(entity, key);
+                return null;
+            }
+        }.write();
+    }
+
+    @Override
+    public void remove(final T entity) {
+        new Operation<Void>() {
+            protected Void on(Index<T> index) {
+                index.remove(entity);
+                return null;
+            }
+        }.write();
+    }
+
+    @Override
+    public void delete() {
+        delegate.delete();
+    }
+
+    @Override
+    public T putIfAbsent(final T entity, final String key, final Object value) {
+        return new Operation<T>() {
+            protected T on(Index<T> index) {
+                return index.putIfAbsent(entity, key, value);
+            }
+        }.write();
+    }
+
+    @Override
+    public String toString() {
+        return "ResolvingIndex[" + indexName + ", " + entityType.getSimpleName() + "]";
+    }
+
+    static class ResolvingRelationshipIndex extends ResolvingIndex<Relationship> implements RelationshipIndex {
+
+        ResolvingRelationshipIndex(GraphDatabase graphDatabase, RelationshipIndex delegate, IndexType indexType) {
+            super(graphDatabase, delegate, indexType);
+        }
+
+        @Override
+        public IndexHits<Relationship> get(final String key, final Object valueOrNull, final Node startNodeOrNull, final Node endNodeOrNull) {
+            return new Operation<IndexHits<Relationship>>() {
+                protected IndexHits<Relationship> on(Index<Relationship> index) {
+                    return ((RelationshipIndex) index).get(key, valueOrNull, startNodeOrNull, endNodeOrNull);
+                }
+            }.read();
+        }
+
+        @Override
+        public IndexHits<Relationship> query(final String key, final Object queryOrQueryObjectOrNull, final Node startNodeOrNull, final Node endNodeOrNull) {
+            return new Operation<IndexHits<Relationship>>() {
+                protected IndexHits<Relationship> on(Index<Relationship> index) {
+                    return ((RelationshipIndex) index).query(key, queryOrQueryObjectOrNull, startNodeOrNull, endNodeOrNull);
+                }
+            }.read();
+        }
+
+        @Override
+        public IndexHits<Relationship> query(final Object queryOrQueryObjectOrNull, final Node startNodeOrNull, final Node endNodeOrNull) {
+            return new Operation<IndexHits<Relationship>>() {
+                protected IndexHits<Relationship> on(Index<Relationship> index) {
+                    return ((RelationshipIndex) index).query(queryOrQueryObjectOrNull, startNodeOrNull, endNodeOrNull);
+                }
+            }.read();
+        }
+    }
+}
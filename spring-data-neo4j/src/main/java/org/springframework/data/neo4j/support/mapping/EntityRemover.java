@@ -19,6 +19,7 @@ import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.fieldaccess.WriteBehindBuffer;
 import org.springframework.data.neo4j.mapping.RelationshipResult;
 
 /**
@@ -50,6 +51,7 @@ public class EntityRemover {
         for (Relationship relationship : node.getRelationships()) {
             removeRelationship(relationship);
         }
+        WriteBehindBuffer.discard(node);
         graphDatabase.remove(node);
     }
 
@@ -61,6 +63,7 @@ public class EntityRemover {
 
     private void removeRelationship(Relationship relationship) {
         relationshipTypeRepresentationStrategy.preEntityRemoval(relationship);
+        WriteBehindBuffer.discard(relationship);
         graphDatabase.remove(relationship);
     }
 
@@ -68,6 +71,7 @@ public class EntityRemover {
         final RelationshipResult result = entityStateHandler.removeRelationshipTo(start, target, type);
         if (result!=null && result.type == RelationshipResult.Type.DELETED) {
             relationshipTypeRepresentationStrategy.preEntityRemoval(result.relationship);
+            WriteBehindBuffer.discard(result.relationship);
         }
     }
 
@@ -0,0 +1,160 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.index.Index;
+import org.neo4j.helpers.collection.ClosableIterable;
+import org.neo4j.index.lucene.ValueContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.fieldaccess.PropertyConverter;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
+
+/**
+ * Rewrites property values that were stored as strings into the native property types configured with
+ * {@link NativePropertyTypes}, including their index entries. Values are read through the conversion service, so
+ * entities stay readable while the migration is running. Changes are committed in batches.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class NativePropertyMigration {
+    private final static Logger log = LoggerFactory.getLogger(NativePropertyMigration.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final Neo4jTemplate template;
+    private final int batchSize;
+
+    public NativePropertyMigration(Neo4jTemplate template) {
+        this(template, DEFAULT_BATCH_SIZE);
+    }
+
+    public NativePropertyMigration(Neo4jTemplate template, int batchSize) {
+        notNull(template, "template");
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive but was " + batchSize);
+        this.template = template;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Migrates all stored instances of the entity type, they are read lazily while the batches are committed.
+     * @return the number of nodes or relationships that were changed
+     */
+    public long migrate(Class<?> entityType) {
+        notNull(entityType, "entity type");
+        final ClosableIterable<PropertyContainer> all = template.getInfrastructure().getTypeRepresentationStrategies().findAll(template.getEntityType(entityType));
+        try {
+            return migrate(entityType, all);
+        } finally {
+            all.close();
+        }
+    }
+
+    /**
+     * @param states are iterated only once, a transaction is committed after each batch
+     * @return the number of the given nodes or relationships that were changed
+     */
+    public long migrate(Class<?> entityType, Iterable<? extends PropertyContainer> states) {
+        notNull(entityType, "entity type", states, "states");
+        final Map<Neo4jPersistentProperty, PropertyConverter> properties = nativeProperties(entityType);
+        if (properties.isEmpty()) return 0;
+        long count = 0;
+        int inBatch = 0;
+        Transaction tx = template.getGraphDatabase().beginTx();
+        try {
+            for (PropertyContainer state : states) {
+                if (migrate(entityType, state, properties)) count++;
+                if (++inBatch < batchSize) continue;
+                tx.success();
+                tx.finish();
+                tx = template.getGraphDatabase().beginTx();
+                inBatch = 0;
+            }
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+        if (log.isInfoEnabled()) log.info("Migrated " + count + " instances of " + entityType + " to native property types");
+        return count;
+    }
+
+    /**
+     * Runs {@link #migrate(Class)} with the given executor.
+     */
+    public Future<Long> migrateInBackground(final Class<?> entityType, TaskExecutor executor) {
+        notNull(entityType, "entity type", executor, "executor");
+        final FutureTask<Long> task = new FutureTask<Long>(new Callable<Long>() {
+            public Long call() throws Exception {
+                return migrate(entityType);
+            }
+        });
+        executor.execute(task);
+        return task;
+    }
+
+    private Map<Neo4jPersistentProperty, PropertyConverter> nativeProperties(Class<?> entityType) {
+        final Map<Neo4jPersistentProperty, PropertyConverter> properties = new LinkedHashMap<Neo4jPersistentProperty, PropertyConverter>();
+        final Neo4jPersistentEntity<?> entity = template.getInfrastructure().getMappingContext().getPersistentEntity(entityType);
+        entity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                if (property.isTransient() || property.isRelationship() || property.isNeo4jPropertyType()) return;
+                if (String.class.equals(property.getPropertyType())) return;
+                if (!property.isSerializablePropertyField(template.getConversionService())) return;
+                properties.put(property, new PropertyConverter(template.getConversionService(), property));
+            }
+        });
+        return properties;
+    }
+
+    private boolean migrate(Class<?> entityType, PropertyContainer state, Map<Neo4jPersistentProperty, PropertyConverter> properties) {
+        boolean changed = false;
+        for (Map.Entry<Neo4jPersistentProperty, PropertyConverter> entry : properties.entrySet()) {
+            final Neo4jPersistentProperty property = entry.getKey();
+            final String key = property.getNeo4jPropertyName();
+            final Object stored = state.getProperty(key, null);
+            if (!(stored instanceof String || stored instanceof String[])) continue;
+            final PropertyConverter converter = entry.getValue();
+            final Object value = converter.serializePropertyValue(converter.deserializePropertyValue(stored));
+            state.setProperty(key, value);
+            if (property.isIndexed()) reindex(entityType, state, property, value);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private void reindex(Class<?> entityType, PropertyContainer state, Neo4jPersistentProperty property, Object value) {
+        final Index<PropertyContainer> index = template.getIndex(property, entityType);
+        final String indexKey = template.getIndexKey(property);
+        index.remove(state, indexKey);
+        if (value instanceof Number && property.getIndexInfo().isNumeric()) value = ValueContext.numeric((Number) value);
+        index.add(state, indexKey, value);
+    }
+}
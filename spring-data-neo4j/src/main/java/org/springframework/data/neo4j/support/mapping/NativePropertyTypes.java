@@ -0,0 +1,70 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opt-in storage profile that maps field types to the native Neo4j property type they are stored as, instead of the
+ * default string representation. With the {@link #defaults()} dates are stored as <code>long</code> milliseconds and
+ * enums as <code>int</code> ordinals. Value objects can be registered with a primitive array property type, a matching
+ * pair of converters has to be added to the conversion service. The converters between enums and their ordinals are
+ * only registered by {@link org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean} if a
+ * profile is configured.
+ * <p/>
+ * Ordinals depend on the declaration order of the enum constants, reordering or inserting constants changes the
+ * meaning of values that are already stored. Enums that are likely to change should be kept as names, either by
+ * registering them with <code>String.class</code> or with <code>@GraphProperty(propertyType = String.class)</code>.
+ * <p/>
+ * Properties with a numeric property type are indexed numerically, so they can be used in range queries. An explicit
+ * {@link org.springframework.data.neo4j.annotation.GraphProperty#propertyType()}, including String, takes precedence.
+ * Existing string values are still read, {@link NativePropertyMigration} rewrites them.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class NativePropertyTypes {
+    private final Map<Class<?>, Class<?>> propertyTypes = new LinkedHashMap<Class<?>, Class<?>>();
+
+    public static NativePropertyTypes defaults() {
+        return new NativePropertyTypes()
+                .register(Date.class, Long.class)
+                .register(Enum.class, Integer.class);
+    }
+
+    /**
+     * @param valueType field type, also applies to its subtypes
+     * @param propertyType type of the stored property value
+     */
+    public NativePropertyTypes register(Class<?> valueType, Class<?> propertyType) {
+        propertyTypes.put(valueType, propertyType);
+        return this;
+    }
+
+    /**
+     * @return the native property type for the field type or null if it is stored in the default way
+     */
+    public Class<?> getPropertyType(Class<?> valueType) {
+        final Class<?> propertyType = propertyTypes.get(valueType);
+        if (propertyType != null) return propertyType;
+        for (Map.Entry<Class<?>, Class<?>> entry : propertyTypes.entrySet()) {
+            if (entry.getKey().isAssignableFrom(valueType)) return entry.getValue();
+        }
+        return null;
+    }
+}
@@ -84,7 +84,7 @@ class Neo4jPersistentPropertyImpl extends AnnotationBasedPersistentProperty<Neo4
         this.hash = getField().hashCode();
         this.relationshipInfo = extractRelationshipInfo(field, ctx);
         this.annotations = extractAnnotations(field);
-        this.propertyType = extractPropertyType();
+        this.propertyType = extractPropertyType(ctx.getNativePropertyTypes());
         this.isAssociation = ctx.isReference(this);
         this.isNeo4jEntityType = isNeo4jPropertyType(getType());
         this.neo4jPropertyName = createNeo4jPropertyName();
@@ -102,10 +102,13 @@ class Neo4jPersistentPropertyImpl extends AnnotationBasedPersistentProperty<Neo4
         return value.trim().isEmpty() ? null : value;
     }
 
-    private Class<?> extractPropertyType() {
+    private Class<?> extractPropertyType(NativePropertyTypes nativePropertyTypes) {
         final GraphProperty graphProperty = getAnnotation(GraphProperty.class);
-        if (graphProperty==null) return String.class;
-        return graphProperty.propertyType();
+        if (graphProperty!=null && !graphProperty.propertyType().equals(GraphProperty.Unset.class)) return graphProperty.propertyType();
+        if (nativePropertyTypes==null) return String.class;
+        final Class<?> valueType = getTypeInformation().isCollectionLike() ? getComponentType() : getType();
+        final Class<?> nativeType = valueType == null ? null : nativePropertyTypes.getPropertyType(valueType);
+        return nativeType == null ? String.class : nativeType;
     }
 
     private String extractDefaultValue() {
@@ -44,6 +44,7 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
     private final TypeMapper<S> typeMapper;
     private final SourceStateTransmitter<S> sourceStateTransmitter;
     private final Neo4jEntityFetchHandler entityFetchHandler;
+    private final ReadOnlyEntityReader readOnlyEntityReader;
 
     public Neo4jEntityConverterImpl(Neo4jMappingContext mappingContext, ConversionService conversionService,
                                     EntityStateHandler entityStateHandler, Neo4jEntityFetchHandler entityFetchHandler,
@@ -55,6 +56,7 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
         this.entityInstantiator = new Neo4jEntityPersister.CachedInstantiator<S>(entityTools.getEntityInstantiator());
         this.typeMapper = entityTools.getTypeMapper();
         this.sourceStateTransmitter = entityTools.getSourceStateTransmitter();
+        this.readOnlyEntityReader = new ReadOnlyEntityReader(conversionService);
     }
 
     @Override
@@ -81,6 +83,9 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
         if (mappingPolicy==null) {
             mappingPolicy = persistentEntity.getMappingPolicy();
         }
+        if (mappingPolicy.readOnly()) {
+            return readOnlyEntityReader.read(source, targetType.getType(), persistentEntity);
+        }
 
         // 4) create object instance
         final R createdEntity = entityInstantiator.createEntityFromState(source, targetType.getType(), mappingPolicy);
@@ -163,8 +163,10 @@ public class Neo4jEntityPersister implements EntityPersister, Neo4jEntityConvert
 
         @Override
         public <R> R read(Class<R> type, S state, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
+            if (state==null) throw new IllegalArgumentException("State must not be null");
+            // read only entities are plain copies, they are not shared
+            if (mappingPolicy != null && mappingPolicy.readOnly()) return delegate.read(type, state, mappingPolicy, template);
             try {
-                if (state==null) throw new IllegalArgumentException("State must not be null");
                 StackedEntityCache.push();
                 if (StackedEntityCache.contains(state, mappingPolicy)) return StackedEntityCache.get(state,mappingPolicy);
                 return StackedEntityCache.add(state, delegate.read(type, state,mappingPolicy, template),mappingPolicy);
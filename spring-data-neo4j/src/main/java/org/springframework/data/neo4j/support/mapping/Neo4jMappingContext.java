@@ -163,6 +163,8 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
 
     private EntityAlias entityAlias=new EntityAlias();
 
+    private NativePropertyTypes nativePropertyTypes;
+
     public EntityAlias getEntityAlias() {
         return entityAlias;
     }
@@ -171,6 +173,17 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         this.entityAlias = entityAlias;
     }
     
+    public NativePropertyTypes getNativePropertyTypes() {
+        return nativePropertyTypes;
+    }
+
+    /**
+     * @param nativePropertyTypes storage profile for the properties, has to be set before entities are added
+     */
+    public void setNativePropertyTypes(NativePropertyTypes nativePropertyTypes) {
+        this.nativePropertyTypes = nativePropertyTypes;
+    }
+
     public boolean isReference(Neo4jPersistentProperty property) {
         for (Annotation annotation : property.getAnnotations()) {
             Boolean isReference = referenceAnnotations.get(annotation);
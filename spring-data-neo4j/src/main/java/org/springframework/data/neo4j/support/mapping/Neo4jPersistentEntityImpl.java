@@ -27,6 +27,7 @@ import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.annotation.GraphVersion;
 import org.springframework.data.neo4j.annotation.NodeEntity;
 import org.springframework.data.neo4j.annotation.RelationshipEntity;
 import org.springframework.data.neo4j.mapping.ManagedEntity;
@@ -50,6 +51,7 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     private Neo4jPersistentProperty relationshipType;
     private StoredEntityType storedType;
     private Neo4jPersistentProperty uniqueProperty;
+    private Neo4jPersistentProperty versionProperty;
     private final boolean shouldUseShortNames;
 
     /**
@@ -82,6 +84,9 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
                 }
             }
         });
+        if (versionProperty != null && !isValidVersionType(versionProperty.getType())) {
+            throw new MappingException("The type of the version-property in " + versionProperty + " must be Long, long, Integer or int");
+        }
         if (isManaged() || getType().isInterface()) {
             return;
         }
@@ -176,6 +181,14 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
                 this.uniqueProperty = property;
             }
         }
+        if (property.getAnnotation(GraphVersion.class) != null) {
+            if (this.versionProperty != null) throw new MappingException("Duplicate version property " + property.getName() + ", " + versionProperty.getName() + " has already been defined. Only one version property is allowed per type");
+            this.versionProperty = property;
+        }
+    }
+
+    private static boolean isValidVersionType(Class<?> type) {
+        return type == Long.class || type == long.class || type == Integer.class || type == int.class;
     }
 
     @Override
@@ -234,4 +247,8 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     public Neo4jPersistentProperty getUniqueProperty() {
         return uniqueProperty;
     }
+
+    public Neo4jPersistentProperty getVersionProperty() {
+        return versionProperty;
+    }
 }
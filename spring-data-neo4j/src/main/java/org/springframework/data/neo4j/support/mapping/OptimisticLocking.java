@@ -0,0 +1,92 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.PropertyContainer;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.springframework.data.neo4j.support.typerepresentation.SubReferenceNodeTypeRepresentationStrategy.acquireWriteLock;
+
+/**
+ * Checks and increments the {@link org.springframework.data.neo4j.annotation.GraphVersion} property of a node or
+ * relationship. Has to run within a transaction, the write lock on the state is taken before the stored version is
+ * read, so concurrent transactions persisting the same entity are serialized and only the first one with the expected
+ * version succeeds.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class OptimisticLocking {
+
+    private OptimisticLocking() {
+    }
+
+    /**
+     * @param expectedVersion the version the entity was read with, states without a stored version are not checked
+     * @return the incremented version, converted to the type of the version property
+     * @throws OptimisticLockingFailureException if the stored version differs from the expected one
+     */
+    public static Object checkAndIncrement(PropertyContainer state, Neo4jPersistentProperty versionProperty, Object expectedVersion) {
+        acquireWriteLock(state);
+        final String propertyName = versionProperty.getNeo4jPropertyName();
+        final Object storedVersion = state.getProperty(propertyName, null);
+        if (storedVersion != null && (expectedVersion == null || toLong(expectedVersion) != toLong(storedVersion))) {
+            throw new OptimisticLockingFailureException("Version " + expectedVersion + " of " + versionProperty.getOwner().getType().getName() + " " + state + " does not match the stored version " + storedVersion);
+        }
+        return store(state, versionProperty, storedVersion);
+    }
+
+    /**
+     * Increments the version without checking it, for entities that were modified within the current transaction.
+     * @return the incremented version, converted to the type of the version property
+     */
+    public static Object increment(PropertyContainer state, Neo4jPersistentProperty versionProperty) {
+        acquireWriteLock(state);
+        return store(state, versionProperty, state.getProperty(versionProperty.getNeo4jPropertyName(), null));
+    }
+
+    /**
+     * Runs the action if the current Spring managed transaction doesn't commit, to restore in-memory versions that
+     * were incremented within it. Does nothing without a Spring managed transaction.
+     */
+    public static void afterRollback(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) action.run();
+            }
+        });
+    }
+
+    private static Object store(PropertyContainer state, Neo4jPersistentProperty versionProperty, Object storedVersion) {
+        final Object version = toPropertyType(storedVersion == null ? 1 : toLong(storedVersion) + 1, versionProperty.getType());
+        state.setProperty(versionProperty.getNeo4jPropertyName(), version);
+        return version;
+    }
+
+    private static long toLong(Object version) {
+        return ((Number) version).longValue();
+    }
+
+    private static Object toPropertyType(long version, Class<?> type) {
+        if (type == Integer.class || type == int.class) return (int) version;
+        return version;
+    }
+}
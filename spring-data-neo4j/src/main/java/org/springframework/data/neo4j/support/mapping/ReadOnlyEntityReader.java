@@ -0,0 +1,114 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import sun.reflect.ReflectionFactory;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates entities for the {@link org.springframework.data.neo4j.mapping.MappingPolicy#READ_ONLY_POLICY} as plain
+ * objects: the id, the stored properties and the relationship type are copied from the node or relationship, related
+ * entities, dynamic properties and query fields are left empty. No entity state is attached, the entities are neither
+ * cached nor tracked, changes to them are not written back.
+ * <p/>
+ * Aspect managed entities are created without invoking their constructor, so the aspect does not attach an entity
+ * state and their fields are accessed directly.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class ReadOnlyEntityReader {
+    private final ConversionService conversionService;
+    private final ConcurrentHashMap<Class<?>, Constructor<?>> constructors = new ConcurrentHashMap<Class<?>, Constructor<?>>();
+
+    public ReadOnlyEntityReader(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    public <R> R read(final PropertyContainer source, Class<R> type, Neo4jPersistentEntityImpl<R> persistentEntity) {
+        final R entity = instantiate(type, persistentEntity.isManaged());
+        if (persistentEntity.getIdProperty() != null) {
+            persistentEntity.setPersistentState(entity, source);
+        }
+        persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                if (property.isRelationshipType() && source instanceof Relationship) {
+                    property.setValue(entity, ((Relationship) source).getType().name());
+                } else if (isStoredProperty(property)) {
+                    property.setValue(entity, readValue(source, property));
+                }
+            }
+        });
+        return entity;
+    }
+
+    private boolean isStoredProperty(Neo4jPersistentProperty property) {
+        return !property.isIdProperty() && !property.isRelationship() && !property.hasQuery()
+                && !property.isStartNode() && !property.isEndNode() && !property.isRelationshipType()
+                && !property.isSyntheticField() && property.getAnnotation(GraphTraversal.class) == null
+                && property.isSerializablePropertyField(conversionService);
+    }
+
+    private Object readValue(PropertyContainer source, Neo4jPersistentProperty property) {
+        final Object value = source.getProperty(property.getNeo4jPropertyName(), null);
+        if (value == null) return property.getDefaultValue(conversionService, property.getType());
+        if (property.getType().isInstance(value)) return value;
+        return conversionService.convert(value, TypeDescriptor.forObject(value), new TypeDescriptor(property.getField()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R instantiate(Class<R> type, boolean managed) {
+        Constructor<?> constructor = constructors.get(type);
+        if (constructor == null) {
+            constructor = managed ? serializationConstructor(type) : noArgConstructor(type);
+            constructors.putIfAbsent(type, constructor);
+        }
+        try {
+            return (R) constructor.newInstance();
+        } catch (Exception e) {
+            throw new MappingException("Error creating read only instance of " + type, e);
+        }
+    }
+
+    private Constructor<?> noArgConstructor(Class<?> type) {
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            if (!constructor.isAccessible()) constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            return serializationConstructor(type);
+        }
+    }
+
+    private Constructor<?> serializationConstructor(Class<?> type) {
+        try {
+            return ReflectionFactory.getReflectionFactory().newConstructorForSerialization(type, Object.class.getDeclaredConstructor());
+        } catch (NoSuchMethodException e) {
+            throw new MappingException("Error creating read only instance of " + type, e);
+        }
+    }
+}
@@ -24,12 +24,14 @@ import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.core.EntityState;
+import org.springframework.data.neo4j.fieldaccess.EntityValidator;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.DoReturn;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.node.EntityStateFactory;
+import org.springframework.util.ObjectUtils;
 
 import java.lang.reflect.InvocationTargetException;
 
@@ -92,12 +94,34 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
         return value;
     }
 
+    /**
+     * The entity keeps the version it was saved with if the increment is not committed, unless it changed since.
+     */
+    private <R> void restoreVersion(BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, Neo4jPersistentProperty versionProperty, Object version, Object previousVersion) {
+        if (ObjectUtils.nullSafeEquals(getProperty(wrapper, versionProperty), version)) {
+            setProperty(wrapper, versionProperty, previousVersion);
+        }
+    }
+
     public <R> void copyPropertiesTo(final BeanWrapper<Neo4jPersistentEntity<R>, R> wrapper, S target, Neo4jPersistentEntity<R> persistentEntity, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
         final Transaction tx = template.getGraphDatabase().beginTx();
+        final EntityValidator.UnitOfWork validation = template.getEntityValidator().begin();
+        final Neo4jPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+        final Object previousVersion = versionProperty != null ? getProperty(wrapper, versionProperty) : null;
         try {
+            validation.add(wrapper.getBean());
             final EntityState<S> entityState = entityStateFactory.getEntityState(wrapper.getBean(), false, template);
             entityState.setPersistentState(target);
             entityState.persist();
+            if (versionProperty != null) {
+                final Object version = OptimisticLocking.checkAndIncrement(target, versionProperty, previousVersion);
+                setProperty(wrapper, versionProperty, version);
+                OptimisticLocking.afterRollback(new Runnable() {
+                    public void run() {
+                        restoreVersion(wrapper, versionProperty, version, previousVersion);
+                    }
+                });
+            }
             // todo take mapping policies for attributes into account
             persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
                 @Override
@@ -113,13 +137,16 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
                     setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy());
                 }
             });
+            validation.complete();
             tx.success();
         } catch(Throwable t) {
 			tx.failure();
+			if (versionProperty != null) setProperty(wrapper, versionProperty, previousVersion);
 			if (t instanceof Error) throw (Error)t;
 			if (t instanceof RuntimeException) throw (RuntimeException)t;
 			throw new org.springframework.data.neo4j.core.UncategorizedGraphStoreException("Error copying properties from "+persistentEntity+" to "+target,t);
         } finally {
+            validation.close();
             tx.finish();
         }
     }
@@ -0,0 +1,450 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.node;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.event.ErrorState;
+import org.neo4j.graphdb.event.KernelEventHandler;
+import org.neo4j.graphdb.event.PropertyEntry;
+import org.neo4j.graphdb.event.TransactionData;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+import org.neo4j.graphdb.index.Index;
+import org.neo4j.graphdb.index.IndexHits;
+import org.neo4j.graphdb.index.IndexManager;
+import org.neo4j.tooling.GlobalGraphOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Baseline state of a (test) database, taken after loading a fixture, that can be restored between tests without
+ * cleaning and reloading the whole database.
+ * <p/>
+ * Committed changes are tracked with a {@link TransactionEventHandler}. Restoring removes the nodes, relationships
+ * and indexes that were added since the baseline and sets changed properties of baseline data back to their original
+ * values, e.g. the instance counters of the sub-reference type representation. Its cost depends on what a test
+ * wrote, not on the size of the fixture. If a test deleted baseline data the database is cleaned and the fixture is
+ * loaded again, which assigns new ids to the fixture data.
+ * <p/>
+ * Index entries of baseline data are recorded when the baseline is taken, for the keys and values of their
+ * properties. When such a property changes, the entries for its key are restored with it. Entries that don't match
+ * a property value, like numeric entries, and index changes without a property change are not tracked.
+ * <p/>
+ * A snapshot tracks changes until it is {@link #release() released} or the database is shut down.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class GraphDatabaseSnapshot {
+
+    /**
+     * Loads the baseline data into an empty database.
+     */
+    public interface Fixture {
+        void load(GraphDatabaseService graphDatabaseService);
+    }
+
+    /**
+     * keeps the snapshots of databases that are in use, entries are removed on release or shutdown
+     */
+    private static final Map<GraphDatabaseService, GraphDatabaseSnapshot> snapshots = new IdentityHashMap<GraphDatabaseService, GraphDatabaseSnapshot>();
+
+    private final GraphDatabaseService graphDatabaseService;
+    private final Fixture fixture;
+    private final ChangeTracker changeTracker = new ChangeTracker();
+    private final ShutdownHandler shutdownHandler = new ShutdownHandler();
+
+    private final Set<Long> createdNodes = new LinkedHashSet<Long>();
+    private final Set<Long> createdRelationships = new LinkedHashSet<Long>();
+    private final Map<Long, Map<String, Object>> changedNodeProperties = new LinkedHashMap<Long, Map<String, Object>>();
+    private final Map<Long, Map<String, Object>> changedRelationshipProperties = new LinkedHashMap<Long, Map<String, Object>>();
+    private final Map<Long, List<IndexEntry>> nodeIndexEntries = new HashMap<Long, List<IndexEntry>>();
+    private final Map<Long, List<IndexEntry>> relationshipIndexEntries = new HashMap<Long, List<IndexEntry>>();
+    private Set<String> nodeIndexNames;
+    private Set<String> relationshipIndexNames;
+    private boolean dirty;
+    private boolean restoring;
+    private boolean released;
+
+    private GraphDatabaseSnapshot(GraphDatabaseService graphDatabaseService, Fixture fixture) {
+        this.graphDatabaseService = graphDatabaseService;
+        this.fixture = fixture;
+    }
+
+    /**
+     * Cleans the database, loads the fixture and records the baseline.
+     * @param fixture may be null for an empty baseline
+     */
+    public static GraphDatabaseSnapshot take(GraphDatabaseService graphDatabaseService, Fixture fixture) {
+        final GraphDatabaseSnapshot snapshot = new GraphDatabaseSnapshot(graphDatabaseService, fixture);
+        snapshot.reload();
+        graphDatabaseService.registerTransactionEventHandler(snapshot.changeTracker);
+        graphDatabaseService.registerKernelEventHandler(snapshot.shutdownHandler);
+        return snapshot;
+    }
+
+    /**
+     * @return the snapshot of the database, it is taken with the given fixture on first access
+     */
+    public static GraphDatabaseSnapshot of(GraphDatabaseService graphDatabaseService, Fixture fixture) {
+        synchronized (snapshots) {
+            GraphDatabaseSnapshot snapshot = snapshots.get(graphDatabaseService);
+            if (snapshot == null) {
+                snapshot = take(graphDatabaseService, fixture);
+                snapshots.put(graphDatabaseService, snapshot);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Releases the snapshot of the database that was taken with {@link #of}, if there is one.
+     */
+    public static void release(GraphDatabaseService graphDatabaseService) {
+        final GraphDatabaseSnapshot snapshot;
+        synchronized (snapshots) {
+            snapshot = snapshots.get(graphDatabaseService);
+        }
+        if (snapshot != null) snapshot.release();
+    }
+
+    /**
+     * Stops tracking changes, the snapshot can't be restored afterwards.
+     */
+    public void release() {
+        synchronized (this) {
+            if (released) return;
+            released = true;
+        }
+        forget();
+        graphDatabaseService.unregisterTransactionEventHandler(changeTracker);
+        graphDatabaseService.unregisterKernelEventHandler(shutdownHandler);
+    }
+
+    private void forget() {
+        synchronized (snapshots) {
+            if (snapshots.get(graphDatabaseService) == this) snapshots.remove(graphDatabaseService);
+        }
+    }
+
+    /**
+     * @return true if restoring will clean the database and reload the fixture
+     */
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    public synchronized void restore() {
+        if (released) throw new IllegalStateException("The snapshot was released");
+        if (dirty) {
+            reload();
+            return;
+        }
+        if (createdNodes.isEmpty() && createdRelationships.isEmpty() && changedNodeProperties.isEmpty()
+                && changedRelationshipProperties.isEmpty() && !hasNewIndexes()) return;
+        restoring = true;
+        final Transaction tx = graphDatabaseService.beginTx();
+        try {
+            final IndexManager indexManager = graphDatabaseService.index();
+            deleteNewIndexes(indexManager);
+            final List<Index<Relationship>> relationshipIndexes = relationshipIndexes(indexManager);
+            for (Long id : createdRelationships) {
+                final Relationship relationship = graphDatabaseService.getRelationshipById(id);
+                removeFromIndexes(relationship, relationshipIndexes);
+                relationship.delete();
+            }
+            final List<Index<Node>> nodeIndexes = nodeIndexes(indexManager);
+            for (Long id : createdNodes) {
+                final Node node = graphDatabaseService.getNodeById(id);
+                removeFromIndexes(node, nodeIndexes);
+                node.delete();
+            }
+            for (Map.Entry<Long, Map<String, Object>> entry : changedRelationshipProperties.entrySet()) {
+                final Relationship relationship = graphDatabaseService.getRelationshipById(entry.getKey());
+                restoreProperties(relationship, entry.getValue());
+                restoreIndexEntries(relationship, entry.getValue().keySet(), relationshipIndexEntries.get(entry.getKey()), relationshipIndexes);
+            }
+            for (Map.Entry<Long, Map<String, Object>> entry : changedNodeProperties.entrySet()) {
+                final Node node = graphDatabaseService.getNodeById(entry.getKey());
+                restoreProperties(node, entry.getValue());
+                restoreIndexEntries(node, entry.getValue().keySet(), nodeIndexEntries.get(entry.getKey()), nodeIndexes);
+            }
+            tx.success();
+        } catch (NotFoundException nfe) {
+            tx.failure();
+            dirty = true;
+        } finally {
+            try {
+                tx.finish();
+            } finally {
+                restoring = false;
+                clearChanges();
+            }
+        }
+        if (dirty) reload();
+    }
+
+    private synchronized void reload() {
+        restoring = true;
+        try {
+            Neo4jHelper.cleanDb(graphDatabaseService);
+            if (fixture != null) {
+                final Transaction tx = graphDatabaseService.beginTx();
+                try {
+                    fixture.load(graphDatabaseService);
+                    tx.success();
+                } finally {
+                    tx.finish();
+                }
+            }
+            final IndexManager indexManager = graphDatabaseService.index();
+            nodeIndexNames = new HashSet<String>(Arrays.asList(indexManager.nodeIndexNames()));
+            relationshipIndexNames = new HashSet<String>(Arrays.asList(indexManager.relationshipIndexNames()));
+            recordIndexEntries(indexManager);
+            clearChanges();
+            dirty = false;
+        } finally {
+            restoring = false;
+        }
+    }
+
+    private void clearChanges() {
+        createdNodes.clear();
+        createdRelationships.clear();
+        changedNodeProperties.clear();
+        changedRelationshipProperties.clear();
+    }
+
+    private void recordIndexEntries(IndexManager indexManager) {
+        nodeIndexEntries.clear();
+        relationshipIndexEntries.clear();
+        final GlobalGraphOperations operations = GlobalGraphOperations.at(graphDatabaseService);
+        final List<Index<Node>> nodeIndexes = new ArrayList<Index<Node>>();
+        for (String name : nodeIndexNames) {
+            nodeIndexes.add(indexManager.forNodes(name));
+        }
+        if (!nodeIndexes.isEmpty()) {
+            for (Node node : operations.getAllNodes()) {
+                recordIndexEntries(node, node.getId(), nodeIndexes, nodeIndexEntries);
+            }
+        }
+        final List<Index<Relationship>> relationshipIndexes = new ArrayList<Index<Relationship>>();
+        for (String name : relationshipIndexNames) {
+            relationshipIndexes.add(indexManager.forRelationships(name));
+        }
+        if (!relationshipIndexes.isEmpty()) {
+            for (Relationship relationship : operations.getAllRelationships()) {
+                recordIndexEntries(relationship, relationship.getId(), relationshipIndexes, relationshipIndexEntries);
+            }
+        }
+    }
+
+    private <T extends PropertyContainer> void recordIndexEntries(T entity, long id, List<Index<T>> indexes, Map<Long, List<IndexEntry>> entries) {
+        for (String key : entity.getPropertyKeys()) {
+            final Object value = entity.getProperty(key);
+            if (value.getClass().isArray()) continue;
+            for (Index<T> index : indexes) {
+                if (!contains(index, key, value, entity)) continue;
+                List<IndexEntry> entityEntries = entries.get(id);
+                if (entityEntries == null) {
+                    entityEntries = new ArrayList<IndexEntry>();
+                    entries.put(id, entityEntries);
+                }
+                entityEntries.add(new IndexEntry(index.getName(), key, value));
+            }
+        }
+    }
+
+    private <T extends PropertyContainer> boolean contains(Index<T> index, String key, Object value, T entity) {
+        final IndexHits<T> hits = index.get(key, value);
+        try {
+            for (T hit : hits) {
+                if (hit.equals(entity)) return true;
+            }
+            return false;
+        } finally {
+            hits.close();
+        }
+    }
+
+    private void restoreProperties(PropertyContainer entity, Map<String, Object> originalValues) {
+        for (Map.Entry<String, Object> entry : originalValues.entrySet()) {
+            if (entry.getValue() == null) entity.removeProperty(entry.getKey());
+            else entity.setProperty(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private <T extends PropertyContainer> void restoreIndexEntries(T entity, Set<String> keys, List<IndexEntry> entries, List<Index<T>> indexes) {
+        for (Index<T> index : indexes) {
+            for (String key : keys) {
+                index.remove(entity, key);
+            }
+            if (entries == null) continue;
+            for (IndexEntry entry : entries) {
+                if (entry.indexName.equals(index.getName()) && keys.contains(entry.key)) {
+                    index.add(entity, entry.key, entry.value);
+                }
+            }
+        }
+    }
+
+    private boolean hasNewIndexes() {
+        final IndexManager indexManager = graphDatabaseService.index();
+        return !nodeIndexNames.containsAll(Arrays.asList(indexManager.nodeIndexNames()))
+                || !relationshipIndexNames.containsAll(Arrays.asList(indexManager.relationshipIndexNames()));
+    }
+
+    private void deleteNewIndexes(IndexManager indexManager) {
+        for (String name : indexManager.nodeIndexNames()) {
+            if (nodeIndexNames.contains(name)) continue;
+            indexManager.forNodes(name).delete();
+        }
+        for (String name : indexManager.relationshipIndexNames()) {
+            if (relationshipIndexNames.contains(name)) continue;
+            indexManager.forRelationships(name).delete();
+        }
+    }
+
+    private List<Index<Node>> nodeIndexes(IndexManager indexManager) {
+        final List<Index<Node>> result = new ArrayList<Index<Node>>();
+        if (createdNodes.isEmpty() && changedNodeProperties.isEmpty()) return result;
+        for (String name : nodeIndexNames) {
+            result.add(indexManager.forNodes(name));
+        }
+        return result;
+    }
+
+    private List<Index<Relationship>> relationshipIndexes(IndexManager indexManager) {
+        final List<Index<Relationship>> result = new ArrayList<Index<Relationship>>();
+        if (createdRelationships.isEmpty() && changedRelationshipProperties.isEmpty()) return result;
+        for (String name : relationshipIndexNames) {
+            result.add(indexManager.forRelationships(name));
+        }
+        return result;
+    }
+
+    private <T extends PropertyContainer> void removeFromIndexes(T entity, List<Index<T>> indexes) {
+        for (Index<T> index : indexes) {
+            index.remove(entity);
+        }
+    }
+
+    private synchronized void committed(TransactionData data) {
+        if (restoring || dirty) return;
+        for (Node node : data.createdNodes()) {
+            createdNodes.add(node.getId());
+        }
+        for (Relationship relationship : data.createdRelationships()) {
+            createdRelationships.add(relationship.getId());
+        }
+        for (Relationship relationship : data.deletedRelationships()) {
+            if (!createdRelationships.remove(relationship.getId())) dirty = true;
+        }
+        for (Node node : data.deletedNodes()) {
+            if (!createdNodes.remove(node.getId())) dirty = true;
+        }
+        if (dirty) return;
+        recordOriginalValues(data.assignedNodeProperties(), createdNodes, changedNodeProperties);
+        recordOriginalValues(data.removedNodeProperties(), createdNodes, changedNodeProperties);
+        recordOriginalValues(data.assignedRelationshipProperties(), createdRelationships, changedRelationshipProperties);
+        recordOriginalValues(data.removedRelationshipProperties(), createdRelationships, changedRelationshipProperties);
+    }
+
+    /**
+     * keeps the first committed value of each changed property of baseline data, null if it didn't exist
+     */
+    private <T extends PropertyContainer> void recordOriginalValues(Iterable<PropertyEntry<T>> entries, Set<Long> created, Map<Long, Map<String, Object>> changed) {
+        for (PropertyEntry<T> entry : entries) {
+            final T entity = entry.entity();
+            final long id = entity instanceof Node ? ((Node) entity).getId() : ((Relationship) entity).getId();
+            if (created.contains(id)) continue;
+            Map<String, Object> originalValues = changed.get(id);
+            if (originalValues == null) {
+                originalValues = new HashMap<String, Object>();
+                changed.put(id, originalValues);
+            }
+            if (!originalValues.containsKey(entry.key())) originalValues.put(entry.key(), entry.previouslyCommitedValue());
+        }
+    }
+
+    private static class IndexEntry {
+        final String indexName;
+        final String key;
+        final Object value;
+
+        IndexEntry(String indexName, String key, Object value) {
+            this.indexName = indexName;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private class ChangeTracker implements TransactionEventHandler<Object> {
+        @Override
+        public Object beforeCommit(TransactionData data) throws Exception {
+            return null;
+        }
+
+        @Override
+        public void afterCommit(TransactionData data, Object state) {
+            committed(data);
+        }
+
+        @Override
+        public void afterRollback(TransactionData data, Object state) {
+        }
+    }
+
+    /**
+     * Forgets the snapshot when its database is shut down without releasing it.
+     */
+    private class ShutdownHandler implements KernelEventHandler {
+        @Override
+        public void beforeShutdown() {
+            synchronized (GraphDatabaseSnapshot.this) {
+                released = true;
+            }
+            forget();
+        }
+
+        @Override
+        public void kernelPanic(ErrorState error) {
+        }
+
+        @Override
+        public Object getResource() {
+            return null;
+        }
+
+        @Override
+        public ExecutionOrder orderComparedTo(KernelEventHandler other) {
+            return ExecutionOrder.DOESNT_MATTER;
+        }
+    }
+}
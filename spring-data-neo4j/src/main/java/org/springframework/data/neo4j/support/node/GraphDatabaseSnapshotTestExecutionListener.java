@@ -0,0 +1,76 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.node;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.util.Map;
+
+/**
+ * Restores the {@link GraphDatabaseSnapshot} of the test context's {@link GraphDatabaseService} after each test
+ * method, instead of cleaning the database with {@link Neo4jHelper#cleanDb(GraphDatabaseService)}. The baseline is
+ * loaded by the single {@link GraphDatabaseSnapshot.Fixture} bean of the context, if there is one. The snapshot is
+ * released after the test class, so that it doesn't track the changes of other tests sharing the cached context.
+ * The cached index handles of the context's templates are invalidated after the restore, as it deletes new indexes.
+ * <p/>
+ * Listeners run their after-methods in reverse order, so list this one before the
+ * {@link org.springframework.test.context.transaction.TransactionalTestExecutionListener} to restore after the
+ * test transaction was rolled back:
+ * <pre>
+ * &#64;TestExecutionListeners({GraphDatabaseSnapshotTestExecutionListener.class,
+ *     DependencyInjectionTestExecutionListener.class, TransactionalTestExecutionListener.class})
+ * </pre>
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class GraphDatabaseSnapshotTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) throws Exception {
+        snapshot(testContext);
+    }
+
+    @Override
+    public void afterTestMethod(TestContext testContext) throws Exception {
+        snapshot(testContext).restore();
+        for (Neo4jTemplate template : testContext.getApplicationContext().getBeansOfType(Neo4jTemplate.class).values()) {
+            template.getInfrastructure().getIndexProvider().invalidateIndexes();
+        }
+    }
+
+    @Override
+    public void afterTestClass(TestContext testContext) throws Exception {
+        GraphDatabaseSnapshot.release(testContext.getApplicationContext().getBean(GraphDatabaseService.class));
+    }
+
+    private GraphDatabaseSnapshot snapshot(TestContext testContext) {
+        final ApplicationContext context = testContext.getApplicationContext();
+        final GraphDatabaseService graphDatabaseService = context.getBean(GraphDatabaseService.class);
+        return GraphDatabaseSnapshot.of(graphDatabaseService, fixture(context));
+    }
+
+    private GraphDatabaseSnapshot.Fixture fixture(ApplicationContext context) {
+        final Map<String, GraphDatabaseSnapshot.Fixture> fixtures = context.getBeansOfType(GraphDatabaseSnapshot.Fixture.class);
+        if (fixtures.isEmpty()) return null;
+        if (fixtures.size() > 1) throw new IllegalStateException("Expected a single GraphDatabaseSnapshot.Fixture bean, found "+fixtures.keySet());
+        return fixtures.values().iterator().next();
+    }
+}
@@ -28,6 +28,7 @@ public abstract class Neo4jHelper {
 
     public static void cleanDb(Neo4jTemplate template) {
         cleanDb(template.getGraphDatabaseService());
+        template.getInfrastructure().getIndexProvider().invalidateIndexes();
     }
 
     public static void dumpDb(GraphDatabaseService gds) {
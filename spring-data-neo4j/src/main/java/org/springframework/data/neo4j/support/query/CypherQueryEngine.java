@@ -47,7 +47,7 @@ public class CypherQueryEngine implements QueryEngine<Map<String,Object>> {
     public Result<Map<String, Object>> query(String statement, Map<String, Object> params) {
         try {
             ExecutionResult result = parseAndExecuteQuery(statement,params);
-            return new QueryResultBuilder<Map<String,Object>>(result,resultConverter);
+            return new QueryResultBuilder<Map<String,Object>>(result,resultConverter,result.columns());
         } catch (Exception e) {
             throw new InvalidDataAccessResourceUsageException("Error executing statement " + statement, e);
         }
@@ -29,15 +29,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.script.*;
+import java.lang.ref.SoftReference;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Executes gremlin statements against an embedded database. Statements are compiled once and kept in a bounded LRU
+ * cache keyed by the statement text, parameters are only passed in as bindings. Cached scripts are softly referenced
+ * so they can be reclaimed under memory pressure. As the script engine keeps the classes of all compiled scripts,
+ * it is replaced (together with the cache) after {@link #REFRESH_ENGINE_COUNT} compilations.
+ * <p/>
+ * The graph wrapper is created for each execution, as it reads the list of indexes only when it is constructed.
+ */
 public class GremlinExecutor {
 
     public static final Logger log = LoggerFactory.getLogger(GremlinExecutor.class);
     public static final int REFRESH_ENGINE_COUNT = 10000;
+    public static final int DEFAULT_SCRIPT_CACHE_SIZE = 500;
     private static final String GRAPH_VARIABLE = "g";
     private volatile ScriptEngine engine;
 
@@ -45,11 +55,22 @@ public class GremlinExecutor {
         return new ScriptEngineManager().getEngineByName("gremlin-groovy");
     }
 
-    private static final AtomicInteger executionCount = new AtomicInteger();
+    private final AtomicInteger compilationCount = new AtomicInteger();
     private final GraphDatabaseService graphDatabaseService;
+    private final Map<String, SoftReference<CompiledScript>> scripts;
 
     public GremlinExecutor(GraphDatabaseService graphDatabaseService) {
+        this(graphDatabaseService, DEFAULT_SCRIPT_CACHE_SIZE);
+    }
+
+    public GremlinExecutor(GraphDatabaseService graphDatabaseService, final int scriptCacheSize) {
         this.graphDatabaseService = graphDatabaseService;
+        this.scripts = Collections.synchronizedMap(new LinkedHashMap<String, SoftReference<CompiledScript>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SoftReference<CompiledScript>> eldest) {
+                return size() > scriptCacheSize;
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -58,17 +79,33 @@ public class GremlinExecutor {
             if (log.isDebugEnabled()) log.debug(String.format("Executing gremlin query: %s params %s",statement,params));
 
             final Bindings bindings = createBindings(params);
-            final ScriptEngine engine = engine();
-            final Object result = engine.eval(statement, bindings);
+            final CompiledScript script = compiledScript(statement);
+            final Object result = script != null ? script.eval(bindings) : engine().eval(statement, bindings);
             return getRepresentation(result);
         } catch (final ScriptException e) {
             throw new RuntimeException("Error executing statement " + statement, e);
         }
     }
 
+    private CompiledScript compiledScript(String statement) throws ScriptException {
+        final SoftReference<CompiledScript> cached = scripts.get(statement);
+        CompiledScript script = cached != null ? cached.get() : null;
+        if (script != null) return script;
+        final ScriptEngine engine = engine();
+        if (!(engine instanceof Compilable)) return null;
+        script = ((Compilable) engine).compile(statement);
+        scripts.put(statement, new SoftReference<CompiledScript>(script));
+        compilationCount.incrementAndGet();
+        return script;
+    }
+
+    public int getCachedScriptCount() {
+        return scripts.size();
+    }
+
     private Bindings createBindings(Map<String, Object> params) {
         final Bindings bindings = new SimpleBindings();
-        bindings.put(GRAPH_VARIABLE, new Neo4jGraph(graphDatabaseService,false));
+        bindings.put(GRAPH_VARIABLE, new Neo4jGraph(graphDatabaseService, false));
         if (params==null) return bindings;
         for (Map.Entry<String, Object> entry : params.entrySet()) {
             bindings.put(entry.getKey(),entry.getValue());
@@ -77,9 +114,14 @@ public class GremlinExecutor {
     }
 
     private ScriptEngine engine() {
-        if (engine == null || executionCount.incrementAndGet() > REFRESH_ENGINE_COUNT) {
-            executionCount.set(0);
-            this.engine = createScriptEngine();
+        if (engine == null || compilationCount.get() >= REFRESH_ENGINE_COUNT) {
+            synchronized (this) {
+                if (engine == null || compilationCount.get() >= REFRESH_ENGINE_COUNT) {
+                    scripts.clear();
+                    compilationCount.set(0);
+                    this.engine = createScriptEngine();
+                }
+            }
         }
         return this.engine;
     }
@@ -15,14 +15,40 @@
  */
 package org.springframework.data.neo4j.support.query;
 
+import org.springframework.core.convert.ConversionService;
 import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
+import org.springframework.data.neo4j.support.mapping.NativePropertyTypes;
 
 import java.lang.reflect.Array;
 import java.util.*;
 
 public class QueryParameterConverter {
+    private static final Neo4jConversionServiceFactoryBean.EnumToStringConverter ENUM_CONVERTER = new Neo4jConversionServiceFactoryBean.EnumToStringConverter();
+    private static final Neo4jConversionServiceFactoryBean.DateToStringConverter DATE_CONVERTER = new Neo4jConversionServiceFactoryBean.DateToStringConverter();
+
+    private final ConversionService conversionService;
+    private final NativePropertyTypes nativePropertyTypes;
+
+    public QueryParameterConverter() {
+        this(null, null);
+    }
+
+    /**
+     * Values of types with a native property type are converted to it with the conversion service, like the
+     * arguments of repository query methods, so they match the stored properties. Other dates and enums are
+     * converted to strings.
+     */
+    public QueryParameterConverter(ConversionService conversionService, NativePropertyTypes nativePropertyTypes) {
+        this.conversionService = conversionService;
+        this.nativePropertyTypes = conversionService != null ? nativePropertyTypes : null;
+    }
+
+    /**
+     * @return the converted parameters, or the given map itself if none of its values has to be converted
+     */
     public Map<String, Object> convert(Map<String, Object> parameters) {
         if (parameters == null) return Collections.emptyMap();
+        if (!needsConversion(parameters)) return parameters;
 
         HashMap<String, Object> convertedParameters = new HashMap<String, Object>();
 
@@ -33,14 +59,27 @@ public class QueryParameterConverter {
         return convertedParameters;
     }
 
+    private boolean needsConversion(Map<String, Object> parameters) {
+        for (Object parameter : parameters.values()) {
+            if (parameter == null) continue;
+            if (parameter instanceof Enum || parameter instanceof Date || parameter instanceof Iterable || parameter.getClass().isArray()) return true;
+            if (nativePropertyType(parameter.getClass()) != null) return true;
+        }
+        return false;
+    }
+
     private Object convertParameter(Object parameter) {
         if (parameter == null) return null;
 
+        final Class<?> nativeType = nativePropertyType(parameter.getClass());
+        if (nativeType != null)
+            return conversionService.convert(parameter, nativeType);
+
         if (parameter.getClass().isEnum())
-            return new Neo4jConversionServiceFactoryBean.EnumToStringConverter().convert((Enum) parameter);
+            return ENUM_CONVERTER.convert((Enum) parameter);
 
         if (parameter instanceof Date)
-            return new Neo4jConversionServiceFactoryBean.DateToStringConverter().convert((Date) parameter);
+            return DATE_CONVERTER.convert((Date) parameter);
 
         if (parameter.getClass().isArray())
             return convertArray(parameter);
@@ -51,6 +90,10 @@ public class QueryParameterConverter {
         return parameter;
     }
 
+    private Class<?> nativePropertyType(Class<?> type) {
+        return nativePropertyTypes == null ? null : nativePropertyTypes.getPropertyType(type);
+    }
+
     private Object convertArray(Object parameter) {
         Class<?> componentType = parameter.getClass().getComponentType();
 
@@ -0,0 +1,220 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.routing;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.ReturnableEvaluator;
+import org.neo4j.graphdb.StopEvaluator;
+import org.neo4j.graphdb.Traverser;
+import org.neo4j.helpers.collection.IterableWrapper;
+import org.springframework.data.neo4j.core.GraphDatabase;
+
+/**
+ * A node read from a read target of a {@link RoutingGraphDatabase}. Reads go to the read target until the first
+ * write, which looks up the node on the primary by its id. From then on the primary's node is used, so the changes
+ * are read back. Nodes and relationships reached from it are wrapped as well.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class ReadTargetNode implements Node {
+    private final Node readState;
+    private final GraphDatabase primary;
+    private volatile Node primaryState;
+
+    ReadTargetNode(Node readState, GraphDatabase primary) {
+        this.readState = readState;
+        this.primary = primary;
+    }
+
+    static Node onPrimary(Node node) {
+        return node instanceof ReadTargetNode ? ((ReadTargetNode) node).write() : node;
+    }
+
+    private Node read() {
+        final Node state = primaryState;
+        return state != null ? state : readState;
+    }
+
+    private Node write() {
+        if (primaryState == null) primaryState = primary.getNodeById(readState.getId());
+        return primaryState;
+    }
+
+    private Relationship wrap(Relationship relationship) {
+        if (relationship == null || primaryState != null) return relationship;
+        return new ReadTargetRelationship(relationship, primary);
+    }
+
+    private Iterable<Relationship> wrap(Iterable<Relationship> relationships) {
+        if (primaryState != null) return relationships;
+        return new IterableWrapper<Relationship, Relationship>(relationships) {
+            @Override
+            protected Relationship underlyingObjectToObject(Relationship relationship) {
+                return new ReadTargetRelationship(relationship, primary);
+            }
+        };
+    }
+
+    @Override
+    public long getId() {
+        return readState.getId();
+    }
+
+    @Override
+    public void delete() {
+        write().delete();
+    }
+
+    @Override
+    public Iterable<Relationship> getRelationships() {
+        return wrap(read().getRelationships());
+    }
+
+    @Override
+    public boolean hasRelationship() {
+        return read().hasRelationship();
+    }
+
+    @Override
+    public Iterable<Relationship> getRelationships(RelationshipType... types) {
+        return wrap(read().getRelationships(types));
+    }
+
+    @Override
+    public Iterable<Relationship> getRelationships(Direction direction, RelationshipType... types) {
+        return wrap(read().getRelationships(direction, types));
+    }
+
+    @Override
+    public boolean hasRelationship(RelationshipType... types) {
+        return read().hasRelationship(types);
+    }
+
+    @Override
+    public boolean hasRelationship(Direction direction, RelationshipType... types) {
+        return read().hasRelationship(direction, types);
+    }
+
+    @Override
+    public Iterable<Relationship> getRelationships(Direction dir) {
+        return wrap(read().getRelationships(dir));
+    }
+
+    @Override
+    public boolean hasRelationship(Direction dir) {
+        return read().hasRelationship(dir);
+    }
+
+    @Override
+    public Iterable<Relationship> getRelationships(RelationshipType type, Direction dir) {
+        return wrap(read().getRelationships(type, dir));
+    }
+
+    @Override
+    public boolean hasRelationship(RelationshipType type, Direction dir) {
+        return read().hasRelationship(type, dir);
+    }
+
+    @Override
+    public Relationship getSingleRelationship(RelationshipType type, Direction dir) {
+        return wrap(read().getSingleRelationship(type, dir));
+    }
+
+    @Override
+    public Relationship createRelationshipTo(Node otherNode, RelationshipType type) {
+        return write().createRelationshipTo(onPrimary(otherNode), type);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Traverser traverse(Traverser.Order traversalOrder, StopEvaluator stopEvaluator, ReturnableEvaluator returnableEvaluator, RelationshipType relationshipType, Direction direction) {
+        return read().traverse(traversalOrder, stopEvaluator, returnableEvaluator, relationshipType, direction);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Traverser traverse(Traverser.Order traversalOrder, StopEvaluator stopEvaluator, ReturnableEvaluator returnableEvaluator, RelationshipType firstRelationshipType, Direction firstDirection, RelationshipType secondRelationshipType, Direction secondDirection) {
+        return read().traverse(traversalOrder, stopEvaluator, returnableEvaluator, firstRelationshipType, firstDirection, secondRelationshipType, secondDirection);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Traverser traverse(Traverser.Order traversalOrder, StopEvaluator stopEvaluator, ReturnableEvaluator returnableEvaluator, Object... relationshipTypesAndDirections) {
+        return read().traverse(traversalOrder, stopEvaluator, returnableEvaluator, relationshipTypesAndDirections);
+    }
+
+    @Override
+    public GraphDatabaseService getGraphDatabase() {
+        return read().getGraphDatabase();
+    }
+
+    @Override
+    public boolean hasProperty(String key) {
+        return read().hasProperty(key);
+    }
+
+    @Override
+    public Object getProperty(String key) {
+        return read().getProperty(key);
+    }
+
+    @Override
+    public Object getProperty(String key, Object defaultValue) {
+        return read().getProperty(key, defaultValue);
+    }
+
+    @Override
+    public void setProperty(String key, Object value) {
+        write().setProperty(key, value);
+    }
+
+    @Override
+    public Object removeProperty(String key) {
+        return write().removeProperty(key);
+    }
+
+    @Override
+    public Iterable<String> getPropertyKeys() {
+        return read().getPropertyKeys();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Iterable<Object> getPropertyValues() {
+        return read().getPropertyValues();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Node && ((Node) other).getId() == getId();
+    }
+
+    @Override
+    public int hashCode() {
+        final long id = getId();
+        return (int) (id ^ (id >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "Node[" + getId() + "] of read target";
+    }
+}
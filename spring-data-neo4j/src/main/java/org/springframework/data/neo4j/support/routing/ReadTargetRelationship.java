@@ -0,0 +1,155 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.routing;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.springframework.data.neo4j.core.GraphDatabase;
+
+/**
+ * A relationship read from a read target of a {@link RoutingGraphDatabase}, see {@link ReadTargetNode}.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+class ReadTargetRelationship implements Relationship {
+    private final Relationship readState;
+    private final GraphDatabase primary;
+    private volatile Relationship primaryState;
+
+    ReadTargetRelationship(Relationship readState, GraphDatabase primary) {
+        this.readState = readState;
+        this.primary = primary;
+    }
+
+    static Relationship onPrimary(Relationship relationship) {
+        return relationship instanceof ReadTargetRelationship ? ((ReadTargetRelationship) relationship).write() : relationship;
+    }
+
+    private Relationship read() {
+        final Relationship state = primaryState;
+        return state != null ? state : readState;
+    }
+
+    private Relationship write() {
+        if (primaryState == null) primaryState = primary.getRelationshipById(readState.getId());
+        return primaryState;
+    }
+
+    private Node wrap(Node node) {
+        if (primaryState != null) return node;
+        return new ReadTargetNode(node, primary);
+    }
+
+    @Override
+    public long getId() {
+        return readState.getId();
+    }
+
+    @Override
+    public void delete() {
+        write().delete();
+    }
+
+    @Override
+    public Node getStartNode() {
+        return wrap(read().getStartNode());
+    }
+
+    @Override
+    public Node getEndNode() {
+        return wrap(read().getEndNode());
+    }
+
+    @Override
+    public Node getOtherNode(Node node) {
+        return wrap(read().getOtherNode(node));
+    }
+
+    @Override
+    public Node[] getNodes() {
+        return new Node[]{getStartNode(), getEndNode()};
+    }
+
+    @Override
+    public RelationshipType getType() {
+        return readState.getType();
+    }
+
+    @Override
+    public boolean isType(RelationshipType type) {
+        return readState.isType(type);
+    }
+
+    @Override
+    public GraphDatabaseService getGraphDatabase() {
+        return read().getGraphDatabase();
+    }
+
+    @Override
+    public boolean hasProperty(String key) {
+        return read().hasProperty(key);
+    }
+
+    @Override
+    public Object getProperty(String key) {
+        return read().getProperty(key);
+    }
+
+    @Override
+    public Object getProperty(String key, Object defaultValue) {
+        return read().getProperty(key, defaultValue);
+    }
+
+    @Override
+    public void setProperty(String key, Object value) {
+        write().setProperty(key, value);
+    }
+
+    @Override
+    public Object removeProperty(String key) {
+        return write().removeProperty(key);
+    }
+
+    @Override
+    public Iterable<String> getPropertyKeys() {
+        return read().getPropertyKeys();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Iterable<Object> getPropertyValues() {
+        return read().getPropertyValues();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Relationship && ((Relationship) other).getId() == getId();
+    }
+
+    @Override
+    public int hashCode() {
+        final long id = getId();
+        return (int) (id ^ (id >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "Relationship[" + getId() + "] of read target";
+    }
+}
@@ -0,0 +1,285 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.routing;
+
+import org.neo4j.graphdb.Lock;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.index.Index;
+import org.neo4j.graphdb.traversal.TraversalDescription;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.neo4j.annotation.QueryType;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.support.index.IndexType;
+import org.springframework.data.neo4j.support.query.QueryEngine;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.transaction.TransactionManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.neo4j.support.ParameterCheck.notNull;
+
+/**
+ * Routes reads to one of several read targets, e.g. the slaves of a Neo4j HA cluster or
+ * {@code SpringRestGraphDatabase}s of other servers, and everything else to the primary database.
+ * <p/>
+ * Outside of a write context node and relationship lookups as well as Cypher statements without updating clauses go
+ * to the read target chosen by the {@link ReadTargetSelector}, which covers {@code findOne}, {@code findAll} and
+ * repository queries. A write context is a Spring managed transaction that is not read-only, a transaction begun with
+ * {@link #beginTx()} or a running transaction of the primary. Writes, Gremlin, indexes and transactions always use the
+ * primary.
+ * <p/>
+ * The read targets have to be replicas of the primary, reads may see their replication lag. Nodes and relationships
+ * looked up by id outside of a write context are read from the read target until they are changed, the first write
+ * looks them up on the primary by id and applies the change there. Nodes and relationships returned by Cypher
+ * statements belong to the read target, they must not be changed unless the read target forwards writes to the
+ * primary like a HA slave does.
+ *
+ * @author agent
+ * @since 19.10.26
+ */
+public class RoutingGraphDatabase implements GraphDatabase {
+    private static final Pattern UPDATING_CLAUSE = Pattern.compile("\\b(create|set|delete|remove|relate|foreach|merge)\\b", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Chooses the read target of a read, called concurrently.
+     */
+    public interface ReadTargetSelector {
+        GraphDatabase select(List<GraphDatabase> readTargets);
+    }
+
+    public static class RoundRobin implements ReadTargetSelector {
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public GraphDatabase select(List<GraphDatabase> readTargets) {
+            return readTargets.get((next.getAndIncrement() & Integer.MAX_VALUE) % readTargets.size());
+        }
+    }
+
+    private final GraphDatabase primary;
+    private final List<GraphDatabase> readTargets;
+    private final ThreadLocal<Integer> openTransactions = new ThreadLocal<Integer>();
+    private ReadTargetSelector readTargetSelector = new RoundRobin();
+
+    public RoutingGraphDatabase(GraphDatabase primary, List<? extends GraphDatabase> readTargets) {
+        notNull(primary, "primary", readTargets, "readTargets");
+        this.primary = primary;
+        this.readTargets = Collections.unmodifiableList(new ArrayList<GraphDatabase>(readTargets));
+    }
+
+    public void setReadTargetSelector(ReadTargetSelector readTargetSelector) {
+        notNull(readTargetSelector, "readTargetSelector");
+        this.readTargetSelector = readTargetSelector;
+    }
+
+    public GraphDatabase getPrimary() {
+        return primary;
+    }
+
+    public List<GraphDatabase> getReadTargets() {
+        return readTargets;
+    }
+
+    public boolean isWriteContext() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return openTransactions.get() != null || primary.transactionIsRunning();
+    }
+
+    /**
+     * @return the database for a read of the current thread
+     */
+    public GraphDatabase readTarget() {
+        if (readTargets.isEmpty() || isWriteContext()) return primary;
+        return readTargetSelector.select(readTargets);
+    }
+
+    private GraphDatabase queryTarget(QueryType type, String statement) {
+        if (type != QueryType.Cypher || UPDATING_CLAUSE.matcher(statement).find()) return primary;
+        return readTarget();
+    }
+
+    @Override
+    public Node getReferenceNode() {
+        final GraphDatabase target = readTarget();
+        return target == primary ? primary.getReferenceNode() : new ReadTargetNode(target.getReferenceNode(), primary);
+    }
+
+    @Override
+    public Node getNodeById(long id) {
+        final GraphDatabase target = readTarget();
+        return target == primary ? primary.getNodeById(id) : new ReadTargetNode(target.getNodeById(id), primary);
+    }
+
+    @Override
+    public Node createNode(Map<String, Object> props) {
+        return primary.createNode(props);
+    }
+
+    @Override
+    public Node getOrCreateNode(String indexName, String key, Object value, Map<String, Object> properties) {
+        return primary.getOrCreateNode(indexName, key, value, properties);
+    }
+
+    @Override
+    public Relationship getRelationshipById(long id) {
+        final GraphDatabase target = readTarget();
+        return target == primary ? primary.getRelationshipById(id) : new ReadTargetRelationship(target.getRelationshipById(id), primary);
+    }
+
+    @Override
+    public Relationship createRelationship(Node startNode, Node endNode, RelationshipType type, Map<String, Object> properties) {
+        return primary.createRelationship(ReadTargetNode.onPrimary(startNode), ReadTargetNode.onPrimary(endNode), type, properties);
+    }
+
+    @Override
+    public Relationship getOrCreateRelationship(String indexName, String key, Object value, Node startNode, Node endNode, String type, Map<String, Object> properties) {
+        return primary.getOrCreateRelationship(indexName, key, value, ReadTargetNode.onPrimary(startNode), ReadTargetNode.onPrimary(endNode), type, properties);
+    }
+
+    @Override
+    public void remove(Node node) {
+        primary.remove(ReadTargetNode.onPrimary(node));
+    }
+
+    @Override
+    public void remove(Relationship relationship) {
+        primary.remove(ReadTargetRelationship.onPrimary(relationship));
+    }
+
+    /**
+     * Indexes are cached and also used for writes, so they always belong to the primary.
+     */
+    @Override
+    public <T extends PropertyContainer> Index<T> getIndex(String indexName) {
+        return primary.getIndex(indexName);
+    }
+
+    @Override
+    public <T extends PropertyContainer> Index<T> createIndex(Class<T> type, String indexName, IndexType indexType) {
+        return primary.createIndex(type, indexName, indexType);
+    }
+
+    @Override
+    public TraversalDescription traversalDescription() {
+        return primary.traversalDescription();
+    }
+
+    @Override
+    public <T> QueryEngine<T> queryEngineFor(final QueryType type) {
+        return new QueryEngine<T>() {
+            @Override
+            public Result<T> query(String statement, Map<String, Object> params) {
+                return queryTarget(type, statement).<T>queryEngineFor(type).query(statement, params);
+            }
+        };
+    }
+
+    @Override
+    public <T> QueryEngine<T> queryEngineFor(final QueryType type, final ResultConverter resultConverter) {
+        return new QueryEngine<T>() {
+            @Override
+            public Result<T> query(String statement, Map<String, Object> params) {
+                return queryTarget(type, statement).<T>queryEngineFor(type, resultConverter).query(statement, params);
+            }
+        };
+    }
+
+    @Override
+    public void setConversionService(ConversionService conversionService) {
+        primary.setConversionService(conversionService);
+        for (GraphDatabase readTarget : readTargets) {
+            readTarget.setConversionService(conversionService);
+        }
+    }
+
+    @Override
+    public void setResultConverter(ResultConverter resultConverter) {
+        primary.setResultConverter(resultConverter);
+        for (GraphDatabase readTarget : readTargets) {
+            readTarget.setResultConverter(resultConverter);
+        }
+    }
+
+    @Override
+    public boolean transactionIsRunning() {
+        return openTransactions.get() != null || primary.transactionIsRunning();
+    }
+
+    @Override
+    public TransactionManager getTransactionManager() {
+        return primary.getTransactionManager();
+    }
+
+    /**
+     * Begins a transaction of the primary, until it is finished the current thread reads from the primary.
+     */
+    @Override
+    public Transaction beginTx() {
+        final Transaction tx = primary.beginTx();
+        final Integer open = openTransactions.get();
+        openTransactions.set(open == null ? 1 : open + 1);
+        return new Transaction() {
+            private boolean finished;
+
+            @Override
+            public void failure() {
+                tx.failure();
+            }
+
+            @Override
+            public void success() {
+                tx.success();
+            }
+
+            @Override
+            public void finish() {
+                try {
+                    tx.finish();
+                } finally {
+                    if (!finished) {
+                        finished = true;
+                        final Integer open = openTransactions.get();
+                        if (open == null || open <= 1) openTransactions.remove();
+                        else openTransactions.set(open - 1);
+                    }
+                }
+            }
+
+            @Override
+            public Lock acquireWriteLock(PropertyContainer entity) {
+                return tx.acquireWriteLock(entity);
+            }
+
+            @Override
+            public Lock acquireReadLock(PropertyContainer entity) {
+                return tx.acquireReadLock(entity);
+            }
+        };
+    }
+}
@@ -30,8 +30,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.NodeTypeRepresentationStrategy;
+import org.springframework.data.neo4j.core.SplittableTypeRepresentationStrategy;
+import org.springframework.data.neo4j.core.TypeSplit;
 import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,11 +44,14 @@ import java.util.List;
  * graph database. Entity nodes are related to their concrete type via an INSTANCE_OF relationship, the type hierarchy is
  * related to supertypes via SUBCLASS_OF relationships. Each concrete subreference node keeps a count property with the number of
  * instances of this class in the graph.
+ * <p/>
+ * The instances can be split by subreference node, the size of each split is estimated from the counters of the
+ * subreference node and of its direct subtypes.
  *
  * @author Michael Hunger
  * @since 13.09.2010
  */
-public class SubReferenceNodeTypeRepresentationStrategy implements NodeTypeRepresentationStrategy {
+public class SubReferenceNodeTypeRepresentationStrategy implements NodeTypeRepresentationStrategy, SplittableTypeRepresentationStrategy<Node> {
     private final static Logger log = LoggerFactory.getLogger(SubReferenceNodeTypeRepresentationStrategy.class);
 
     public final static RelationshipType INSTANCE_OF_RELATIONSHIP_TYPE = DynamicRelationshipType.withName("INSTANCE_OF");
@@ -176,15 +182,38 @@ public class SubReferenceNodeTypeRepresentationStrategy implements NodeTypeRepre
             final List<Iterable<Node>> entityIterables = this.findEntityIterables(relationship.getStartNode());
             result.addAll(entityIterables);
 		}
-		Iterable<Node> t = new IterableWrapper<Node, Relationship>(subrefNode.getRelationships(INSTANCE_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+		result.add(instancesOf(subrefNode));
+		return result;
+	}
+
+    private Iterable<Node> instancesOf(Node subrefNode) {
+        return new IterableWrapper<Node, Relationship>(subrefNode.getRelationships(INSTANCE_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
             @Override
             protected Node underlyingObjectToObject(final Relationship rel) {
                 return rel.getStartNode();
             }
         };
-		result.add(t);
-		return result;
-	}
+    }
+
+    @Override
+    public List<TypeSplit<Node>> findAllSplits(final StoredEntityType type) {
+        final List<TypeSplit<Node>> result = new ArrayList<TypeSplit<Node>>();
+        addSplits(findSubreferenceNode(type), result);
+        return result;
+    }
+
+    private void addSplits(Node subrefNode, List<TypeSplit<Node>> result) {
+        if (subrefNode == null) return;
+        long directInstances = (Integer) subrefNode.getProperty(SUBREFERENCE_NODE_COUNTER_KEY, 0);
+        for (Relationship relationship : subrefNode.getRelationships(SUBCLASS_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+            final Node subTypeNode = relationship.getStartNode();
+            directInstances -= (Integer) subTypeNode.getProperty(SUBREFERENCE_NODE_COUNTER_KEY, 0);
+            addSplits(subTypeNode, result);
+        }
+        if (!subrefNode.hasRelationship(INSTANCE_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) return;
+        final Object alias = subrefNode.getProperty(SUBREF_CLASS_KEY, null);
+        result.add(new TypeSplit<Node>(alias, Math.max(directInstances, 0), instancesOf(subrefNode)));
+    }
 
 
 	public Node obtainSubreferenceNode(final StoredEntityType type) {
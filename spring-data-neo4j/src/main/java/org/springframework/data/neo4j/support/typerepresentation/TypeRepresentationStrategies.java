@@ -19,10 +19,15 @@ import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.helpers.collection.ClosableIterable;
+import org.springframework.data.neo4j.core.SplittableTypeRepresentationStrategy;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.core.TypeSplit;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author mh
  * @since 12.10.11
@@ -81,6 +86,26 @@ public class TypeRepresentationStrategies implements TypeRepresentationStrategy<
         return (ClosableIterable<PropertyContainer>) getTypeRepresentationStrategy(type).findAll(type);
     }
 
+    /**
+     * @return the splits of a {@link SplittableTypeRepresentationStrategy}, otherwise a single split with all instances
+     */
+    @SuppressWarnings("unchecked")
+    public List<TypeSplit<PropertyContainer>> findAllSplits(StoredEntityType type) {
+        final TypeRepresentationStrategy<?> strategy = getTypeRepresentationStrategy(type);
+        if (strategy instanceof SplittableTypeRepresentationStrategy) {
+            return (List) ((SplittableTypeRepresentationStrategy<?>) strategy).findAllSplits(type);
+        }
+        return Collections.singletonList(new TypeSplit<PropertyContainer>(type.getAlias(), estimatedCount(strategy, type), findAll(type)));
+    }
+
+    private long estimatedCount(TypeRepresentationStrategy<?> strategy, StoredEntityType type) {
+        try {
+            return strategy.count(type);
+        } catch (UnsupportedOperationException e) {
+            return TypeSplit.UNKNOWN_SIZE;
+        }
+    }
+
     @Override
     public long count(StoredEntityType type) {
         return getTypeRepresentationStrategy(type).count(type);
@@ -23,6 +23,8 @@ import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.index.Index;
 import org.neo4j.graphdb.traversal.TraversalDescription;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.annotation.QueryType;
 import org.springframework.data.neo4j.conversion.EndResult;
 import org.springframework.data.neo4j.conversion.Result;
@@ -32,7 +34,9 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.repository.GraphRepository;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * A template with convenience operations, exception translation and implicit transaction for modifying methods
@@ -188,6 +192,12 @@ public interface Neo4jOperations {
      */
     <T extends PropertyContainer> Result<T> lookup(String indexName, Object query);
 
+    /**
+     * The query is executed on the index of the property of the entity class, Lucene only retrieves the hits up to the
+     * requested page in the requested sort order, by default by relevance. The total is the number of all hits.
+     */
+    <T> Page<T> findAllByQuery(Class<T> entityClass, String propertyName, Object query, Pageable pageable);
+
     /**
      * Provides a cypher or gremlin query engine set up with a default entity converter.
      */
@@ -199,6 +209,12 @@ public interface Neo4jOperations {
      */
     Result<Map<String, Object>> query(String statement, Map<String, Object> params);
 
+    /**
+     * Runs the given cypher statement in its own read-only transaction on the template's task executor. The rows are
+     * fetched completely by the background task, conversions via {@link Result#to} happen when they are requested.
+     */
+    Future<Result<Map<String, Object>>> queryAsync(String statement, Map<String, Object> params);
+
     /**
      * Executes the given Gremlin statement and returns the result packaged as Result as Neo4j types, not
      * Gremlin types. The Neo4j-Graph is provided as variable "g". Table rows are converted to Map<String,Object>.
@@ -235,6 +251,12 @@ public interface Neo4jOperations {
      * @return mapped entity or null
      */
     <T> T findOne(long id, Class<T> type);
+
+    /**
+     * Loads the node or relationship entity in its own read-only transaction on the template's task executor.
+     */
+    <T> Future<T> findOneAsync(long id, Class<T> type);
+
     /**
      * Provides all instances of a given entity type using the typerepresentation strategy configured for this template.
      * This method is also provided by the appropriate repository.
@@ -249,7 +271,9 @@ public interface Neo4jOperations {
 
     /**
      * Projects a node or relationship entity to a different type. This can be used to use the same, schema free data
-     * in different contexts.
+     * in different contexts. If the target type is a projection interface, its getters read only the corresponding
+     * properties of the node or relationship on access.
+     * @see org.springframework.data.neo4j.support.conversion.Projections
      */
     <T> T projectTo(Object entity, Class<T> targetType);
 
@@ -286,6 +310,12 @@ public interface Neo4jOperations {
      */
     <T> T fetch(T value);
 
+    /**
+     * loads the provided nodes as entities of the given type. Fields annotated with <code>@Query(cached=true)</code>
+     * are evaluated with one query for all nodes if their query allows it.
+     */
+    <T> List<T> loadAll(Iterable<? extends Node> nodes, Class<T> type);
+
     /**
      * loades the provided node or relationship to be used as an entity of the given type
      */
@@ -18,6 +18,8 @@ package org.springframework.data.neo4j.annotation.relatedtovia;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
@@ -25,12 +27,15 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
+
 import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.junit.matchers.JUnitMatchers.hasItem;
+import static org.neo4j.helpers.collection.IteratorUtil.count;
 import static org.neo4j.helpers.collection.IteratorUtil.first;
 import static org.springframework.data.neo4j.SetHelper.asSet;
 import static org.springframework.data.neo4j.annotation.RelationshipDelegates.getRelationshipNames;
@@ -158,6 +163,27 @@ public class RelatedToViaTests {
         assertThat(getRelationshipNames(template, bulls), is(equalTo(asSet("starter", "substitute"))));
     }
 
+    @Test
+    public void shouldSaveRelationshipEntityCollectionAndRemoveMissingOnes() throws Exception {
+        TubeStation bank = new TubeStation("Bank");
+        for (int i = 0; i < 50; i++) {
+            TubeStation destination = tfl.save(new TubeStation("Station " + i));
+            bank.connectsTo(destination, CENTRAL_LINE);
+        }
+
+        tfl.save(bank);
+
+        assertThat(count(template.getNode(bank.getId()).getRelationships(DynamicRelationshipType.withName("route"), Direction.OUTGOING)), is(50));
+
+        bank = tfl.findOne(bank.getId());
+        Iterator<Line> lines = bank.getLines().iterator();
+        lines.next();
+        lines.remove();
+        tfl.save(bank);
+
+        assertThat(count(template.getNode(bank.getId()).getRelationships(DynamicRelationshipType.withName("route"), Direction.OUTGOING)), is(49));
+    }
+
     @Test
     public void shouldValidateEndNode() throws Exception {
         TubeStation mileEnd = new TubeStation("East Ham");
@@ -32,6 +32,7 @@ import java.util.Set;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.matchers.JUnitMatchers.hasItems;
 import static org.neo4j.helpers.collection.IteratorUtil.asCollection;
@@ -114,6 +115,17 @@ public class QueryMapResultConverterTests extends Neo4jPersistentTestBase {
          convert.getFriends();
     }
 
+    @Test
+    public void shouldReuseProxyClassAndRenderRow() throws Exception {
+        QueryMapResultConverter<SimplestQuery> converter = getConverter();
+        final SimplestQuery query1 = converter.convert(simpleMap, SimplestQuery.class);
+        final SimplestQuery query2 = converter.convert(map("name", "Emil"), SimplestQuery.class);
+
+        assertSame(query1.getClass(), query2.getClass());
+        assertEquals("Emil", query2.getName());
+        assertEquals(simpleMap.toString(), query1.toString());
+    }
+
     @Test
     public void testShouldBeAbleToCompareTwoResults() throws Exception {
         QueryMapResultConverter<SimplestQuery> converter = getConverter();
@@ -15,8 +15,21 @@
  */
 package org.springframework.data.neo4j.conversion;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
@@ -31,9 +44,16 @@ public class QueryResultBuilderTests {
 
     private final DefaultConverter defaultConverter = new DefaultConverter();
     private QueryResultBuilder<Integer> result = new QueryResultBuilder<Integer>(asList(1, 2, 3));
+    private ExecutorService executor;
 
     @Before
     public void setUp() throws Exception {
+        executor = ParallelConverter.newExecutor(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
     }
 
     @Test
@@ -65,8 +85,162 @@ public class QueryResultBuilderTests {
 
     }
 
+    @Test
+    public void testHandleRows() throws Exception {
+        final Map<String, Object> row1 = new HashMap<String, Object>();
+        row1.put("count", 2);
+        row1.put("name", "a");
+        final Map<String, Object> row2 = new HashMap<String, Object>();
+        row2.put("name", "b");
+        final List<String> read = new ArrayList<String>();
+        new QueryResultBuilder<Map<String, Object>>(asList(row1, row2), defaultConverter, asList("name", "count")).handle(new RowHandler() {
+            public void handle(Row row) {
+                read.add(row.getString(0) + row.getLong(row.column("count")) + row.isNull(1));
+            }
+        });
+        assertThat(read, is(asList("a2false", "b0true")));
+    }
+
+    @Test
+    public void testHandlePositionalRows() throws Exception {
+        final List<List<?>> rows = new ArrayList<List<?>>();
+        rows.add(asList("a", 2));
+        rows.add(asList("b", null));
+        final List<String> read = new ArrayList<String>();
+        new RowReader(asList("name", "count"), defaultConverter, null) {
+            protected Object readValue(Object cell) {
+                return cell instanceof String ? ((String) cell).toUpperCase() : cell;
+            }
+        }.readPositional(rows, new RowHandler() {
+            public void handle(Row row) {
+                read.add(row.getString(row.column("name")) + row.getLong(1) + row.isNull(1));
+            }
+        });
+        assertThat(read, is(asList("A2false", "B0true")));
+    }
+
+    @Test
+    public void testResolvesCellConverterOncePerColumn() throws Exception {
+        final List<List<?>> rows = new ArrayList<List<?>>();
+        rows.add(asList("1", "a"));
+        rows.add(asList("2", "b"));
+        rows.add(asList("3", "c"));
+        final List<Class<?>> resolved = new ArrayList<Class<?>>();
+        final ResultConverter<Object, Object> parsing = new ResultConverter.ResultConverterAdapter<Object, Object>() {
+            @Override
+            public Object convert(Object value, Class<Object> type) {
+                return Integer.valueOf(value.toString());
+            }
+        };
+        final List<Integer> read = new ArrayList<Integer>();
+        new RowReader(asList("number", "name"), new ResolvingConverter(parsing, resolved), null).readPositional(rows, new RowHandler() {
+            public void handle(Row row) {
+                read.add(row.getInt(0));
+                row.getString(1);
+            }
+        });
+        assertThat(read, is(asList(1, 2, 3)));
+        assertThat(resolved, is(Arrays.<Class<?>>asList(String.class)));
+    }
+
+    private static class ResolvingConverter extends DefaultConverter<Object, Object> implements ResolvingResultConverter<Object, Object> {
+        private final ResultConverter<Object, Object> resolvedConverter;
+        private final List<Class<?>> resolved;
+
+        ResolvingConverter(ResultConverter<Object, Object> resolvedConverter, List<Class<?>> resolved) {
+            this.resolvedConverter = resolvedConverter;
+            this.resolved = resolved;
+        }
+
+        @Override
+        public ResultConverter<Object, Object> resolve(Class<?> sourceType, Class<Object> type, MappingPolicy mappingPolicy) {
+            resolved.add(sourceType);
+            return resolvedConverter;
+        }
+    }
+
+    @Test
+    public void testHandleRowsOfSingleValues() throws Exception {
+        final List<Integer> read = new ArrayList<Integer>();
+        result.handle(new RowHandler() {
+            public void handle(Row row) {
+                read.add(row.getInt(row.column(RowReader.SINGLE_COLUMN)));
+            }
+        });
+        assertThat(read, is(asList(1, 2, 3)));
+    }
+
     @Test
     public void testIterator() throws Exception {
 
     }
+
+    private List<Integer> values(int count) {
+        final List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < count; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    @Test
+    public void testParallelConversionKeepsOrder() throws Exception {
+        final List<String> converted = from(values(5000)).to(String.class, new ResultConverter.ResultConverterAdapter<Integer, String>() {
+            @Override
+            public String convert(Integer value, Class<String> type) {
+                return String.valueOf(value);
+            }
+        }).parallel(executor, 4).as(List.class);
+        assertThat(converted.size(), is(5000));
+        for (int i = 0; i < 5000; i++) {
+            assertThat(converted.get(i), is(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void testParallelConversionOnResult() throws Exception {
+        final List<Integer> converted = from(1, 2, 3).parallel(executor, 2).to(Integer.class).as(List.class);
+        assertThat(converted, is(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void testFinishCancelsPendingChunks() throws Exception {
+        final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        final AtomicInteger conversions = new AtomicInteger();
+        try {
+            final EndResult<Integer> converted = from(values(5000)).to(Integer.class, new ResultConverter.ResultConverterAdapter<Integer, Integer>() {
+                @Override
+                public Integer convert(Integer value, Class<Integer> type) {
+                    conversions.incrementAndGet();
+                    return value;
+                }
+            }).parallel(singleThread, 4);
+            assertThat(converted.iterator().next(), is(0));
+            converted.finish();
+        } finally {
+            singleThread.shutdown();
+            singleThread.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertThat(conversions.get() < 2000, is(true));
+    }
+
+    @Test
+    public void testParallelConversionRunsOnCallerWithinReadOnlyTransaction() throws Exception {
+        final Thread caller = Thread.currentThread();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            final List<Integer> converted = from(values(1000)).to(Integer.class, new ResultConverter.ResultConverterAdapter<Integer, Integer>() {
+                @Override
+                public Integer convert(Integer value, Class<Integer> type) {
+                    assertThat(Thread.currentThread(), is(caller));
+                    return value;
+                }
+            }).parallel(executor, 4).as(List.class);
+            assertThat(converted.size(), is(1000));
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.junit.Test;
+
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityValidatorTests {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    public static class Range {
+        @Min(0)
+        int from;
+        @Max(100)
+        int to;
+        String name;
+
+        public Range(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @AssertTrue
+        public boolean isOrdered() {
+            return from <= to;
+        }
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testValidatesChangedFieldImmediately() throws Exception {
+        final EntityValidator entityValidator = new EntityValidator(validator, EntityValidator.Mode.PER_FIELD);
+        entityValidator.valueChanged(new Range(0, 10), Range.class, "from", -1);
+    }
+
+    @Test
+    public void testIgnoresFieldsWithoutConstraints() throws Exception {
+        final EntityValidator entityValidator = new EntityValidator(validator, EntityValidator.Mode.PER_FIELD);
+        entityValidator.valueChanged(new Range(0, 10), Range.class, "name", null);
+    }
+
+    @Test
+    public void testValidatesEntityOnceAtEndOfUnitOfWork() throws Exception {
+        final EntityValidator entityValidator = new EntityValidator(validator, EntityValidator.Mode.PER_ENTITY);
+        final Range range = new Range(50, 10);
+        final EntityValidator.UnitOfWork unitOfWork = entityValidator.begin();
+        try {
+            final EntityValidator.UnitOfWork nested = entityValidator.begin();
+            entityValidator.valueChanged(range, Range.class, "from", 50);
+            entityValidator.valueChanged(range, Range.class, "to", 10);
+            nested.complete();
+            nested.close();
+            try {
+                unitOfWork.complete();
+                fail("cross field constraint not validated");
+            } catch (ValidationException expected) {
+                // expected
+            }
+        } finally {
+            unitOfWork.close();
+        }
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testValidatesPerFieldOutsideOfUnitOfWork() throws Exception {
+        final EntityValidator entityValidator = new EntityValidator(validator, EntityValidator.Mode.PER_ENTITY);
+        entityValidator.valueChanged(new Range(0, 10), Range.class, "to", 101);
+    }
+
+    @Test
+    public void testPerFieldModeDoesNotCollectEntities() throws Exception {
+        final EntityValidator entityValidator = new EntityValidator(validator, EntityValidator.Mode.PER_FIELD);
+        final EntityValidator.UnitOfWork unitOfWork = entityValidator.begin();
+        try {
+            unitOfWork.add(new Range(50, 10));
+            unitOfWork.complete();
+        } finally {
+            unitOfWork.close();
+        }
+    }
+}
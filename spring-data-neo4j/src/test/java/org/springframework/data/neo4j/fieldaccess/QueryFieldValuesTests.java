@@ -0,0 +1,190 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.junit.Test;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentTestBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+import static org.neo4j.helpers.collection.MapUtil.map;
+import static org.springframework.data.neo4j.support.DoReturn.unwrap;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class QueryFieldValuesTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Item {
+        @GraphId
+        Long id;
+        String name;
+
+        @Query(value = "start item=node({self}) match item<-[:RATED]-rater return count(rater)", cached = true)
+        Long ratings;
+
+        @Query(value = "start item=node({self}) match item<-[:RATED]-rater return rater.name", cached = true)
+        Iterable<String> raterNames;
+
+        @Query("start item=node({self}) match item<-[:RATED]-rater return count(rater)")
+        Long uncachedRatings;
+
+        public Item() {
+        }
+
+        public Item(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testLoadAllEvaluatesCachedQueriesInBatch() throws Exception {
+        final Node rated = createItem("rated");
+        final Node unrated = createItem("unrated");
+        rate(rated, "Michael");
+        rate(rated, "Emil");
+
+        final List<Item> items = template.loadAll(asList(rated, unrated), Item.class);
+
+        assertEquals(Long.valueOf(2), items.get(0).ratings);
+        assertEquals(asList("Emil", "Michael"), sorted(items.get(0).raterNames));
+        assertEquals(Long.valueOf(2), items.get(0).uncachedRatings);
+        assertEquals(Long.valueOf(0), items.get(1).ratings);
+        assertFalse(items.get(1).raterNames.iterator().hasNext());
+    }
+
+    @Test
+    public void testQueriesAreBatchable() throws Exception {
+        assertTrue(accessor("ratings").isBatchable());
+        assertTrue(accessor("raterNames").isBatchable());
+        assertFalse(accessor("uncachedRatings").isBatchable());
+    }
+
+    @Test
+    public void testMemoisesValuesWithinScope() throws Exception {
+        final Node node = createItem("rated");
+        rate(node, "Michael");
+        final Item item = template.load(node, Item.class);
+        final QueryFieldAccessorFactory.QueryFieldAccessor accessor = accessor("ratings");
+        final QueryFieldValues values = QueryFieldValues.open();
+        try {
+            assertEquals(1L, unwrap(accessor.getValue(item, null)));
+            rate(node, "Emil");
+            assertEquals(1L, unwrap(accessor.getValue(item, null)));
+        } finally {
+            values.close();
+        }
+        assertEquals(2L, unwrap(accessor.getValue(item, null)));
+    }
+
+    @Test
+    public void testSavingEntitiesInvalidatesMemoisedValues() throws Exception {
+        final Node node = createItem("rated");
+        rate(node, "Michael");
+        final Item item = template.load(node, Item.class);
+        final QueryFieldAccessorFactory.QueryFieldAccessor accessor = accessor("ratings");
+        final QueryFieldValues values = QueryFieldValues.open();
+        try {
+            assertEquals(1L, unwrap(accessor.getValue(item, null)));
+            rate(node, "Emil");
+            item.name = "renamed";
+            template.save(item);
+            assertEquals(2L, unwrap(accessor.getValue(item, null)));
+        } finally {
+            values.close();
+        }
+    }
+
+    @Test
+    public void testNodesWithoutRowsShareTheEmptyValue() throws Exception {
+        final Node rated = createItem("rated");
+        final Node first = createItem("first");
+        final Node second = createItem("second");
+        rate(rated, "Michael");
+        final QueryFieldValues values = template.prefetchQueryFields(asList(rated, first, second), Item.class);
+        try {
+            assertEquals(1L, values.get(property("ratings"), rated.getId()));
+            assertEquals(0L, values.get(property("ratings"), first.getId()));
+            assertEquals(0L, values.get(property("ratings"), second.getId()));
+            assertTrue(values.contains(property("raterNames"), second.getId()));
+            assertEquals(Collections.emptyList(), values.get(property("raterNames"), second.getId()));
+        } finally {
+            values.close();
+        }
+    }
+
+    @Test
+    public void testQueryResultsEvaluateCachedQueriesInBatch() throws Exception {
+        final Node first = createItem("first");
+        final Node second = createItem("second");
+        rate(first, "Michael");
+        rate(second, "Emil");
+        final QueryFieldValues values = QueryFieldValues.open();
+        try {
+            final Iterator<Item> items = template.query("start item=node({items}) return item", map("items", asList(first.getId(), second.getId()))).to(Item.class).iterator();
+            assertEquals(Long.valueOf(1), items.next().ratings);
+            assertTrue("evaluated before the second entity is loaded", values.contains(property("ratings"), second.getId()));
+            assertEquals(Long.valueOf(1), items.next().ratings);
+        } finally {
+            values.close();
+        }
+    }
+
+    @Test
+    public void testAccessorsAreCreatedOncePerProperty() throws Exception {
+        final QueryFieldAccessorFactory factory = template.getQueryFieldAccessorFactory();
+        assertSame(factory.forField(property("ratings")), factory.forField(property("ratings")));
+        assertEquals(2, factory.getBatchableAccessors(mappingContext.getPersistentEntity(Item.class)).size());
+    }
+
+    private QueryFieldAccessorFactory.QueryFieldAccessor accessor(String name) {
+        return template.getQueryFieldAccessorFactory().accessorFor(property(name));
+    }
+
+    private Neo4jPersistentProperty property(String name) {
+        return mappingContext.getPersistentEntity(Item.class).getPersistentProperty(name);
+    }
+
+    private Node createItem(String name) {
+        return template.getPersistentState(template.save(new Item(name)));
+    }
+
+    private void rate(Node item, String name) {
+        final Node rater = template.createNode();
+        rater.setProperty("name", name);
+        rater.createRelationshipTo(item, DynamicRelationshipType.withName("RATED"));
+    }
+
+    private List<String> sorted(Iterable<String> values) {
+        final List<String> result = new ArrayList<String>();
+        for (String value : values) result.add(value);
+        Collections.sort(result);
+        return result;
+    }
+}
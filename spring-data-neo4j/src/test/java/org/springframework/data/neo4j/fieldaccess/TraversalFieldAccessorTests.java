@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.junit.Test;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.traversal.Evaluators;
+import org.neo4j.graphdb.traversal.TraversalDescription;
+import org.neo4j.kernel.Traversal;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.core.FieldTraversalDescriptionBuilder;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentTestBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+import static org.springframework.data.neo4j.support.DoReturn.unwrap;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class TraversalFieldAccessorTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Member {
+        @GraphId
+        Long id;
+        String name;
+
+        @GraphTraversal(traversal = KnowsTraversalBuilder.class, elementClass = Node.class, reusable = true, maxDepth = 1)
+        Iterable<Node> friends;
+
+        @GraphTraversal(traversal = KnowsTraversalBuilder.class, elementClass = Node.class, reusable = true, maxResults = 2)
+        Iterable<Node> network;
+
+        @GraphTraversal(traversal = KnowsTraversalBuilder.class, elementClass = Node.class, cached = true)
+        Iterable<Node> cachedNetwork;
+
+        public Member() {
+        }
+
+        public Member(String name) {
+            this.name = name;
+        }
+    }
+
+    static class KnowsTraversalBuilder implements FieldTraversalDescriptionBuilder {
+        static int builds;
+
+        @Override
+        public TraversalDescription build(Object start, Neo4jPersistentProperty property, String... params) {
+            builds++;
+            return Traversal.description().relationships(DynamicRelationshipType.withName("KNOWS")).evaluator(Evaluators.excludeStartPosition());
+        }
+    }
+
+    @Test
+    public void testReusableTraversalIsBuiltOnce() throws Exception {
+        final Node michael = createMember("Michael");
+        final Node emil = createMember("Emil");
+        knows(michael, emil);
+        final TraversalFieldAccessorFactory factory = new TraversalFieldAccessorFactory(template);
+        final Neo4jPersistentProperty friends = mappingContext.getPersistentEntity(Member.class).getPersistentProperty("friends");
+        KnowsTraversalBuilder.builds = 0;
+        final FieldAccessor michaelsFriends = factory.forField(friends);
+        final FieldAccessor emilsFriends = factory.forField(friends);
+        assertEquals(asList(emil), toList(michaelsFriends.getValue(template.load(michael, Member.class), null)));
+        assertEquals(asList(michael), toList(emilsFriends.getValue(template.load(emil, Member.class), null)));
+        assertEquals(1, KnowsTraversalBuilder.builds);
+    }
+
+    @Test
+    public void testBoundsTraversalByDepthAndResults() throws Exception {
+        final Node michael = createMember("Michael");
+        final Node emil = createMember("Emil");
+        final Node peter = createMember("Peter");
+        final Node andres = createMember("Andres");
+        knows(michael, emil);
+        knows(emil, peter);
+        knows(peter, andres);
+        final Member member = template.load(michael, Member.class);
+        assertEquals(asList(emil), toList(accessor("friends").getValue(member, null)));
+        assertEquals(asList(emil, peter), toList(accessor("network").getValue(member, null)));
+    }
+
+    @Test
+    public void testMemoisesResultWithinScope() throws Exception {
+        final Node michael = createMember("Michael");
+        final Node emil = createMember("Emil");
+        knows(michael, emil);
+        final Member member = template.load(michael, Member.class);
+        final TraversalFieldAccessorFactory.TraversalFieldAccessor accessor = accessor("cachedNetwork");
+        final QueryFieldValues values = QueryFieldValues.open();
+        try {
+            assertEquals(1, toList(accessor.getValue(member, null)).size());
+            knows(michael, createMember("Peter"));
+            assertEquals(1, toList(accessor.getValue(member, null)).size());
+        } finally {
+            values.close();
+        }
+        assertEquals(2, toList(accessor.getValue(member, null)).size());
+    }
+
+    private TraversalFieldAccessorFactory.TraversalFieldAccessor accessor(String name) {
+        final Neo4jPersistentProperty property = mappingContext.getPersistentEntity(Member.class).getPersistentProperty(name);
+        return new TraversalFieldAccessorFactory.TraversalFieldAccessor(property, template);
+    }
+
+    private Node createMember(String name) {
+        return template.getPersistentState(template.save(new Member(name)));
+    }
+
+    private void knows(Node from, Node to) {
+        from.createRelationshipTo(to, DynamicRelationshipType.withName("KNOWS"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Node> toList(Object value) {
+        final List<Node> result = new ArrayList<Node>();
+        for (Node node : (Iterable<Node>) unwrap(value)) result.add(node);
+        return result;
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.test.ImpermanentGraphDatabase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.config.Neo4jConfiguration;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@NodeEntity
+class Gadget {
+    @GraphId
+    Long id;
+
+    String name;
+
+    Gadget() {
+    }
+
+    Gadget(String name) {
+        this.name = name;
+    }
+}
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+public class LifecycleEventBatchingTests {
+    @Configuration
+    @EnableNeo4jRepositories
+    static class TestConfig extends Neo4jConfiguration {
+        @Bean
+        GraphDatabaseService graphDatabaseService() {
+            return new ImpermanentGraphDatabase();
+        }
+
+        @Bean
+        TaskExecutor neo4jLifecycleEventExecutor() {
+            return new SyncTaskExecutor();
+        }
+
+        @Bean
+        ApplicationListener<Neo4jLifecycleBatchEvent<Object>> batchEventListener() {
+            return new ApplicationListener<Neo4jLifecycleBatchEvent<Object>>() {
+                @Override
+                public void onApplicationEvent(Neo4jLifecycleBatchEvent<Object> event) {
+                    batches.add(event);
+                }
+            };
+        }
+
+        @Bean
+        ApplicationListener<AfterSaveInTransactionEvent<Object>> inTransactionListener() {
+            return new ApplicationListener<AfterSaveInTransactionEvent<Object>>() {
+                @Override
+                public void onApplicationEvent(AfterSaveInTransactionEvent<Object> event) {
+                    synchronous.add(event.getEntity());
+                }
+            };
+        }
+
+        @Bean
+        ApplicationListener<AfterSaveEvent<Object>> afterSaveEventListener() {
+            return new ApplicationListener<AfterSaveEvent<Object>>() {
+                @Override
+                public void onApplicationEvent(AfterSaveEvent<Object> event) {
+                    unbatched.add(event.getEntity());
+                }
+            };
+        }
+    }
+
+    static final List<Neo4jLifecycleBatchEvent<Object>> batches = new ArrayList<Neo4jLifecycleBatchEvent<Object>>();
+    static final List<Object> synchronous = new ArrayList<Object>();
+    static final List<Object> unbatched = new ArrayList<Object>();
+
+    @Autowired
+    Neo4jTemplate template;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Before
+    public void setUp() {
+        batches.clear();
+        synchronous.clear();
+        unbatched.clear();
+    }
+
+    @Test
+    public void shouldPublishOneBatchAfterCommit() throws Exception {
+        final Gadget first = new Gadget("first");
+        final Gadget second = new Gadget("second");
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.save(first);
+                template.save(second);
+                first.name = "changed";
+                template.save(first);
+                assertTrue(batches.isEmpty());
+                assertEquals(Arrays.<Object>asList(first, second, first), synchronous);
+                assertTrue(unbatched.isEmpty());
+                return null;
+            }
+        });
+        assertEquals(1, batches.size());
+        assertTrue(batches.get(0) instanceof AfterSaveBatchEvent);
+        assertEquals(Arrays.<Object>asList(first, second), batches.get(0).getEntities());
+    }
+
+    @Test
+    public void shouldDeliverEntityEventsAfterCommit() throws Exception {
+        final Gadget first = new Gadget("first");
+        final Gadget second = new Gadget("second");
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.save(first);
+                template.save(second);
+                template.save(first);
+                assertTrue(unbatched.isEmpty());
+                return null;
+            }
+        });
+        assertEquals(Arrays.<Object>asList(first, second), unbatched);
+        assertEquals(Arrays.<Object>asList(first, second, first), synchronous);
+    }
+
+    @Test
+    public void shouldPublishSavesBeforeDeletes() throws Exception {
+        final Gadget kept = new Gadget("kept");
+        final Gadget gadget = new Gadget("gadget");
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.save(gadget);
+                template.save(kept);
+                template.delete(gadget);
+                return null;
+            }
+        });
+        assertEquals(2, batches.size());
+        assertTrue(batches.get(0) instanceof AfterSaveBatchEvent);
+        assertEquals(Arrays.<Object>asList(kept), batches.get(0).getEntities());
+        assertTrue(batches.get(1) instanceof DeleteBatchEvent);
+        assertEquals(Arrays.<Object>asList(gadget), batches.get(1).getEntities());
+        assertEquals(Arrays.<Object>asList(kept), unbatched);
+    }
+
+    @Test
+    public void shouldOnlyPublishDeleteOfEntitySavedAndDeleted() throws Exception {
+        final Gadget gadget = new Gadget("gadget");
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.save(gadget);
+                template.delete(gadget);
+                return null;
+            }
+        });
+        assertEquals(1, batches.size());
+        assertTrue(batches.get(0) instanceof DeleteBatchEvent);
+        assertEquals(Arrays.<Object>asList(gadget), batches.get(0).getEntities());
+        assertTrue(unbatched.isEmpty());
+    }
+
+    @Test
+    public void shouldNotPublishAfterRollback() throws Exception {
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.save(new Gadget("rolled back"));
+                status.setRollbackOnly();
+                return null;
+            }
+        });
+        assertTrue(batches.isEmpty());
+        assertEquals(1, synchronous.size());
+    }
+
+    private void inTransaction(TransactionCallback<Object> callback) {
+        new TransactionTemplate(transactionManager).execute(callback);
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.apache.lucene.search.NumericRangeQuery;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.GraphProperty;
+import org.springframework.data.neo4j.annotation.Indexed;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
+import org.springframework.data.neo4j.support.mapping.NativePropertyMigration;
+import org.springframework.data.neo4j.support.mapping.NativePropertyTypes;
+
+import java.util.Date;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class NativePropertyTypesTests extends Neo4jPersistentTestBase {
+
+    public enum Level { LOW, HIGH }
+
+    @NodeEntity
+    public static class Event {
+        @GraphId
+        Long id;
+        @Indexed
+        Date date;
+        Level level;
+        @GraphProperty(propertyType = String.class)
+        Level namedLevel;
+
+        public Event() {
+        }
+
+        public Event(Date date, Level level) {
+            this.date = date;
+            this.level = level;
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        mappingContext.setNativePropertyTypes(NativePropertyTypes.defaults());
+        Neo4jConversionServiceFactoryBean.addNativePropertyConverters((ConverterRegistry) conversionService);
+    }
+
+    @Test
+    public void testKeepsExplicitStringPropertyType() throws Exception {
+        final Event event = new Event(new Date(1000L), Level.LOW);
+        event.namedLevel = Level.HIGH;
+        final Node node = template.getPersistentState(template.save(event));
+        assertEquals("HIGH", node.getProperty("namedLevel"));
+        assertEquals(Level.HIGH, template.load(node, Event.class).namedLevel);
+    }
+
+    @Test
+    public void testOrdinalConvertersAreOnlyAddedForNativePropertyTypes() throws Exception {
+        assertFalse(new Neo4jConversionServiceFactoryBean().getObject().canConvert(Level.class, Integer.class));
+        assertTrue(new Neo4jConversionServiceFactoryBean(NativePropertyTypes.defaults()).getObject().canConvert(Level.class, Integer.class));
+    }
+
+    @Test
+    public void testStoresDatesAndEnumsNatively() throws Exception {
+        final Date date = new Date(1000L);
+        final Node node = template.getPersistentState(template.save(new Event(date, Level.HIGH)));
+        assertEquals(1000L, node.getProperty("date"));
+        assertEquals(1, node.getProperty("level"));
+
+        final Event loaded = template.load(node, Event.class);
+        assertEquals(date, loaded.date);
+        assertEquals(Level.HIGH, loaded.level);
+    }
+
+    @Test
+    public void testIndexesDatesNumerically() throws Exception {
+        assertTrue(dateProperty().isIndexedNumerically());
+        final Node early = template.getPersistentState(template.save(new Event(new Date(1000L), Level.LOW)));
+        template.save(new Event(new Date(5000L), Level.LOW));
+
+        final PropertyContainer found = template.lookup(dateProperty().getIndexInfo().getIndexName(), NumericRangeQuery.newLongRange("date", 0L, 2000L, true, true)).single();
+        assertEquals(early, found);
+    }
+
+    @Test
+    public void testMigratesStringValues() throws Exception {
+        final Node node = template.getPersistentState(template.save(new Event(new Date(1000L), Level.LOW)));
+        node.setProperty("date", "3000");
+        node.setProperty("level", "HIGH");
+        assertEquals(new Date(3000L), template.load(node, Event.class).date);
+
+        assertEquals(1, new NativePropertyMigration(template).migrate(Event.class, asList(node)));
+        assertEquals(3000L, node.getProperty("date"));
+        assertEquals(1, node.getProperty("level"));
+        assertEquals(0, new NativePropertyMigration(template).migrate(Event.class, asList(node)));
+
+        final PropertyContainer found = template.lookup(dateProperty().getIndexInfo().getIndexName(), NumericRangeQuery.newLongRange("date", 2000L, 4000L, true, true)).single();
+        assertEquals(node, found);
+    }
+
+    private Neo4jPersistentProperty dateProperty() {
+        return mappingContext.getPersistentEntity(Event.class).getPersistentProperty("date");
+    }
+}
@@ -20,12 +20,14 @@ import org.mockito.Mockito;
 import org.neo4j.graphdb.Node;
 import org.springframework.data.neo4j.model.Friendship;
 import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.model.Personality;
 import org.springframework.transaction.annotation.Transactional;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 
 /**
  * @author mh
@@ -46,6 +48,19 @@ public class Neo4jEntityPersisterTests extends Neo4jPersistentTestBase {
 
     }
 
+    @Test
+    public void testCreateReadOnlyEntityFromState() throws Exception {
+        michael.setPersonality(Personality.EXTROVERT);
+        storeInGraph(michael);
+        final Person person = entityPersister.createEntityFromState(michaelNode(), Person.class, MappingPolicy.READ_ONLY_POLICY, template);
+        assertEquals(michael.getId(), person.getId());
+        assertEquals("Michael", person.getName());
+        assertEquals(37, person.getAge());
+        assertEquals(Personality.EXTROVERT, person.getPersonality());
+        assertNull(person.getFriendships());
+        assertNotSame(person, entityPersister.createEntityFromState(michaelNode(), Person.class, MappingPolicy.READ_ONLY_POLICY, template));
+    }
+
     @Test
     public void testProjectTo() throws Exception {
         storeInGraph(michael);
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import org.junit.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.GraphVersion;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class OptimisticLockingTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Account {
+        @GraphId Long id;
+        @GraphVersion Long version;
+        String owner;
+
+        public Account() {
+        }
+
+        public Account(String owner) {
+            this.owner = owner;
+        }
+    }
+
+    @NodeEntity
+    public static class Counter {
+        @GraphId Long id;
+        @GraphVersion int version;
+    }
+
+    @NodeEntity
+    public static class Document {
+        @GraphId Long id;
+        @GraphVersion String version;
+    }
+
+    @Test
+    public void testIncrementsVersionOnEachSave() throws Exception {
+        final Account account = template.save(new Account("Michael"));
+        assertEquals(Long.valueOf(1), account.version);
+        account.owner = "Emil";
+        final Account saved = template.save(account);
+        assertEquals(Long.valueOf(2), saved.version);
+        assertEquals(2L, template.getNode(saved.id).getProperty("version"));
+    }
+
+    @Test(expected = OptimisticLockingFailureException.class)
+    public void testFailsToSaveStaleEntity() throws Exception {
+        final Long id = template.save(new Account("Michael")).id;
+        final Account first = template.findOne(id, Account.class);
+        final Account second = template.findOne(id, Account.class);
+        first.owner = "Emil";
+        template.save(first);
+        second.owner = "Andrés";
+        template.save(second);
+    }
+
+    @Test
+    public void testSupportsPrimitiveIntVersion() throws Exception {
+        final Counter counter = template.save(template.save(new Counter()));
+        assertEquals(2, counter.version);
+        assertEquals(2, template.findOne(counter.id, Counter.class).version);
+    }
+
+    @Test(expected = MappingException.class)
+    public void testRejectsNonNumericVersion() throws Exception {
+        template.save(new Document());
+    }
+}
@@ -33,6 +33,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.conversion.EndResult;
+import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.model.*;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.conversion.NoSuchColumnFoundException;
@@ -54,6 +56,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -170,6 +173,40 @@ public class GraphRepositoryTests {
         assertThat(boss, is( testTeam.emil ));
     }
 
+    @Test
+    public void testFindPersonWithAsyncQuery() throws Exception {
+        final Future<Person> boss = personRepository.findBossAsync(testTeam.michael);
+        assertThat(boss.get(10, TimeUnit.SECONDS), is(testTeam.emil));
+    }
+
+    @Test
+    public void testFindCollectionWithAsyncQuery() throws Exception {
+        final Future<List<Person>> teamMembers = personRepository.findAllTeamMembersAsync(testTeam.sdg);
+        assertThat(teamMembers.get(10, TimeUnit.SECONDS), hasItems(testTeam.michael, testTeam.david, testTeam.emil));
+    }
+
+    @Test
+    public void testFindPageWithAsyncQuery() throws Exception {
+        final Future<Page<Person>> subordinates = personRepository.findSubordinatesAsync(testTeam.emil);
+        final Page<Person> page = subordinates.get(10, TimeUnit.SECONDS);
+        assertEquals(2, page.getTotalElements());
+        assertThat(page.getContent(), hasItems(testTeam.michael, testTeam.david));
+    }
+
+    @Test
+    public void testFindEndResultWithAsyncQuery() throws Exception {
+        final Future<EndResult<Person>> teamMembers = personRepository.findAllTeamMembersAsResultAsync(testTeam.sdg);
+        assertThat(teamMembers.get(10, TimeUnit.SECONDS), hasItems(testTeam.michael, testTeam.david, testTeam.emil));
+    }
+
+    @Test
+    public void testFindOneAndQueryAsyncOnTemplate() throws Exception {
+        final Future<Person> michael = neo4jTemplate.findOneAsync(testTeam.michael.getId(), Person.class);
+        final Future<Result<Map<String, Object>>> names = neo4jTemplate.queryAsync("start n=node({id}) return n.name as name", map("id", testTeam.david.getId()));
+        assertThat(michael.get(10, TimeUnit.SECONDS), is(testTeam.michael));
+        assertThat(names.get(10, TimeUnit.SECONDS).to(String.class).single(), is("David"));
+    }
+
     @Test @Transactional
     public void testCypherQueryWithNoResultsReturnsNullForSingleType() {
         Person boss = personRepository.findBoss( testTeam.emil );
@@ -199,7 +236,31 @@ public class GraphRepositoryTests {
         assertEquals(2, people.getTotalPages());
     }
 
-    @Test @Transactional 
+    @Test @Transactional
+    public void testIndexQueryForPageSortedByNumericProperty() {
+        Page<Person> people = personRepository.findAllByQuery("name", "*", new PageRequest(0, 2, Sort.Direction.DESC, "age"));
+        assertEquals(asList(testTeam.michael, testTeam.emil), people.getContent());
+        assertEquals(3, people.getTotalElements());
+        assertEquals(2, people.getTotalPages());
+        people = personRepository.findAllByQuery("name", "*", new PageRequest(1, 2, Sort.Direction.DESC, "age"));
+        assertEquals(asList(testTeam.david), people.getContent());
+    }
+
+    @Test
+    public void testIndexQueryForPageCountsAllCommittedHits() {
+        Page<Person> people = personRepository.findAllByQuery("name", "*", new PageRequest(0, 1, Sort.Direction.DESC, "age"));
+        assertEquals(asList(testTeam.michael), people.getContent());
+        assertEquals(3, people.getTotalElements());
+        assertEquals(3, people.getTotalPages());
+    }
+
+    @Test @Transactional
+    public void testIndexQuerySortedByStringProperty() {
+        final Collection<Person> people = asCollection(personRepository.findAllByQuery("name", "*", new Sort("name")));
+        assertEquals(asList(testTeam.david, testTeam.emil, testTeam.michael), new ArrayList<Person>(people));
+    }
+
+    @Test @Transactional
     public void testFindPersonWithQueryAnnotationUsingLongAsParameter() {
         Person boss = personRepository.findBoss(testTeam.michael.getId());
         assertThat(boss, is(testTeam.emil));
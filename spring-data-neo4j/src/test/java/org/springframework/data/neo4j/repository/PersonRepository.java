@@ -28,7 +28,9 @@ import org.springframework.data.neo4j.model.Group;
 import org.springframework.data.neo4j.model.Person;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * Sample repository interface to manage {@link Person}s.
@@ -69,6 +71,18 @@ public interface PersonRepository extends GraphRepository<Person>, NamedIndexRep
     @Query(value = "start boss=node({0}) match (boss)-[:boss]->(person) with person, count(*) as cnt order by cnt return person",countQuery = "start boss=node({0}) match (boss)-[:boss]->(person) with person return count(*)")
     Page<Person> findSubordinatesWithCount(Person boss,Pageable page);
 
+    @Query("start person=node({p_person}) match (boss)-[:boss]->(person) return boss")
+    Future<Person> findBossAsync(@Param("p_person") Person person);
+
+    @Query("start team=node({p_team}) match (team)-[:persons]->(member) return member")
+    Future<List<Person>> findAllTeamMembersAsync(@Param("p_team") Group team);
+
+    @Query("start boss=node({0}) match (boss)-[:boss]->(person) return person")
+    Future<Page<Person>> findSubordinatesAsync(Person boss);
+
+    @Query("start team=node({p_team}) match (team)-[:persons]->(member) return member")
+    Future<EndResult<Person>> findAllTeamMembersAsResultAsync(@Param("p_team") Group team);
+
     Group findTeam(@Param("p_person") Person person);
 
     @Query("start team=node({p_team}) match (team)-[:persons]->(member) return member")
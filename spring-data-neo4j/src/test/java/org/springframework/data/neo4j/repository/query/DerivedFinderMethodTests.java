@@ -23,6 +23,7 @@ import org.springframework.data.neo4j.annotation.GraphProperty;
 import org.springframework.data.neo4j.annotation.Indexed;
 import org.springframework.data.neo4j.annotation.NodeEntity;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.conversion.NoSuchColumnFoundException;
 import org.springframework.data.neo4j.support.index.IndexType;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
@@ -45,6 +46,8 @@ import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 
 import org.neo4j.index.lucene.ValueContext;
 
@@ -84,6 +87,21 @@ public class DerivedFinderMethodTests {
         }
     }
 
+    public interface ThingName {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+    }
+
+    public interface ThingDetails {
+        String getName();
+        long getBorn();
+    }
+
+    public interface ThingNickName {
+        String getNickName();
+    }
+
     @Autowired
     ThingRepository repository;
     @Autowired
@@ -115,6 +133,13 @@ public class DerivedFinderMethodTests {
                 123);
     }
 
+    @Test
+    public void testQueryReturningProjectedProperties() throws Exception {
+        assertRepositoryQueryMethod(ThingRepository.class, "findNameByFirstName",new Object[]{"foo"},
+                "START `thing`=node:`Thing`(`firstName`={0}) RETURN `thing`.`firstName`? AS `firstName`, ID(`thing`) AS `id`, `thing`.`lastName`? AS `lastName`",
+                "foo");
+    }
+
     @Test
     public void testIndexQueryWithTwoParams() throws Exception {
         assertRepositoryQueryMethod(ThingRepository.class, "findByFirstNameAndLastName",new Object[]{"foo", "bar"},
@@ -316,7 +341,7 @@ public class DerivedFinderMethodTests {
         Parameters parameters = new Parameters(method);
         ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, paramValues);
         String query = derivedCypherRepositoryQuery.createQueryWithPagingAndSorting(accessor);
-        Map<String, Object> params = derivedCypherRepositoryQuery.resolveParams(accessor);
+        Map<String, Object> params = derivedCypherRepositoryQuery.resolveParams(paramValues);
         String firstWord = expectedQuery.split("\\s+")[0];
         assertEquals(expectedQuery,query.substring(query.indexOf(firstWord)).substring(0,expectedQuery.length()));
         assertEquals(expectedParam.length,params.size());
@@ -342,4 +367,52 @@ public class DerivedFinderMethodTests {
         Thing thing = repository.save(new Thing("John", "Doe"));
         assertEquals(thing.id, repository.findByFirstNameAndLastName("John", "Doe").id);
     }
+
+    @Test
+    @Transactional
+    public void testFindProjection() throws Exception {
+        Thing thing = repository.save(new Thing("John", "Doe"));
+        ThingName name = repository.findNameByFirstName("John");
+        assertEquals(thing.id, name.getId());
+        assertEquals("John", name.getFirstName());
+        assertEquals("Doe", name.getLastName());
+    }
+
+    @Test
+    @Transactional
+    public void testFindReadOnlyEntity() throws Exception {
+        Thing thing = new Thing("John", "Doe");
+        thing.born = new Date(1000L);
+        thing = repository.save(thing);
+        Thing found = repository.findByLastName("Doe");
+        assertNotSame(thing, found);
+        assertEquals(thing.id, found.id);
+        assertEquals("John", found.firstName);
+        assertEquals(new Date(1000L), found.born);
+    }
+
+    @Test
+    @Transactional
+    public void testProjectEntityToInterface() throws Exception {
+        Thing thing = repository.save(new Thing("John", "Doe"));
+        ThingName name = template.projectTo(thing, ThingName.class);
+        assertEquals(thing.id, name.getId());
+        assertEquals("Doe", name.getLastName());
+    }
+
+    @Test
+    @Transactional
+    public void testProjectUnsetPropertiesToDefaults() throws Exception {
+        Thing thing = repository.save(new Thing("John", "Doe"));
+        ThingDetails details = template.projectTo(thing, ThingDetails.class);
+        assertNull(details.getName());
+        assertEquals(0L, details.getBorn());
+    }
+
+    @Test(expected = NoSuchColumnFoundException.class)
+    @Transactional
+    public void testProjectUnknownPropertyFails() throws Exception {
+        Thing thing = repository.save(new Thing("John", "Doe"));
+        template.projectTo(thing, ThingNickName.class).getNickName();
+    }
 }
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.neo4j.helpers.collection.MapUtil.map;
+import static org.springframework.data.neo4j.repository.query.DerivedFinderMethodTests.Thing;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = {"classpath:org/springframework/data/neo4j/repository/query/DerivedFinderMethodTests-context.xml"})
+public class ParameterBindingPlanTests {
+
+    @Autowired
+    Neo4jMappingContext ctx;
+
+    @Autowired
+    Neo4jTemplate template;
+
+    @Test
+    public void testPlanIsReusedAcrossInvocations() throws Exception {
+        final ParameterBindingPlan plan = planFor("findByFirstNameAndLastName", false);
+        final Map<String, Object> first = plan.bind(new Object[]{"John", "Doe"});
+        final Map<String, Object> second = plan.bind(new Object[]{"Jane", null});
+        assertEquals(map("0", "John", "1", "Doe"), first);
+        assertEquals("Jane", second.get("0"));
+        assertTrue(second.containsKey("1"));
+        assertNull(second.get("1"));
+    }
+
+    @Test
+    @Transactional
+    public void testSpecialParametersAreNotBound() throws Exception {
+        final Thing owner = template.save(new Thing("John", "Doe"));
+        final ParameterBindingPlan plan = planFor("queryByNameAndOwner", false);
+        final Map<String, Object> params = plan.bind(new Object[]{"John", new PageRequest(0, 1), owner});
+        assertEquals(map("name", "John", "owner", owner.id), params);
+    }
+
+    @Test
+    public void testSortParameterIsNotBound() throws Exception {
+        final Date born = new Date(1337);
+        final ParameterBindingPlan plan = planFor("queryByNameBornAfter", false);
+        final Map<String, Object> params = plan.bind(new Object[]{"John", born, new Sort("firstName")});
+        assertEquals(map("0", "John", "1", born), params);
+    }
+
+    @Test
+    public void testValuesAreOnlyConvertedIfRequested() throws Exception {
+        final Date born = new Date(1337);
+        final Object[] arguments = {"John", born, null};
+        final String bornString = new Neo4jConversionServiceFactoryBean.DateToStringConverter().convert(born);
+        assertEquals(bornString, planFor("queryByNameBornAfter", true).bind(arguments).get("1"));
+        assertEquals(born, planFor("queryByNameBornAfter", false).bind(arguments).get("1"));
+    }
+
+    @Test
+    public void testParametersRemovedByClausesAreSkipped() throws Exception {
+        final ParameterBindingPlan plan = planFor("queryByNameAndOwner", false);
+        plan.skip(2);
+        assertEquals(map("name", "John"), plan.bind(new Object[]{"John", null, null}));
+    }
+
+    @Test
+    public void testClauseResolversAreAppliedInOrder() throws Exception {
+        final ParameterBindingPlan plan = planFor("findByFirstNameAndLastName", false);
+        plan.resolve(0, new ParameterBindingPlan.ArgumentResolver() {
+            Object resolve(Object value, Object[] arguments) {
+                return value + " " + arguments[1];
+            }
+        });
+        plan.resolve(0, new ParameterBindingPlan.ArgumentResolver() {
+            Object resolve(Object value, Object[] arguments) {
+                return "name:" + value;
+            }
+        });
+        plan.skip(1);
+        assertEquals(map("0", "name:John Doe"), plan.bind(new Object[]{"John", "Doe"}));
+        assertEquals(map("0", "name:Jane Roe"), plan.bind(new Object[]{"Jane", "Roe"}));
+    }
+
+    private ParameterBindingPlan planFor(String methodName, boolean convertValues) {
+        final Method method = methodFor(methodName);
+        final GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(ThingRepository.class), null, ctx);
+        return new ParameterBindingPlan(queryMethod, template, convertValues);
+    }
+
+    private Method methodFor(String methodName) {
+        for (Method method : ThingRepository.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) return method;
+        }
+        throw new NoSuchMethodError("Method " + methodName + " not found in " + ThingRepository.class);
+    }
+}
@@ -15,10 +15,17 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.annotation.ReadOnlyResult;
 import org.springframework.data.neo4j.repository.GraphRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 import static org.springframework.data.neo4j.repository.query.DerivedFinderMethodTests.Thing;
 
@@ -55,4 +62,13 @@ public interface ThingRepository extends GraphRepository<DerivedFinderMethodTest
     Thing findByBornAfter(Date date);
     Thing findById(long id);
     Thing findByOwnerId(long id);
+    DerivedFinderMethodTests.ThingName findNameByFirstName(String firstName);
+    @ReadOnlyResult
+    Thing findByLastName(String lastName);
+
+    @Query("start thing=node:Thing(firstName={name}), owner=node({owner}) match (thing)<-[:owner]-(owner) return thing")
+    Page<Thing> queryByNameAndOwner(@Param("name") String name, Pageable page, @Param("owner") Thing owner);
+
+    @Query("start thing=node:Thing(firstName={0}) where thing.born > {1} return thing")
+    List<Thing> queryByNameBornAfter(String firstName, Date born, Sort sort);
 }
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.changefeed;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.helpers.collection.MapUtil;
+import org.neo4j.test.ImpermanentGraphDatabase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.config.Neo4jConfiguration;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+public class ChangeFeedTests {
+    @Configuration
+    static class TestConfig extends Neo4jConfiguration {
+        @Bean
+        GraphDatabaseService graphDatabaseService() {
+            return new ImpermanentGraphDatabase();
+        }
+    }
+
+    @NodeEntity
+    public static class Sensor {
+        @GraphId Long id;
+        String name;
+    }
+
+    @Autowired
+    Neo4jTemplate template;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final BlockingQueue<EntityChange> changes = new LinkedBlockingQueue<EntityChange>();
+    private ChangeFeed feed;
+
+    @Before
+    public void setUp() {
+        feed = template.changeFeed();
+        feed.setPartitions(2);
+        feed.subscribe(new ChangeFeed.Subscriber() {
+            public void onChanges(List<EntityChange> batch) {
+                changes.addAll(batch);
+            }
+        });
+        feed.start();
+    }
+
+    @After
+    public void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    public void testPublishesCommittedChangesOfAnEntity() throws Exception {
+        final Sensor sensor = inTransaction(new TransactionCallback<Sensor>() {
+            public Sensor doInTransaction(TransactionStatus status) {
+                final Sensor sensor = new Sensor();
+                sensor.name = "outside";
+                return template.save(sensor);
+            }
+        });
+        assertChange(EntityChange.Kind.CREATED, sensor.id, nextChange());
+
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.query("start n=node({id}) set n.name = 'inside'", MapUtil.map("id", sensor.id)).finish();
+                return null;
+            }
+        });
+        final EntityChange updated = nextChange();
+        assertChange(EntityChange.Kind.UPDATED, sensor.id, updated);
+        assertEquals(singleton("name"), updated.getProperties());
+
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.delete(template.findOne(sensor.id, Sensor.class));
+                return null;
+            }
+        });
+        assertChange(EntityChange.Kind.DELETED, sensor.id, nextChange());
+    }
+
+    @Test
+    public void testDiscardsChangesOfRolledBackTransactions() throws Exception {
+        inTransaction(new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                template.save(new Sensor());
+                status.setRollbackOnly();
+                return null;
+            }
+        });
+        feed.stop();
+        assertNull(changes.poll());
+    }
+
+    private void assertChange(EntityChange.Kind kind, Long id, EntityChange change) {
+        assertEquals(kind, change.getKind());
+        assertEquals(Sensor.class, change.getType());
+        assertEquals(id.longValue(), change.getId());
+    }
+
+    private EntityChange nextChange() throws InterruptedException {
+        final EntityChange change = changes.poll(10, TimeUnit.SECONDS);
+        if (change == null) throw new AssertionError("no change published");
+        return change;
+    }
+
+    private <T> T inTransaction(TransactionCallback<T> callback) {
+        return new TransactionTemplate(transactionManager).execute(callback);
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.importer;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.neo4j.tooling.GlobalGraphOperations;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentTestBase;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class EntityImporterTests extends Neo4jPersistentTestBase {
+
+    @NodeEntity
+    public static class Contributor {
+        @GraphId Long id;
+        String name;
+    }
+
+    private static final EntityImporter.Mapper<Integer> CONTRIBUTOR_MAPPER = new EntityImporter.Mapper<Integer>() {
+        public Object map(Integer record) {
+            final Contributor contributor = new Contributor();
+            contributor.name = "contributor" + record;
+            return contributor;
+        }
+    };
+
+    @Test
+    public void testImportsAllRecordsInChunks() throws Exception {
+        final EntityImporter<Integer> importer = template.importer(CONTRIBUTOR_MAPPER);
+        importer.setMappingThreads(3);
+        importer.setQueueSize(10);
+        importer.setChunkSize(100);
+        final AtomicInteger commits = new AtomicInteger();
+        importer.setListener(new EntityImporter.Listener() {
+            public void chunkCommitted(ImportProgress progress) {
+                commits.incrementAndGet();
+            }
+        });
+
+        final ImportProgress progress = importer.run(records(250));
+
+        assertEquals(250, progress.getRead());
+        assertEquals(250, progress.getWritten());
+        assertEquals(250, progress.getCommitted());
+        assertEquals(3, progress.getChunks());
+        assertEquals(3, commits.get());
+        assertEquals(250, countContributors());
+    }
+
+    @Test
+    public void testResumesAfterCommittedRecords() throws Exception {
+        final EntityImporter<Integer> importer = template.importer(CONTRIBUTOR_MAPPER);
+        importer.setResumeFrom(200);
+
+        final ImportProgress progress = importer.run(records(250));
+
+        assertEquals(50, progress.getWritten());
+        assertEquals(250, progress.getCommitted());
+        assertEquals(50, countContributors());
+    }
+
+    @Test
+    public void testWritesAndCommitsInRecordOrder() throws Exception {
+        final EntityImporter<Integer> importer = template.importer(new EntityImporter.Mapper<Integer>() {
+            public Object map(Integer record) {
+                if (record % 10 == 0) sleep(20);
+                return CONTRIBUTOR_MAPPER.map(record);
+            }
+        });
+        importer.setMappingThreads(3);
+        importer.setChunkSize(7);
+        final List<String> written = new ArrayList<String>();
+        importer.setWriter(new EntityImporter.Writer() {
+            public void write(Object mapped, Neo4jTemplate template) {
+                written.add(((Contributor) mapped).name);
+                EntityImporter.SAVE.write(mapped, template);
+            }
+        });
+        final List<Long> uncovered = new ArrayList<Long>();
+        importer.setListener(new EntityImporter.Listener() {
+            public void chunkCommitted(ImportProgress progress) {
+                if (progress.getCommitted() != progress.getWritten()) uncovered.add(progress.getCommitted());
+            }
+        });
+
+        importer.run(records(100));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("contributor" + i, written.get(i));
+        }
+        assertEquals("commits covering records beyond the committed prefix", 0, uncovered.size());
+    }
+
+    @Test
+    public void testReportsMappingFailure() throws Exception {
+        final EntityImporter<Integer> importer = template.importer(new EntityImporter.Mapper<Integer>() {
+            public Object map(Integer record) {
+                if (record == 42) throw new IllegalArgumentException("invalid record " + record);
+                return CONTRIBUTOR_MAPPER.map(record);
+            }
+        });
+        importer.setQueueSize(5);
+        importer.setChunkSize(1000);
+        try {
+            importer.run(records(2000));
+            fail("mapping failure not reported");
+        } catch (IllegalArgumentException expected) {
+            assertEquals("invalid record 42", expected.getMessage());
+        }
+        assertEquals(0, countContributors());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Integer> records(int count) {
+        final List<Integer> records = new ArrayList<Integer>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(i);
+        }
+        return records;
+    }
+
+    private int countContributors() {
+        int count = 0;
+        for (Node node : GlobalGraphOperations.at(template.getGraphDatabaseService()).getAllNodes()) {
+            if (node.hasProperty("name")) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.index.Index;
+import org.neo4j.graphdb.index.RelationshipIndex;
+import org.neo4j.test.ImpermanentGraphDatabase;
+import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
+import org.springframework.data.neo4j.support.node.Neo4jHelper;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class IndexProviderImplTests {
+
+    private CountingGraphDatabase graphDatabase;
+    private IndexProviderImpl indexProvider;
+
+    @Before
+    public void setUp() throws Exception {
+        graphDatabase = new CountingGraphDatabase(new ImpermanentGraphDatabase());
+        indexProvider = new IndexProviderImpl(graphDatabase);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        graphDatabase.shutdown();
+    }
+
+    @Test
+    public void testCreateIndexIsResolvedOnce() throws Exception {
+        final Index<Node> index = indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+        assertSame(index, indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE));
+        assertSame(index, indexProvider.getIndex("people"));
+        assertEquals(1, graphDatabase.createCalls);
+        assertEquals(0, graphDatabase.getCalls);
+    }
+
+    @Test
+    public void testDifferentIndexTypeIsVerifiedAgain() throws Exception {
+        indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+        try {
+            indexProvider.createIndex(Node.class, "people", IndexType.FULLTEXT);
+            fail("should not reuse index with different configuration");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+        assertEquals(2, graphDatabase.createCalls);
+    }
+
+    @Test
+    public void testNodeAndRelationshipIndexesAreKeptApart() throws Exception {
+        final Index<Node> nodeIndex = indexProvider.createIndex(Node.class, "things", IndexType.SIMPLE);
+        final Index<Relationship> relationshipIndex = indexProvider.createIndex(Relationship.class, "things", IndexType.SIMPLE);
+        assertSame(nodeIndex, indexProvider.createIndex(Node.class, "things", IndexType.SIMPLE));
+        assertSame(relationshipIndex, indexProvider.createIndex(Relationship.class, "things", IndexType.SIMPLE));
+        assertEquals(Relationship.class, relationshipIndex.getEntityType());
+    }
+
+    @Test
+    public void testExistingIndexIsLookedUpOnce() throws Exception {
+        graphDatabase.createIndex(Node.class, "people", IndexType.SIMPLE);
+        final Index<PropertyContainer> index = indexProvider.getIndex("people");
+        assertSame(index, indexProvider.getIndex("people"));
+        assertEquals(1, graphDatabase.getCalls);
+    }
+
+    @Test
+    public void testDeleteIndexInvalidatesHandle() throws Exception {
+        indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+        final Transaction tx = graphDatabase.beginTx();
+        try {
+            indexProvider.deleteIndex("people");
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+        assertFalse(graphDatabase.getGraphDatabaseService().index().existsForNodes("people"));
+        indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+        assertEquals(2, graphDatabase.createCalls);
+    }
+
+    @Test
+    public void testWriteToDeletedIndexIsNotReplayed() throws Exception {
+        final Index<Node> index = indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+        Neo4jHelper.cleanDb(graphDatabase.getGraphDatabaseService());
+        final Transaction tx = graphDatabase.beginTx();
+        try {
+            index.add(graphDatabase.getGraphDatabaseService().createNode(), "name", "Michael");
+            fail("the index was deleted");
+        } catch (IllegalStateException expected) {
+            // expected
+        } finally {
+            tx.finish();
+        }
+        assertEquals(1, graphDatabase.createCalls);
+        assertFalse(graphDatabase.getGraphDatabaseService().index().existsForNodes("people"));
+        assertNotSame(index, indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE));
+        assertEquals(2, graphDatabase.createCalls);
+    }
+
+    @Test
+    public void testReadOfDeletedIndexDoesNotCreateIt() throws Exception {
+        final Index<Node> index = indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+        Neo4jHelper.cleanDb(graphDatabase.getGraphDatabaseService());
+        try {
+            index.get("name", "Michael");
+            fail("the index was deleted");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        assertEquals(1, graphDatabase.createCalls);
+        assertFalse(graphDatabase.getGraphDatabaseService().index().existsForNodes("people"));
+    }
+
+    @Test
+    public void testDeleteOfMissingIndexIsIgnored() throws Exception {
+        indexProvider.deleteIndex("unknown");
+        assertEquals(0, graphDatabase.createCalls);
+    }
+
+    @Test
+    public void testReadIsRetriedAfterIndexWasRecreated() throws Exception {
+        final Index<Relationship> index = indexProvider.createIndex(Relationship.class, "knows", IndexType.SIMPLE);
+        final Transaction tx = graphDatabase.beginTx();
+        try {
+            graphDatabase.getGraphDatabaseService().index().forRelationships("knows").delete();
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+        graphDatabase.createIndex(Relationship.class, "knows", IndexType.SIMPLE);
+        assertTrue(index instanceof RelationshipIndex);
+        assertEquals(0, index.get("since", 2011).size());
+        assertEquals(2, graphDatabase.createCalls);
+        assertEquals(1, graphDatabase.getCalls);
+    }
+
+    @Test
+    public void testRegistriesAreSeparatePerDatabase() throws Exception {
+        final CountingGraphDatabase otherDatabase = new CountingGraphDatabase(new ImpermanentGraphDatabase());
+        try {
+            final IndexProviderImpl otherProvider = new IndexProviderImpl(otherDatabase);
+            indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+            otherProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+            otherProvider.invalidateIndexes();
+            indexProvider.createIndex(Node.class, "people", IndexType.SIMPLE);
+            assertEquals(1, graphDatabase.createCalls);
+        } finally {
+            otherDatabase.shutdown();
+        }
+    }
+
+    static class CountingGraphDatabase extends DelegatingGraphDatabase {
+        int getCalls;
+        int createCalls;
+
+        CountingGraphDatabase(ImpermanentGraphDatabase delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public <T extends PropertyContainer> Index<T> getIndex(String indexName) {
+            getCalls++;
+            return super.getIndex(indexName);
+        }
+
+        @Override
+        public <T extends PropertyContainer> Index<T> createIndex(Class<T> type, String indexName, IndexType indexType) {
+            createCalls++;
+            return super.createIndex(type, indexName, indexType);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.index.Index;
+import org.neo4j.test.ImpermanentGraphDatabase;
+import org.neo4j.tooling.GlobalGraphOperations;
+
+import static org.junit.Assert.*;
+import static org.neo4j.helpers.collection.IteratorUtil.count;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class GraphDatabaseSnapshotTests {
+
+    private static final DynamicRelationshipType KNOWS = DynamicRelationshipType.withName("KNOWS");
+
+    private ImpermanentGraphDatabase gdb;
+    private GraphDatabaseSnapshot snapshot;
+    private int loaded;
+
+    @Before
+    public void setUp() throws Exception {
+        gdb = new ImpermanentGraphDatabase();
+        snapshot = GraphDatabaseSnapshot.take(gdb, new GraphDatabaseSnapshot.Fixture() {
+            public void load(GraphDatabaseService graphDatabaseService) {
+                loaded++;
+                final Node david = graphDatabaseService.createNode();
+                david.setProperty("name", "David");
+                final Node michael = graphDatabaseService.createNode();
+                michael.setProperty("name", "Michael");
+                david.createRelationshipTo(michael, KNOWS);
+                graphDatabaseService.index().forNodes("person").add(david, "name", "David");
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        snapshot.release();
+        gdb.shutdown();
+    }
+
+    @Test
+    public void testRestoreRemovesCreatedNodesAndRelationships() throws Exception {
+        final Transaction tx = gdb.beginTx();
+        final Node david = gdb.index().forNodes("person").get("name", "David").getSingle();
+        final Node emil = gdb.createNode();
+        emil.setProperty("name", "Emil");
+        david.createRelationshipTo(emil, KNOWS);
+        gdb.index().forNodes("person").add(emil, "name", "Emil");
+        tx.success();
+        tx.finish();
+        assertEquals(4, countNodes());
+
+        snapshot.restore();
+
+        assertFalse(snapshot.isDirty());
+        assertEquals(1, loaded);
+        assertEquals(3, countNodes());
+        assertEquals(1, countRelationships());
+        assertNull(gdb.index().forNodes("person").get("name", "Emil").getSingle());
+        assertEquals(david, gdb.index().forNodes("person").get("name", "David").getSingle());
+    }
+
+    @Test
+    public void testRestoreDropsCreatedIndexes() throws Exception {
+        final Transaction tx = gdb.beginTx();
+        gdb.index().forNodes("city").add(gdb.createNode(), "name", "Dresden");
+        tx.success();
+        tx.finish();
+
+        snapshot.restore();
+
+        assertFalse(gdb.index().existsForNodes("city"));
+        assertTrue(gdb.index().existsForNodes("person"));
+        assertEquals(1, loaded);
+    }
+
+    @Test
+    public void testRestoresChangedBaselinePropertiesAndIndexEntries() throws Exception {
+        final Transaction tx = gdb.beginTx();
+        final Index<Node> people = gdb.index().forNodes("person");
+        final Node david = people.get("name", "David").getSingle();
+        david.setProperty("name", "Dave");
+        david.setProperty("age", 42);
+        people.remove(david, "name");
+        people.add(david, "name", "Dave");
+        tx.success();
+        tx.finish();
+        assertFalse(snapshot.isDirty());
+
+        snapshot.restore();
+
+        assertEquals(1, loaded);
+        assertEquals("David", david.getProperty("name"));
+        assertFalse(david.hasProperty("age"));
+        assertEquals(david, people.get("name", "David").getSingle());
+        assertNull(people.get("name", "Dave").getSingle());
+    }
+
+    @Test
+    public void testCounterUpdatesDoNotReloadFixture() throws Exception {
+        final Node david = gdb.index().forNodes("person").get("name", "David").getSingle();
+        for (int i = 1; i <= 3; i++) {
+            final Transaction tx = gdb.beginTx();
+            david.setProperty("count", i);
+            tx.success();
+            tx.finish();
+        }
+        assertFalse(snapshot.isDirty());
+
+        snapshot.restore();
+
+        assertEquals(1, loaded);
+        assertFalse(david.hasProperty("count"));
+    }
+
+    @Test
+    public void testDeletedBaselineReloadsFixture() throws Exception {
+        final Transaction tx = gdb.beginTx();
+        gdb.index().forNodes("person").get("name", "David").getSingle().getSingleRelationship(KNOWS, Direction.OUTGOING).delete();
+        tx.success();
+        tx.finish();
+        assertTrue(snapshot.isDirty());
+
+        snapshot.restore();
+
+        assertFalse(snapshot.isDirty());
+        assertEquals(2, loaded);
+        assertEquals(3, countNodes());
+        assertEquals(1, countRelationships());
+        assertEquals("David", gdb.index().forNodes("person").get("name", "David").getSingle().getProperty("name"));
+    }
+
+    @Test
+    public void testReleaseForgetsSnapshot() throws Exception {
+        final GraphDatabaseSnapshot.Fixture fixture = new GraphDatabaseSnapshot.Fixture() {
+            public void load(GraphDatabaseService graphDatabaseService) {
+                loaded++;
+            }
+        };
+        final GraphDatabaseSnapshot shared = GraphDatabaseSnapshot.of(gdb, fixture);
+        assertSame(shared, GraphDatabaseSnapshot.of(gdb, fixture));
+        assertEquals(2, loaded);
+
+        GraphDatabaseSnapshot.release(gdb);
+
+        assertNotSame(shared, GraphDatabaseSnapshot.of(gdb, fixture));
+        assertEquals(3, loaded);
+        GraphDatabaseSnapshot.release(gdb);
+    }
+
+    @Test
+    public void testRolledBackChangesAreIgnored() throws Exception {
+        final Transaction tx = gdb.beginTx();
+        gdb.createNode();
+        tx.failure();
+        tx.finish();
+
+        snapshot.restore();
+
+        assertFalse(snapshot.isDirty());
+        assertEquals(1, loaded);
+        assertEquals(3, countNodes());
+    }
+
+    private int countNodes() {
+        return count(GlobalGraphOperations.at(gdb).getAllNodes());
+    }
+
+    private int countRelationships() {
+        return count(GlobalGraphOperations.at(gdb).getAllRelationships());
+    }
+}
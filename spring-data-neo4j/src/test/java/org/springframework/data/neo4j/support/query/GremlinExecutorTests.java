@@ -0,0 +1,83 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.query;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.helpers.collection.IteratorUtil;
+import org.neo4j.test.ImpermanentGraphDatabase;
+
+import static org.junit.Assert.assertEquals;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class GremlinExecutorTests {
+
+    private ImpermanentGraphDatabase gdb;
+    private GremlinExecutor executor;
+
+    @Before
+    public void setUp() throws Exception {
+        gdb = new ImpermanentGraphDatabase();
+        executor = new GremlinExecutor(gdb, 2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        gdb.shutdown();
+    }
+
+    @Test
+    public void testReusesCompiledScriptWithDifferentParameters() throws Exception {
+        final String statement = "g.v(id)";
+        final Node referenceNode = gdb.getReferenceNode();
+        assertEquals(referenceNode, IteratorUtil.single(executor.query(statement, map("id", referenceNode.getId()))));
+        assertEquals(referenceNode, IteratorUtil.single(executor.query(statement, map("id", 0L))));
+        assertEquals(1, executor.getCachedScriptCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedScripts() throws Exception {
+        executor.query("1", null);
+        executor.query("2", null);
+        executor.query("1", null);
+        executor.query("3", null);
+        assertEquals(2, executor.getCachedScriptCount());
+        assertEquals(1, IteratorUtil.single(executor.query("1", null)));
+    }
+
+    @Test
+    public void testSeesIndexesCreatedAfterFirstExecution() throws Exception {
+        executor.query("g.v(0)", null);
+        final Node node;
+        final Transaction tx = gdb.beginTx();
+        try {
+            node = gdb.createNode();
+            gdb.index().forNodes("people").add(node, "name", "Michael");
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+        final String statement = "g.getIndex('people', Vertex.class).get('name', name)";
+        assertEquals(node, IteratorUtil.single(executor.query(statement, map("name", "Michael"))));
+    }
+}
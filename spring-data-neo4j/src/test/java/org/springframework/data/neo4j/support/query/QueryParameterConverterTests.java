@@ -16,6 +16,8 @@
 package org.springframework.data.neo4j.support.query;
 
 import org.junit.Test;
+import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
+import org.springframework.data.neo4j.support.mapping.NativePropertyTypes;
 
 import java.util.*;
 
@@ -23,6 +25,7 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 public class QueryParameterConverterTests {
@@ -55,6 +58,15 @@ public class QueryParameterConverterTests {
         assertThat(queryParameterConverter.convert(parameters), is(parameters));
     }
 
+    @Test
+    public void shouldReturnParametersWithoutConvertibleValuesUnchanged() throws Exception {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("foo", "bar");
+        parameters.put("baz", null);
+
+        assertSame(parameters, queryParameterConverter.convert(parameters));
+    }
+
     enum Suit {
         SPADE, HEART
     }
@@ -169,6 +181,21 @@ public class QueryParameterConverterTests {
         assertArrayEquals((String[]) foo1.get(2), new String[]{"HEART", "SPADE"});
     }
 
+    @Test
+    public void shouldConvertToNativePropertyTypes() throws Exception {
+        final NativePropertyTypes nativePropertyTypes = NativePropertyTypes.defaults();
+        final QueryParameterConverter nativeConverter = new QueryParameterConverter(new Neo4jConversionServiceFactoryBean(nativePropertyTypes).getObject(), nativePropertyTypes);
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("date", new Date(42));
+        parameters.put("suit", Suit.HEART);
+        parameters.put("dates", asList(new Date(42), new Date(87)));
+
+        final Map<String, Object> converted = nativeConverter.convert(parameters);
+        assertThat(converted.get("date"), is((Object) 42L));
+        assertThat(converted.get("suit"), is((Object) 1));
+        assertThat((List<Object>) converted.get("dates"), is(equalTo(asList((Object) 42L, 87L))));
+    }
+
     class Foo {
 
     }
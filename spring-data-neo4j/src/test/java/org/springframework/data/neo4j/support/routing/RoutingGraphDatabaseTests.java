@@ -0,0 +1,191 @@
+/**
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.routing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.ImpermanentGraphDatabase;
+import org.springframework.data.neo4j.annotation.QueryType;
+import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.jta.JtaTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * @author agent
+ * @since 19.10.26
+ */
+public class RoutingGraphDatabaseTests {
+
+    private final List<ImpermanentGraphDatabase> databases = new ArrayList<ImpermanentGraphDatabase>();
+    private DelegatingGraphDatabase primary;
+    private RoutingGraphDatabase routing;
+    private long id;
+
+    @Before
+    public void setUp() throws Exception {
+        primary = database("primary");
+        routing = new RoutingGraphDatabase(primary, Arrays.asList(database("replica1"), database("replica2")));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (ImpermanentGraphDatabase database : databases) {
+            database.shutdown();
+        }
+    }
+
+    /**
+     * Creates the same node in each database, its property "db" tells which database answered a read.
+     */
+    private DelegatingGraphDatabase database(String name) {
+        final ImpermanentGraphDatabase gdb = new ImpermanentGraphDatabase();
+        databases.add(gdb);
+        final Transaction tx = gdb.beginTx();
+        try {
+            final Node node = gdb.createNode();
+            node.setProperty("db", name);
+            id = node.getId();
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+        return new DelegatingGraphDatabase(gdb);
+    }
+
+    private Object readDb() {
+        return routing.getNodeById(id).getProperty("db");
+    }
+
+    @Test
+    public void testBalancesReadsOutsideOfTransactions() throws Exception {
+        assertEquals("replica1", readDb());
+        assertEquals("replica2", readDb());
+        assertEquals("replica1", readDb());
+    }
+
+    @Test
+    public void testReadsFromPrimaryWithinTransaction() throws Exception {
+        final Transaction tx = routing.beginTx();
+        try {
+            assertEquals("primary", readDb());
+        } finally {
+            tx.finish();
+        }
+        assertEquals("replica1", readDb());
+    }
+
+    @Test
+    public void testWritesNodesReadFromReplicasToPrimary() throws Exception {
+        final Node node = routing.getNodeById(id);
+        assertEquals("replica1", node.getProperty("db"));
+        final Transaction tx = routing.beginTx();
+        try {
+            node.setProperty("written", true);
+            tx.success();
+        } finally {
+            tx.finish();
+        }
+        assertEquals("primary", node.getProperty("db"));
+        assertEquals(true, primary.getNodeById(id).getProperty("written"));
+        for (GraphDatabase replica : routing.getReadTargets()) {
+            assertFalse(replica.getNodeById(id).hasProperty("written"));
+        }
+    }
+
+    @Test
+    public void testRoutesSpringTransactionsByReadOnlyFlag() throws Exception {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(new JtaTransactionManager(primary.getTransactionManager()));
+        final TransactionCallback<Object> read = new TransactionCallback<Object>() {
+            public Object doInTransaction(TransactionStatus status) {
+                return readDb();
+            }
+        };
+        assertEquals("primary", transactionTemplate.execute(read));
+        transactionTemplate.setReadOnly(true);
+        assertEquals("replica1", transactionTemplate.execute(read));
+    }
+
+    @Test
+    public void testRoutesOnlyReadingCypherToReplicas() throws Exception {
+        final Map<String, Object> params = map("id", id);
+        assertEquals("replica1", cypher("start n=node({id}) return n.db as db", params));
+        assertEquals("primary", cypher("start n=node({id}) set n.read = true return n.db as db", params));
+    }
+
+    private Object cypher(String statement, Map<String, Object> params) {
+        return routing.<Map<String, Object>>queryEngineFor(QueryType.Cypher)
+                .query(statement, params).single().get("db");
+    }
+
+    @Test
+    @Ignore("benchmark")
+    public void benchmarkReadThroughput() throws Exception {
+        final List<GraphDatabase> replicas = new ArrayList<GraphDatabase>(routing.getReadTargets());
+        for (int readTargets = 1; readTargets <= replicas.size(); readTargets++) {
+            routing = new RoutingGraphDatabase(primary, replicas.subList(0, readTargets));
+            final long reads = readConcurrently(8, 2000);
+            System.out.println(readTargets + " read targets: " + reads + " reads/s");
+        }
+    }
+
+    private long readConcurrently(int threads, final long durationMillis) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final long end = System.currentTimeMillis() + durationMillis;
+            final List<Future<Long>> results = new ArrayList<Future<Long>>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(new Callable<Long>() {
+                    public Long call() {
+                        long count = 0;
+                        while (System.currentTimeMillis() < end) {
+                            cypher("start n=node({id}) return n.db as db", Collections.<String, Object>singletonMap("id", id));
+                            count++;
+                        }
+                        return count;
+                    }
+                }));
+            }
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            return total * 1000 / durationMillis;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -29,6 +29,8 @@ import org.neo4j.kernel.impl.transaction.SpringTransactionManager;
 import org.neo4j.test.ImpermanentGraphDatabase;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.conversion.Row;
+import org.springframework.data.neo4j.conversion.RowHandler;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.model.Person;
 import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
@@ -41,8 +43,11 @@ import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.*;
@@ -311,6 +316,19 @@ public class Neo4jTemplateApiTests {
         assertSingleResult(node1, template.query("start n=node(0) match n-->m return m", null).to(Node.class));
     }
 
+    @Test
+    public void shouldReadCypherRowsByColumn() throws Exception {
+        final List<String> rows = new ArrayList<String>();
+        template.query("start n=node(0) match n-[r]->m return m.name as name, id(m) as id, m", null).handle(new RowHandler() {
+            public void handle(Row row) {
+                assertEquals(asList("name", "id", "m"), row.getColumns());
+                assertEquals(node1, row.getNode(2));
+                rows.add(row.getString(row.column("name")) + ":" + row.getLong(1));
+            }
+        });
+        assertEquals(asList("node1:" + node1.getId()), rows);
+    }
+
     @Test
     public void shouldFindNextNodeViaGremlin() throws Exception {
         assertSingleResult(node1, template.execute("g.v(0).out", null).to(Node.class));